@@ -0,0 +1,65 @@
+#!/usr/bin/env bash
+# Runs the JMH benchmarks and writes their results as JSON, or compares two such files.
+#
+#   ./run-benchmarks.sh [JMH options] [benchmark regex...]
+#       Installs the library from the parent directory, builds target/benchmarks.jar and
+#       runs it, writing results/<label>.json. The label is $LABEL, or the short commit id
+#       (with -dirty for uncommitted changes). JMH options override the annotations, e.g.
+#       ./run-benchmarks.sh -p size=1024 -p mix=ASCII 'FluentStringBenchmark.trim|BaselineBenchmark.trim'
+#
+#   ./run-benchmarks.sh compare <base.json> <new.json> [tolerance-percent]
+#       Prints every benchmark and parameter set found in both files with the change in
+#       average time, and exits with status 1 if any got slower by more than the tolerance
+#       (default 10%) beyond the two runs' combined error.
+#
+# Compare only files produced on the same machine and JDK; each file records its JDK.
+set -euo pipefail
+
+MODULE_DIR="$(cd "$(dirname "$0")" && pwd)"
+
+if [[ "${1:-}" == "compare" ]]; then
+    [[ $# -ge 3 ]] || { echo "usage: $0 compare <base.json> <new.json> [tolerance-percent]" >&2; exit 2; }
+    exec python3 - "$2" "$3" "${4:-10}" <<'PY'
+import json, sys
+
+def load(path):
+    results = {}
+    for r in json.load(open(path)):
+        params = ",".join("%s=%s" % kv for kv in sorted((r.get("params") or {}).items()))
+        m = r["primaryMetric"]
+        error = m.get("scoreError")
+        results[(r["benchmark"], params)] = (m["score"], 0.0 if error in (None, "NaN") else float(error), m["scoreUnit"])
+    return results
+
+base, new, tolerance = load(sys.argv[1]), load(sys.argv[2]), float(sys.argv[3])
+regressions = 0
+print("%-70s %-28s %14s %14s %9s" % ("benchmark", "params", "base", "new", "change"))
+for key in sorted(base.keys() & new.keys()):
+    (b, be, unit), (n, ne, _) = base[key], new[key]
+    change = (n - b) / b * 100 if b else 0.0
+    slower = n - ne > (b + be) * (1 + tolerance / 100)
+    regressions += slower
+    name = key[0].replace("com.platform.sdk.bench.", "")
+    print("%-70s %-28s %11.1f %-2s %11.1f %-2s %+8.1f%%%s" % (name, key[1], b, unit[:2], n, unit[:2], change,
+                                                          "  REGRESSION" if slower else ""))
+for key in sorted(base.keys() ^ new.keys()):
+    print("only in %s: %s %s" % ("base" if key in base else "new", key[0], key[1]))
+print("%d regression(s) over %.0f%%" % (regressions, tolerance))
+sys.exit(1 if regressions else 0)
+PY
+fi
+
+if [[ -z "${LABEL:-}" ]]; then
+    LABEL="$(git -C "$MODULE_DIR" rev-parse --short HEAD 2>/dev/null || echo local)"
+    if [[ -n "$(git -C "$MODULE_DIR/.." status --porcelain -- src 2>/dev/null)" ]]; then
+        LABEL="$LABEL-dirty"
+    fi
+fi
+
+(cd "$MODULE_DIR/.." && mvn -B -q install -DskipTests)
+(cd "$MODULE_DIR" && mvn -B -q package)
+
+mkdir -p "$MODULE_DIR/results"
+OUT="$MODULE_DIR/results/$LABEL.json"
+java -jar "$MODULE_DIR/target/benchmarks.jar" -rf json -rff "$OUT" "$@"
+echo "Results written to $OUT"
@@ -0,0 +1,83 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.FluentStringPlugin;
+import com.platform.sdk.string.stream.FluentPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A pipeline whose plugin step blocks for a simulated 1 ms lookup, over 10,000 values:
+ * {@code applyAllAsync} on the default async executor (a virtual thread per value on
+ * Java 21 and later, where the shaded jar picks up the library's Java 21 layer) and on
+ * fixed pools of {@code threads} threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AsyncPipelineBenchmark {
+
+    private static final FluentStringPlugin LOOKUP = code -> {
+        LockSupport.parkNanos(1_000_000);
+        return "country:" + code;
+    };
+
+    private static final FluentPipeline PIPELINE = FluentPipeline.define(s -> s.trim().toLowerCase().plugin(LOOKUP).append(";"));
+
+    public List<String> values;
+
+    @State(Scope.Benchmark)
+    public static class Pool {
+
+        @Param({"16", "64", "256"})
+        public int threads;
+
+        public ExecutorService pool;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            pool = Executors.newFixedThreadPool(threads);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        values = new ArrayList<>(10_000);
+        for (int i = 0; i < 10_000; i++) values.add("  C" + (i % 250) + " ");
+    }
+
+    @Benchmark
+    public List<String> defaultExecutor() {
+        return PIPELINE.applyAllAsync(values).join();
+    }
+
+    @Benchmark
+    public List<String> fixedPool(Pool p) {
+        return PIPELINE.applyAllAsync(values, p.pool).join();
+    }
+}
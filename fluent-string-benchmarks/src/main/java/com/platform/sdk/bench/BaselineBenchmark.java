@@ -0,0 +1,129 @@
+package com.platform.sdk.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Plain {@code String} and {@code StringBuilder} code for the same work as the
+ * FluentString and FluentStringStream benchmarks of the same name, so each result can be
+ * read as overhead over what a caller would write by hand.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BaselineBenchmark {
+
+    private static final Pattern DIGITS = Pattern.compile("\\d+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    @Benchmark
+    public String trim(TextState s) {
+        return s.padded.trim();
+    }
+
+    @Benchmark
+    public String toLowerCase(TextState s) {
+        return s.text.toLowerCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public String toUpperCase(TextState s) {
+        return s.text.toUpperCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public String append(TextState s) {
+        return s.text + " suffix";
+    }
+
+    @Benchmark
+    public String replace(TextState s) {
+        return s.text.replace(" ", "_");
+    }
+
+    @Benchmark
+    public String replaceAll(TextState s) {
+        return DIGITS.matcher(s.text).replaceAll("#");
+    }
+
+    @Benchmark
+    public String reverse(TextState s) {
+        return new StringBuilder(s.text).reverse().toString();
+    }
+
+    @Benchmark
+    public String padLeft(TextState s) {
+        StringBuilder sb = new StringBuilder(s.size + 16);
+        for (int i = 0; i < 16; i++) sb.append('*');
+        return sb.append(s.text).toString();
+    }
+
+    @Benchmark
+    public boolean isBlank(TextState s) {
+        return s.padded.trim().isEmpty();
+    }
+
+    @Benchmark
+    public boolean contains(TextState s) {
+        return s.text.contains("zebra");
+    }
+
+    @Benchmark
+    public int countMatches(TextState s) {
+        int count = 0;
+        java.util.regex.Matcher matcher = WHITESPACE.matcher(s.text);
+        while (matcher.find()) count++;
+        return count;
+    }
+
+    @Benchmark
+    public int countOccurrences(TextState s) {
+        int count = 0;
+        for (int i = s.text.indexOf(' '); i >= 0; i = s.text.indexOf(' ', i + 1)) count++;
+        return count;
+    }
+
+    @Benchmark
+    public String[] split(TextState s) {
+        return WHITESPACE.split(s.text);
+    }
+
+    @Benchmark
+    public int wordCount(TextState s) {
+        String trimmed = s.text.trim();
+        return trimmed.isEmpty() ? 0 : WHITESPACE.split(trimmed).length;
+    }
+
+    @Benchmark
+    public String removeDigits(TextState s) {
+        StringBuilder sb = new StringBuilder(s.text.length());
+        for (int i = 0; i < s.text.length(); i++) {
+            char c = s.text.charAt(i);
+            if (!Character.isDigit(c)) sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String repeat(TextState s) {
+        return new StringBuilder(s.size * 3).append(s.text).append(s.text).append(s.text).toString();
+    }
+
+    /** What {@code FluentStringStreamBenchmark.slugChain} does, step by step with Strings. */
+    @Benchmark
+    public String slugChain(TextState s) {
+        String value = s.text.trim().replaceAll("\\d", "").replaceAll("\\p{Punct}", "").toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(value.trim()).replaceAll("-") + "-clean";
+    }
+}
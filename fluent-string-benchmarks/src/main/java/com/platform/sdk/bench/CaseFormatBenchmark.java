@@ -0,0 +1,65 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.FluentString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code snakeCase()} and {@code camelCase()} through the single-pass CaseFormat kernel
+ * next to the regex and split code they replaced, each over the same ten column names
+ * per invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CaseFormatBenchmark {
+
+    private static final String[] NAMES = {
+            "customer id", "Order Total Amount", "shipping address line 2", "created at", "last modified by",
+            "Invoice Number", "tax rate", "product sku", "is active", "discount code applied"
+    };
+
+    @Benchmark
+    public int snakeCaseRegex() {
+        int length = 0;
+        for (String name : NAMES) length += name.trim().toLowerCase().replaceAll("\\s+", "_").length();
+        return length;
+    }
+
+    @Benchmark
+    public int snakeCaseKernel() {
+        int length = 0;
+        for (String name : NAMES) length += FluentString.of(name).snakeCase().get().length();
+        return length;
+    }
+
+    @Benchmark
+    public int camelCaseSplit() {
+        int length = 0;
+        for (String name : NAMES) {
+            String[] words = name.trim().toLowerCase().split("\\s+");
+            StringBuilder sb = new StringBuilder(words[0]);
+            for (int i = 1; i < words.length; i++) {
+                sb.append(Character.toUpperCase(words[i].charAt(0))).append(words[i].substring(1));
+            }
+            length += sb.length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int camelCaseKernel() {
+        int length = 0;
+        for (String name : NAMES) length += FluentString.of(name).camelCase().get().length();
+        return length;
+    }
+}
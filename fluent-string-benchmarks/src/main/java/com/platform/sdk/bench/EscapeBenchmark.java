@@ -0,0 +1,86 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.TextEscaper;
+import com.platform.sdk.string.TextUnescaper;
+import org.apache.commons.text.StringEscapeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The table-driven {@link TextEscaper} and {@link TextUnescaper} next to the
+ * commons-text {@code StringEscapeUtils} methods they replaced, on about 90 KB of text
+ * with nothing to escape ({@code clean}) and of HTML with entities ({@code markup}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EscapeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Input {
+
+        @Param({"clean", "markup"})
+        public String kind;
+
+        public String text;
+        public String escaped;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String piece = "clean".equals(kind)
+                    ? "The quick brown fox jumps over the lazy dog. "
+                    : "<p class=\"note\">Fish & Chips – £5 © 2024</p>\n";
+            StringBuilder sb = new StringBuilder(piece.length() * 2_000);
+            for (int i = 0; i < 2_000; i++) sb.append(piece);
+            text = sb.toString();
+            escaped = StringEscapeUtils.escapeHtml4(text);
+            if (!escaped.equals(TextEscaper.HTML4.escape(text))) {
+                throw new IllegalStateException("escapeHtml differs from commons-text");
+            }
+        }
+    }
+
+    @Benchmark
+    public String escapeHtmlCommons(Input in) {
+        return StringEscapeUtils.escapeHtml4(in.text);
+    }
+
+    @Benchmark
+    public String escapeHtmlTable(Input in) {
+        return TextEscaper.HTML4.escape(in.text);
+    }
+
+    @Benchmark
+    public String escapeXmlCommons(Input in) {
+        return StringEscapeUtils.escapeXml11(in.text);
+    }
+
+    @Benchmark
+    public String escapeXmlTable(Input in) {
+        return TextEscaper.XML11.escape(in.text);
+    }
+
+    @Benchmark
+    public String unescapeHtmlCommons(Input in) {
+        return StringEscapeUtils.unescapeHtml4(in.escaped);
+    }
+
+    @Benchmark
+    public String unescapeHtmlTable(Input in) {
+        return TextUnescaper.HTML4.unescape(in.escaped);
+    }
+}
@@ -0,0 +1,503 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.CharFrequency;
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.StringSlice;
+import com.platform.sdk.string.WordFrequency;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One benchmark per public FluentString operation, each starting from
+ * {@code FluentString.of(...)} so the wrapper is part of the cost, as it is for callers.
+ * Accessors that only return a field are left out. Compare with {@link BaselineBenchmark}
+ * for the plain String equivalents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FluentStringBenchmark {
+
+    @Benchmark
+    public FluentString trim(TextState s) {
+        return FluentString.of(s.padded).trim();
+    }
+
+    @Benchmark
+    public FluentString toLowerCase(TextState s) {
+        return FluentString.of(s.text).toLowerCase();
+    }
+
+    @Benchmark
+    public FluentString toUpperCase(TextState s) {
+        return FluentString.of(s.text).toUpperCase();
+    }
+
+    @Benchmark
+    public FluentString append(TextState s) {
+        return FluentString.of(s.text).append(" suffix");
+    }
+
+    @Benchmark
+    public FluentString prepend(TextState s) {
+        return FluentString.of(s.text).prepend("prefix ");
+    }
+
+    @Benchmark
+    public FluentString substring(TextState s) {
+        return FluentString.of(s.text).substring(s.size / 4, s.size / 2);
+    }
+
+    @Benchmark
+    public StringSlice substringView(TextState s) {
+        return FluentString.of(s.text).substringView(s.size / 4, s.size / 2);
+    }
+
+    @Benchmark
+    public StringSlice trimView(TextState s) {
+        return FluentString.of(s.padded).trimView();
+    }
+
+    @Benchmark
+    public FluentString replace(TextState s) {
+        return FluentString.of(s.text).replace(" ", "_");
+    }
+
+    @Benchmark
+    public FluentString replaceAll(TextState s) {
+        return FluentString.of(s.text).replaceAll("\\d+", "#");
+    }
+
+    @Benchmark
+    public FluentString replaceFirst(TextState s) {
+        return FluentString.of(s.text).replaceFirst("\\s+", "_");
+    }
+
+    @Benchmark
+    public FluentString reverse(TextState s) {
+        return FluentString.of(s.text).reverse();
+    }
+
+    @Benchmark
+    public FluentString capitalize(TextState s) {
+        return FluentString.of(s.text).capitalize();
+    }
+
+    @Benchmark
+    public FluentString removeWhitespace(TextState s) {
+        return FluentString.of(s.text).removeWhitespace();
+    }
+
+    @Benchmark
+    public FluentString padLeft(TextState s) {
+        return FluentString.of(s.text).padLeft(s.size + 16, '*');
+    }
+
+    @Benchmark
+    public FluentString padRight(TextState s) {
+        return FluentString.of(s.text).padRight(s.size + 16, '*');
+    }
+
+    @Benchmark
+    public FluentString center(TextState s) {
+        return FluentString.of(s.text).center(s.size + 16, '*');
+    }
+
+    @Benchmark
+    public FluentString truncate(TextState s) {
+        return FluentString.of(s.text).truncate(s.size / 2, "...");
+    }
+
+    @Benchmark
+    public FluentString truncateWords(TextState s) {
+        return FluentString.of(s.text).truncateWords(8);
+    }
+
+    @Benchmark
+    public boolean isBlank(TextState s) {
+        return FluentString.of(s.padded).isBlank();
+    }
+
+    @Benchmark
+    public boolean contains(TextState s) {
+        return FluentString.of(s.text).contains("zebra");
+    }
+
+    @Benchmark
+    public boolean startsWith(TextState s) {
+        return FluentString.of(s.text).startsWith("The");
+    }
+
+    @Benchmark
+    public boolean endsWith(TextState s) {
+        return FluentString.of(s.text).endsWith("!");
+    }
+
+    @Benchmark
+    public boolean equalsIgnoreCase(TextState s) {
+        return FluentString.of(s.text).equalsIgnoreCase(s.text);
+    }
+
+    @Benchmark
+    public boolean matches(TextState s) {
+        return FluentString.of(s.text).matches("[\\p{L}\\p{N}\\p{P}\\p{So}\\s]*");
+    }
+
+    @Benchmark
+    public Optional<String> extractFirstMatch(TextState s) {
+        return FluentString.of(s.text).extractFirstMatch("\\d+");
+    }
+
+    @Benchmark
+    public List<String> extractAllMatches(TextState s) {
+        return FluentString.of(s.text).extractAllMatches("\\d+");
+    }
+
+    @Benchmark
+    public int countMatches(TextState s) {
+        return FluentString.of(s.text).countMatches("\\s+");
+    }
+
+    @Benchmark
+    public int countOccurrences(TextState s) {
+        return FluentString.of(s.text).countOccurrences(" ");
+    }
+
+    @Benchmark
+    public FluentString wrap(TextState s) {
+        return FluentString.of(s.text).wrap("\"");
+    }
+
+    @Benchmark
+    public FluentString removeDigits(TextState s) {
+        return FluentString.of(s.text).removeDigits();
+    }
+
+    @Benchmark
+    public FluentString removePunctuation(TextState s) {
+        return FluentString.of(s.text).removePunctuation();
+    }
+
+    @Benchmark
+    public FluentString removeSpecialChars(TextState s) {
+        return FluentString.of(s.text).removeSpecialChars();
+    }
+
+    @Benchmark
+    public FluentString removeNonAlphaNumeric(TextState s) {
+        return FluentString.of(s.text).removeNonAlphaNumeric();
+    }
+
+    @Benchmark
+    public FluentString keepOnly(TextState s) {
+        return FluentString.of(s.text).keepOnly("aeiou ");
+    }
+
+    @Benchmark
+    public FluentString capitalizeWords(TextState s) {
+        return FluentString.of(s.text).capitalizeWords();
+    }
+
+    @Benchmark
+    public FluentString snakeCase(TextState s) {
+        return FluentString.of(s.text).snakeCase();
+    }
+
+    @Benchmark
+    public FluentString kebabCase(TextState s) {
+        return FluentString.of(s.text).kebabCase();
+    }
+
+    @Benchmark
+    public FluentString camelCase(TextState s) {
+        return FluentString.of(s.text).camelCase();
+    }
+
+    @Benchmark
+    public FluentString pascalCase(TextState s) {
+        return FluentString.of(s.text).pascalCase();
+    }
+
+    @Benchmark
+    public FluentString constantCase(TextState s) {
+        return FluentString.of(s.text).constantCase();
+    }
+
+    @Benchmark
+    public FluentString startCase(TextState s) {
+        return FluentString.of(s.text).startCase();
+    }
+
+    @Benchmark
+    public FluentString titleCase(TextState s) {
+        return FluentString.of(s.text).titleCase();
+    }
+
+    @Benchmark
+    public FluentString toTitleCase(TextState s) {
+        return FluentString.of(s.text).toTitleCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public FluentString toSlug(TextState s) {
+        return FluentString.of(s.text).toSlug();
+    }
+
+    @Benchmark
+    public FluentString repeat(TextState s) {
+        return FluentString.of(s.text).repeat(3);
+    }
+
+    @Benchmark
+    public FluentString indent(TextState s) {
+        return FluentString.of(s.multiline).indent(4);
+    }
+
+    @Benchmark
+    public FluentString clean(TextState s) {
+        return FluentString.of(s.padded).clean();
+    }
+
+    @Benchmark
+    public FluentString escapeHtml(TextState s) {
+        return FluentString.of(s.text).escapeHtml();
+    }
+
+    @Benchmark
+    public FluentString escapeXml(TextState s) {
+        return FluentString.of(s.text).escapeXml();
+    }
+
+    @Benchmark
+    public FluentString escapeJson(TextState s) {
+        return FluentString.of(s.text).escapeJson();
+    }
+
+    @Benchmark
+    public FluentString unescapeHtml(TextState s) {
+        return FluentString.of(s.escapedHtml).unescapeHtml();
+    }
+
+    @Benchmark
+    public FluentString unescapeXml(TextState s) {
+        return FluentString.of(s.escapedHtml).unescapeXml();
+    }
+
+    @Benchmark
+    public FluentString getInitials(TextState s) {
+        return FluentString.of(s.text).getInitials();
+    }
+
+    @Benchmark
+    public FluentString normalize(TextState s) {
+        return FluentString.of(s.text).normalize();
+    }
+
+    @Benchmark
+    public FluentString stripAccents(TextState s) {
+        return FluentString.of(s.text).stripAccents();
+    }
+
+    @Benchmark
+    public List<FluentString> split(TextState s) {
+        return FluentString.of(s.text).split("\\s+");
+    }
+
+    @Benchmark
+    public List<StringSlice> splitViews(TextState s) {
+        return FluentString.of(s.text).splitViews("\\s+");
+    }
+
+    @Benchmark
+    public List<FluentString> words(TextState s) {
+        return FluentString.of(s.text).words();
+    }
+
+    @Benchmark
+    public List<StringSlice> wordViews(TextState s) {
+        return FluentString.of(s.text).wordViews();
+    }
+
+    @Benchmark
+    public List<FluentString> lines(TextState s) {
+        return FluentString.of(s.multiline).lines();
+    }
+
+    @Benchmark
+    public List<StringSlice> lineViews(TextState s) {
+        return FluentString.of(s.multiline).lineViews();
+    }
+
+    @Benchmark
+    public int lineCount(TextState s) {
+        return FluentString.of(s.multiline).lineCount();
+    }
+
+    @Benchmark
+    public FluentString removeBlankLines(TextState s) {
+        return FluentString.of(s.multiline).removeBlankLines();
+    }
+
+    @Benchmark
+    public boolean isAlpha(TextState s) {
+        return FluentString.of(s.text).isAlpha();
+    }
+
+    @Benchmark
+    public boolean isNumeric(TextState s) {
+        return FluentString.of(s.text).isNumeric();
+    }
+
+    @Benchmark
+    public boolean isAlphaNumeric(TextState s) {
+        return FluentString.of(s.text).isAlphaNumeric();
+    }
+
+    @Benchmark
+    public boolean isEmail(TextState s) {
+        return FluentString.of(s.text).isEmail();
+    }
+
+    @Benchmark
+    public boolean isXml(TextState s) {
+        return FluentString.of(s.text).isXml();
+    }
+
+    @Benchmark
+    public boolean isPalindrome(TextState s) {
+        return FluentString.of(s.text).isPalindrome();
+    }
+
+    @Benchmark
+    public boolean isUpperCase(TextState s) {
+        return FluentString.of(s.text).isUpperCase();
+    }
+
+    @Benchmark
+    public boolean isLowerCase(TextState s) {
+        return FluentString.of(s.text).isLowerCase();
+    }
+
+    @Benchmark
+    public boolean isAscii(TextState s) {
+        return FluentString.of(s.text).isAscii();
+    }
+
+    @Benchmark
+    public boolean isTrimmed(TextState s) {
+        return FluentString.of(s.text).isTrimmed();
+    }
+
+    @Benchmark
+    public boolean isNfc(TextState s) {
+        return FluentString.of(s.text).isNfc();
+    }
+
+    @Benchmark
+    public boolean hasOnlyWhitespace(TextState s) {
+        return FluentString.of(s.text).hasOnlyWhitespace();
+    }
+
+    @Benchmark
+    public FluentString toBase64(TextState s) {
+        return FluentString.of(s.text).toBase64();
+    }
+
+    @Benchmark
+    public FluentString fromBase64(TextState s) {
+        return FluentString.of(s.base64).fromBase64();
+    }
+
+    @Benchmark
+    public FluentString urlEncode(TextState s) {
+        return FluentString.of(s.text).urlEncode();
+    }
+
+    @Benchmark
+    public FluentString urlDecode(TextState s) {
+        return FluentString.of(s.urlEncoded).urlDecode();
+    }
+
+    @Benchmark
+    public FluentString reverseWords(TextState s) {
+        return FluentString.of(s.text).reverseWords();
+    }
+
+    @Benchmark
+    public FluentString removeDuplicateWords(TextState s) {
+        return FluentString.of(s.text).removeDuplicateWords();
+    }
+
+    @Benchmark
+    public int wordCount(TextState s) {
+        return FluentString.of(s.text).wordCount();
+    }
+
+    @Benchmark
+    public int charCount(TextState s) {
+        return FluentString.of(s.text).charCount();
+    }
+
+    @Benchmark
+    public CharFrequency charFrequency(TextState s) {
+        return FluentString.of(s.text).charFrequency();
+    }
+
+    @Benchmark
+    public CharFrequency charFrequencyIgnoreCase(TextState s) {
+        return FluentString.of(s.text).charFrequencyIgnoreCase();
+    }
+
+    @Benchmark
+    public WordFrequency wordFrequency(TextState s) {
+        return FluentString.of(s.text).wordFrequency();
+    }
+
+    @Benchmark
+    public WordFrequency wordFrequencyIgnoreCase(TextState s) {
+        return FluentString.of(s.text).wordFrequencyIgnoreCase();
+    }
+
+    @Benchmark
+    public Map<Character, Integer> getCharFrequencyCaseSensitive(TextState s) {
+        return FluentString.of(s.text).getCharFrequencyCaseSensitive();
+    }
+
+    @Benchmark
+    public Map<String, Integer> getWordFrequencyCaseSensitive(TextState s) {
+        return FluentString.of(s.text).getWordFrequencyCaseSensitive();
+    }
+
+    @Benchmark
+    public int compareIgnoreCase(TextState s) {
+        return FluentString.of(s.text).compareIgnoreCase(s.padded, Locale.ROOT);
+    }
+
+    @Benchmark
+    public FluentString map(TextState s) {
+        return FluentString.of(s.text).map(String::trim);
+    }
+
+    @Benchmark
+    public String ropeAppend(TextState s) {
+        return FluentString.ofRope(s.text).append(" a").append(" b").append(" c").toString();
+    }
+
+    @Benchmark
+    public FluentString lightweightTrim(TextState s) {
+        return FluentString.ofLightweight(s.padded).trim();
+    }
+}
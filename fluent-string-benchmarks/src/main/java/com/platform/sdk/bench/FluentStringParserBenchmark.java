@@ -0,0 +1,147 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.FluentStringParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FluentStringParser conversions on valid and on invalid input (where the exception the
+ * conversion catches is most of the cost), with {@code Integer.parseInt} as the baseline.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FluentStringParserBenchmark {
+
+    public enum Unit {
+        DAY
+    }
+
+    @Param({"true", "false"})
+    public boolean valid;
+
+    private String integer;
+    private String decimal;
+    private String bool;
+    private String date;
+    private String instant;
+    private String enumName;
+    private String list;
+    private String map;
+
+    @Setup
+    public void setUp() {
+        integer = valid ? " 123456 " : " 123x456 ";
+        decimal = valid ? "-98765.4321" : "98765,4321";
+        bool = valid ? "TRUE" : "yes";
+        date = valid ? "2025-06-30" : "2025-06-31x";
+        instant = valid ? "2025-06-30T12:34:56Z" : "2025-06-30 12:34:56";
+        enumName = valid ? "day" : "week";
+        list = valid ? "a,b,c,d,e,f,g,h" : "";
+        map = valid ? "a=1;b=2;c=3;d=4" : "";
+    }
+
+    @Benchmark
+    public int baselineParseInt() {
+        try {
+            return Integer.parseInt(integer.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    @Benchmark
+    public Optional<Integer> toInt() {
+        return new FluentStringParser(integer).toInt();
+    }
+
+    @Benchmark
+    public Optional<Long> toLong() {
+        return new FluentStringParser(integer).toLong();
+    }
+
+    @Benchmark
+    public Optional<Double> toDouble() {
+        return new FluentStringParser(decimal).toDouble();
+    }
+
+    @Benchmark
+    public Optional<Float> toFloat() {
+        return new FluentStringParser(decimal).toFloat();
+    }
+
+    @Benchmark
+    public Optional<BigDecimal> toBigDecimal() {
+        return new FluentStringParser(decimal).toBigDecimal();
+    }
+
+    @Benchmark
+    public Optional<Boolean> toBoolean() {
+        return new FluentStringParser(bool).toBoolean();
+    }
+
+    @Benchmark
+    public Optional<Character> toChar() {
+        return new FluentStringParser(bool).toChar();
+    }
+
+    @Benchmark
+    public Optional<List<String>> toList() {
+        return new FluentStringParser(list).toList(",");
+    }
+
+    @Benchmark
+    public Optional<Map<String, String>> toMap() {
+        return new FluentStringParser(map).toMap(";", "=");
+    }
+
+    @Benchmark
+    public Optional<Unit> toEnum() {
+        return new FluentStringParser(enumName).toEnum(Unit.class);
+    }
+
+    @Benchmark
+    public Optional<LocalDate> toLocalDate() {
+        return new FluentStringParser(date).toLocalDate("yyyy-MM-dd");
+    }
+
+    @Benchmark
+    public Optional<Instant> toInstant() {
+        return new FluentStringParser(instant).toInstant();
+    }
+
+    @Benchmark
+    public boolean isNumeric() {
+        return new FluentStringParser(decimal).isNumeric();
+    }
+
+    @Benchmark
+    public boolean isBoolean() {
+        return new FluentStringParser(bool).isBoolean();
+    }
+
+    @Benchmark
+    public boolean isDate() {
+        return new FluentStringParser(date).isDate("yyyy-MM-dd");
+    }
+}
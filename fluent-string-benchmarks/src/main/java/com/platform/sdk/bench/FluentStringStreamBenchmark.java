@@ -0,0 +1,412 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.CharFrequency;
+import com.platform.sdk.string.WordFrequency;
+import com.platform.sdk.string.stream.FluentPipeline;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FluentStringStream: one benchmark per step ({@code step_*}, the step alone followed by
+ * {@code collect()}) and per terminal operation, then the chains of
+ * {@code FluentStringStreamLongChainTests} run as a stream, as a stream with fusion off,
+ * and as a FluentPipeline defined once.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FluentStringStreamBenchmark {
+
+    /** The long chains as reusable pipelines. */
+    @State(Scope.Benchmark)
+    public static class Pipelines {
+        final FluentPipeline normalizeChain = FluentPipeline.define(FluentStringStreamBenchmark::normalizeChain);
+        final FluentPipeline slugChain = FluentPipeline.define(FluentStringStreamBenchmark::slugChain);
+        final FluentPipeline heavyChain = FluentPipeline.define(FluentStringStreamBenchmark::heavyChain);
+    }
+
+    @Benchmark
+    public String step_trim(TextState s) {
+        return FluentStringStream.of(s.text).trim().collect();
+    }
+
+    @Benchmark
+    public String step_toLowerCase(TextState s) {
+        return FluentStringStream.of(s.text).toLowerCase().collect();
+    }
+
+    @Benchmark
+    public String step_toUpperCase(TextState s) {
+        return FluentStringStream.of(s.text).toUpperCase().collect();
+    }
+
+    @Benchmark
+    public String step_append(TextState s) {
+        return FluentStringStream.of(s.text).append(" suffix").collect();
+    }
+
+    @Benchmark
+    public String step_prepend(TextState s) {
+        return FluentStringStream.of(s.text).prepend("prefix ").collect();
+    }
+
+    @Benchmark
+    public String step_replace(TextState s) {
+        return FluentStringStream.of(s.text).replace(" ", "_").collect();
+    }
+
+    @Benchmark
+    public String step_replaceAll(TextState s) {
+        return FluentStringStream.of(s.text).replaceAll("\\d+", "#").collect();
+    }
+
+    @Benchmark
+    public String step_replaceFirst(TextState s) {
+        return FluentStringStream.of(s.text).replaceFirst("\\s+", "_").collect();
+    }
+
+    @Benchmark
+    public String step_removeDuplicateWords(TextState s) {
+        return FluentStringStream.of(s.text).removeDuplicateWords().collect();
+    }
+
+    @Benchmark
+    public String step_reverse(TextState s) {
+        return FluentStringStream.of(s.text).reverse().collect();
+    }
+
+    @Benchmark
+    public String step_capitalize(TextState s) {
+        return FluentStringStream.of(s.text).capitalize().collect();
+    }
+
+    @Benchmark
+    public String step_removeWhitespace(TextState s) {
+        return FluentStringStream.of(s.text).removeWhitespace().collect();
+    }
+
+    @Benchmark
+    public String step_clean(TextState s) {
+        return FluentStringStream.of(s.text).clean().collect();
+    }
+
+    @Benchmark
+    public String step_capitalizeWords(TextState s) {
+        return FluentStringStream.of(s.text).capitalizeWords().collect();
+    }
+
+    @Benchmark
+    public String step_snakeCase(TextState s) {
+        return FluentStringStream.of(s.text).snakeCase().collect();
+    }
+
+    @Benchmark
+    public String step_kebabCase(TextState s) {
+        return FluentStringStream.of(s.text).kebabCase().collect();
+    }
+
+    @Benchmark
+    public String step_camelCase(TextState s) {
+        return FluentStringStream.of(s.text).camelCase().collect();
+    }
+
+    @Benchmark
+    public String step_pascalCase(TextState s) {
+        return FluentStringStream.of(s.text).pascalCase().collect();
+    }
+
+    @Benchmark
+    public String step_constantCase(TextState s) {
+        return FluentStringStream.of(s.text).constantCase().collect();
+    }
+
+    @Benchmark
+    public String step_reverseWords(TextState s) {
+        return FluentStringStream.of(s.text).reverseWords().collect();
+    }
+
+    @Benchmark
+    public String step_titleCase(TextState s) {
+        return FluentStringStream.of(s.text).titleCase().collect();
+    }
+
+    @Benchmark
+    public String step_stripAccents(TextState s) {
+        return FluentStringStream.of(s.text).stripAccents().collect();
+    }
+
+    @Benchmark
+    public String step_toSlug(TextState s) {
+        return FluentStringStream.of(s.text).toSlug().collect();
+    }
+
+    @Benchmark
+    public String step_escapeHtml(TextState s) {
+        return FluentStringStream.of(s.text).escapeHtml().collect();
+    }
+
+    @Benchmark
+    public String step_escapeXml(TextState s) {
+        return FluentStringStream.of(s.text).escapeXml().collect();
+    }
+
+    @Benchmark
+    public String step_escapeJson(TextState s) {
+        return FluentStringStream.of(s.text).escapeJson().collect();
+    }
+
+    @Benchmark
+    public String step_removeDigits(TextState s) {
+        return FluentStringStream.of(s.text).removeDigits().collect();
+    }
+
+    @Benchmark
+    public String step_removePunctuation(TextState s) {
+        return FluentStringStream.of(s.text).removePunctuation().collect();
+    }
+
+    @Benchmark
+    public String step_removeSpecialChars(TextState s) {
+        return FluentStringStream.of(s.text).removeSpecialChars().collect();
+    }
+
+    @Benchmark
+    public String step_keepOnly(TextState s) {
+        return FluentStringStream.of(s.text).keepOnly("aeiou ").collect();
+    }
+
+    @Benchmark
+    public String step_normalize(TextState s) {
+        return FluentStringStream.of(s.text).normalize().collect();
+    }
+
+    @Benchmark
+    public String step_center(TextState s) {
+        return FluentStringStream.of(s.text).center(s.size + 16, '*').collect();
+    }
+
+    @Benchmark
+    public String step_indent(TextState s) {
+        return FluentStringStream.of(s.text).indent(4).collect();
+    }
+
+    @Benchmark
+    public String step_padLeft(TextState s) {
+        return FluentStringStream.of(s.text).padLeft(s.size + 16, '*').collect();
+    }
+
+    @Benchmark
+    public String step_padRight(TextState s) {
+        return FluentStringStream.of(s.text).padRight(s.size + 16, '*').collect();
+    }
+
+    @Benchmark
+    public String step_truncate(TextState s) {
+        return FluentStringStream.of(s.text).truncate(s.size / 2, "...").collect();
+    }
+
+    @Benchmark
+    public String step_truncateWords(TextState s) {
+        return FluentStringStream.of(s.text).truncateWords(8).collect();
+    }
+
+    @Benchmark
+    public String step_wrap(TextState s) {
+        return FluentStringStream.of(s.text).wrap("\"").collect();
+    }
+
+    @Benchmark
+    public String step_withPrefix(TextState s) {
+        return FluentStringStream.of(s.text).withPrefix("f_").collect();
+    }
+
+    @Benchmark
+    public String step_withSuffix(TextState s) {
+        return FluentStringStream.of(s.text).withSuffix("_x").collect();
+    }
+
+    @Benchmark
+    public String step_map(TextState s) {
+        return FluentStringStream.of(s.text).map(String::trim).collect();
+    }
+
+    @Benchmark
+    public int countOccurrences(TextState s) {
+        return FluentStringStream.of(s.text).countOccurrences(" ");
+    }
+
+    @Benchmark
+    public int charCount(TextState s) {
+        return FluentStringStream.of(s.text).charCount();
+    }
+
+    @Benchmark
+    public int wordCount(TextState s) {
+        return FluentStringStream.of(s.text).wordCount();
+    }
+
+    @Benchmark
+    public CharFrequency charFrequency(TextState s) {
+        return FluentStringStream.of(s.text).charFrequency();
+    }
+
+    @Benchmark
+    public WordFrequency wordFrequency(TextState s) {
+        return FluentStringStream.of(s.text).wordFrequency();
+    }
+
+    @Benchmark
+    public WordFrequency wordFrequencyIgnoreCase(TextState s) {
+        return FluentStringStream.of(s.text).wordFrequencyIgnoreCase();
+    }
+
+    @Benchmark
+    public boolean isBlank(TextState s) {
+        return FluentStringStream.of(s.text).isBlank();
+    }
+
+    @Benchmark
+    public boolean isAlphaNumeric(TextState s) {
+        return FluentStringStream.of(s.text).isAlphaNumeric();
+    }
+
+    @Benchmark
+    public boolean isPalindrome(TextState s) {
+        return FluentStringStream.of(s.text).isPalindrome();
+    }
+
+    @Benchmark
+    public boolean matches(TextState s) {
+        return FluentStringStream.of(s.text).matches("[\\p{L}\\p{N}\\p{P}\\p{So}\\s]*");
+    }
+
+    @Benchmark
+    public List<String> extractAllMatches(TextState s) {
+        return FluentStringStream.of(s.text).extractAllMatches("\\d+");
+    }
+
+    @Benchmark
+    public int countMatches(TextState s) {
+        return FluentStringStream.of(s.text).countMatches("\\s+");
+    }
+
+    @Benchmark
+    public String toBase64(TextState s) {
+        return FluentStringStream.of(s.text).toBase64();
+    }
+
+    @Benchmark
+    public List<String> lines(TextState s) {
+        return FluentStringStream.of(s.text).lines();
+    }
+
+    @Benchmark
+    public List<String> split(TextState s) {
+        return FluentStringStream.of(s.text).split("\\s+");
+    }
+
+    @Benchmark
+    public List<String> words(TextState s) {
+        return FluentStringStream.of(s.text).words();
+    }
+
+    @Benchmark
+    public String toTitleCase(TextState s) {
+        return FluentStringStream.of(s.text).toTitleCase(Locale.ROOT);
+    }
+
+    @Benchmark
+    public String urlDecode(TextState s) {
+        return FluentStringStream.of(s.urlEncoded).urlDecode();
+    }
+
+    @Benchmark
+    public String removeBlankLines(TextState s) {
+        return FluentStringStream.of(s.multiline).removeBlankLines();
+    }
+
+    @Benchmark
+    public String normalizeChain(TextState s) {
+        return normalizeChain(FluentStringStream.of(s.text)).collect();
+    }
+
+    @Benchmark
+    public String normalizeChainUnfused(TextState s) {
+        return normalizeChain(FluentStringStream.of(s.text).withFusion(false)).collect();
+    }
+
+    @Benchmark
+    public String normalizeChainPipeline(TextState s, Pipelines p) {
+        return p.normalizeChain.apply(s.text);
+    }
+
+    @Benchmark
+    public String slugChain(TextState s) {
+        return slugChain(FluentStringStream.of(s.text)).collect();
+    }
+
+    @Benchmark
+    public String slugChainUnfused(TextState s) {
+        return slugChain(FluentStringStream.of(s.text).withFusion(false)).collect();
+    }
+
+    @Benchmark
+    public String slugChainPipeline(TextState s, Pipelines p) {
+        return p.slugChain.apply(s.text);
+    }
+
+    @Benchmark
+    public String heavyChain(TextState s) {
+        return heavyChain(FluentStringStream.of(s.text)).collect();
+    }
+
+    @Benchmark
+    public String heavyChainUnfused(TextState s) {
+        return heavyChain(FluentStringStream.of(s.text).withFusion(false)).collect();
+    }
+
+    @Benchmark
+    public String heavyChainPipeline(TextState s, Pipelines p) {
+        return p.heavyChain.apply(s.text);
+    }
+
+    /** Counts over a chained stream: the steps run once, the counts use the kept result. */
+    @Benchmark
+    public int statisticsChain(TextState s) {
+        FluentStringStream stream = FluentStringStream.of(s.text).trim().toLowerCase();
+        return stream.wordCount() + stream.charCount() + stream.getWordFrequencyCaseSensitive().size()
+                + stream.getCharFrequencyCaseSensitive().size();
+    }
+
+    @Benchmark
+    public String encodingChain(TextState s) {
+        return FluentStringStream.of(FluentStringStream.of(s.text).urlEncode()).urlDecode();
+    }
+
+    private static FluentStringStream normalizeChain(FluentStringStream s) {
+        return s.trim().normalize().stripAccents().toLowerCase().capitalizeWords().removePunctuation().camelCase()
+                .withPrefix("result:");
+    }
+
+    private static FluentStringStream slugChain(FluentStringStream s) {
+        return s.trim().removeDigits().removePunctuation().toLowerCase().toSlug().withSuffix("-clean");
+    }
+
+    private static FluentStringStream heavyChain(FluentStringStream s) {
+        return s.trim().removeDuplicateWords().capitalizeWords().snakeCase().wrap("--").toUpperCase();
+    }
+}
@@ -0,0 +1,81 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.FluentString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Character and word frequencies counted into the primitive CharFrequency and
+ * WordFrequency histograms next to the boxed {@code LinkedHashMap} counting they
+ * replaced, over {@code words} words of a twelve-word vocabulary with some accents.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FrequencyBenchmark {
+
+    private static final String[] VOCABULARY = {
+            "the", "quick", "brown", "fox", "jumps", "over", "lazy", "dog", "café", "naïve", "Über", "déjà"
+    };
+
+    @Param({"1000", "200000"})
+    public int words;
+
+    public String text;
+    public FluentString fluent;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            sb.append(VOCABULARY[(i * 7 + i / 13) % VOCABULARY.length]).append(i % 17 == 0 ? "\n" : " ");
+        }
+        text = sb.toString();
+        fluent = FluentString.of(text);
+    }
+
+    @Benchmark
+    public int charFrequencyBoxed() {
+        Map<Character, Integer> map = new LinkedHashMap<>();
+        for (char c : text.toCharArray()) {
+            map.put(c, map.getOrDefault(c, 0) + 1);
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    public int charFrequencyPrimitive() {
+        return fluent.charFrequency().distinct();
+    }
+
+    @Benchmark
+    public int wordFrequencyBoxed() {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        for (String word : text.trim().split("\\s+")) {
+            map.merge(word, 1, Integer::sum);
+        }
+        return map.size();
+    }
+
+    @Benchmark
+    public int wordFrequencyPrimitive() {
+        return fluent.wordFrequency().distinct();
+    }
+}
@@ -0,0 +1,93 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.stream.FluentPipeline;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A pipeline over every line of a {@code megabytes} MB file written to another file:
+ * the whole file read into a String and split, next to {@code FluentStringStream.ofFile},
+ * which maps it in line-aligned chunks and runs them in parallel. Run with
+ * {@code -prof gc} to compare allocation too.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedLinesBenchmark {
+
+    private static final String[] WORDS = {"Customer", "ID", "order", "Total", "EUR", "café", "Über", "tax", "2025"};
+    private static final FluentPipeline PIPELINE = FluentPipeline.define(s -> s.trim().stripAccents().toLowerCase());
+
+    @Param({"64"})
+    public int megabytes;
+
+    public Path in;
+    public Path out;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        in = Files.createTempFile("mapped-lines", ".txt");
+        out = Files.createTempFile("mapped-lines", ".out");
+        Random random = new Random(3);
+        long bytes = (long) megabytes << 20;
+        long written = 0;
+        try (Writer writer = Files.newBufferedWriter(in)) {
+            while (written < bytes) {
+                StringBuilder line = new StringBuilder("  ");
+                for (int i = 2 + random.nextInt(8); i > 0; i--) line.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+                line.append('\n');
+                writer.write(line.toString());
+                written += line.length();
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(in);
+        Files.deleteIfExists(out);
+    }
+
+    @Benchmark
+    public long readAllAndSplit() throws IOException {
+        String text = new String(Files.readAllBytes(in), StandardCharsets.UTF_8);
+        long length = 0;
+        try (Writer writer = Files.newBufferedWriter(out)) {
+            for (String line : text.split("\\R")) {
+                String value = PIPELINE.apply(line);
+                writer.write(value);
+                writer.write('\n');
+                length += value.length() + 1;
+            }
+        }
+        return length;
+    }
+
+    @Benchmark
+    public long mappedTransfer() throws IOException {
+        return FluentStringStream.ofFile(in, StandardCharsets.UTF_8).withPipeline(PIPELINE).transfer(out);
+    }
+}
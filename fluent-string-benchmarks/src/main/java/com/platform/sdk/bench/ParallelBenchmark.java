@@ -0,0 +1,179 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.ParallelTextAnalyzer;
+import com.platform.sdk.string.stream.FluentPipeline;
+import com.platform.sdk.string.stream.FluentStringStream;
+import com.platform.sdk.string.stream.ParallelPipeline;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Fork/join counting with ParallelTextAnalyzer over 16 MB of text ({@code analyze*}),
+ * and a pipeline over a million short records ({@code records*}): a parallel stream
+ * building a FluentStringStream per record, {@code FluentPipeline.applyAll} and
+ * ParallelPipeline. The sequential benchmarks are the baselines; the parallel ones run
+ * on a pool of {@code threads} threads.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelBenchmark {
+
+    private static final String[] VOCABULARY = {
+            "the", "quick", "brown", "fox", "jumps", "over", "lazy", "dog", "Lorem", "ipsum", "café", "Über"
+    };
+    private static final String[] WORDS = {
+            "Customer", "ID", "order", "Total", "EUR", "shipping", "café", "Über", "line", "2", "tax", "rate"
+    };
+
+    private static final FluentPipeline PIPELINE = FluentPipeline.define(s -> s
+            .trim().removePunctuation().toLowerCase().replace(" ", "_").withPrefix("f_").truncate(48, ""));
+
+    @State(Scope.Benchmark)
+    public static class Text {
+
+        public FluentString text;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(7);
+            StringBuilder sb = new StringBuilder((16 << 19) + 16);
+            while (sb.length() < 16 << 19) {
+                sb.append(VOCABULARY[random.nextInt(VOCABULARY.length)]).append(random.nextInt(12) == 0 ? '\n' : ' ');
+            }
+            text = FluentString.of(sb.toString());
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Records {
+
+        public List<String> values;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Random random = new Random(7);
+            values = new ArrayList<>(1_000_000);
+            for (int i = 0; i < 1_000_000; i++) {
+                String[] words = new String[2 + random.nextInt(5)];
+                for (int w = 0; w < words.length; w++) words[w] = WORDS[random.nextInt(WORDS.length)];
+                values.add((random.nextBoolean() ? "  " : "") + String.join(" ", Arrays.asList(words)) + ", #" + i + " ");
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class Pool {
+
+        @Param({"1", "2", "4", "8"})
+        public int threads;
+
+        public ForkJoinPool pool;
+        public ParallelPipeline pipeline;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            pool = new ForkJoinPool(threads);
+            pipeline = PIPELINE.parallel().withPool(pool);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            pool.shutdown();
+        }
+
+        ParallelTextAnalyzer analyzer(Text t) {
+            return t.text.parallel().withPool(pool);
+        }
+    }
+
+    @Benchmark
+    public int analyzeWordCountSequential(Text t) {
+        return t.text.wordCount();
+    }
+
+    @Benchmark
+    public int analyzeWordCountParallel(Text t, Pool p) {
+        return p.analyzer(t).wordCount();
+    }
+
+    @Benchmark
+    public int analyzeCharFrequencySequential(Text t) {
+        return t.text.charFrequency().distinct();
+    }
+
+    @Benchmark
+    public int analyzeCharFrequencyParallel(Text t, Pool p) {
+        return p.analyzer(t).charFrequency().distinct();
+    }
+
+    @Benchmark
+    public int analyzeWordFrequencyIgnoreCaseSequential(Text t) {
+        return t.text.wordFrequencyIgnoreCase().distinct();
+    }
+
+    @Benchmark
+    public int analyzeWordFrequencyIgnoreCaseParallel(Text t, Pool p) {
+        return p.analyzer(t).wordFrequencyIgnoreCase().distinct();
+    }
+
+    @Benchmark
+    public int analyzeCountOccurrencesSequential(Text t) {
+        return t.text.countOccurrences("fox");
+    }
+
+    @Benchmark
+    public int analyzeCountOccurrencesParallel(Text t, Pool p) {
+        return p.analyzer(t).countOccurrences("fox");
+    }
+
+    @Benchmark
+    public int analyzeCountMatchesSequential(Text t) {
+        return t.text.countMatches("\\b\\w+y\\b");
+    }
+
+    @Benchmark
+    public int analyzeCountMatchesParallel(Text t, Pool p) {
+        return p.analyzer(t).countMatches("\\b\\w+y\\b");
+    }
+
+    @Benchmark
+    public List<String> recordsParallelStream(Records r) {
+        return r.values.parallelStream()
+                .map(v -> FluentStringStream.of(v).trim().removePunctuation().toLowerCase()
+                        .replace(" ", "_").withPrefix("f_").truncate(48, "").collect())
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> recordsApplyAll(Records r) {
+        return PIPELINE.applyAll(r.values);
+    }
+
+    @Benchmark
+    public List<String> recordsParallelPipeline(Records r, Pool p) {
+        return p.pipeline.applyAll(r.values);
+    }
+}
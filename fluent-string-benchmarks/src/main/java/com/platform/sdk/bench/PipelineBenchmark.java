@@ -0,0 +1,91 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.stream.FluentPipeline;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * How a chain is run: a FluentStringStream built for every record next to one shared
+ * FluentPipeline ({@code perRecord*}, over ten short column names per invocation), and
+ * ten built-in steps with fusion off and on ({@code tenSteps*}, over one short value and
+ * one of 4 K chars).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+
+    private static final String[] VALUES = {
+            "  Customer ID  ", "Order Total, EUR", "shipping address (line 2)", "  created_at ", "Last-Modified-By",
+            "Invoice #", "tax rate %", "Product SKU", "is active?", "Discount code applied"
+    };
+
+    private static final FluentPipeline PIPELINE = FluentPipeline.define(s -> s
+            .trim().removePunctuation().toLowerCase().replace(" ", "_").withPrefix("f_").truncate(24, ""));
+
+    @State(Scope.Benchmark)
+    public static class Chain {
+
+        @Param({"short", "4k"})
+        public String length;
+
+        public String value;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            String input = "  Order #1234: Total Amount (EUR), incl. VAT 19%  ";
+            StringBuilder sb = new StringBuilder(input);
+            if ("4k".equals(length)) {
+                while (sb.length() < 4096) sb.append(' ').append(input);
+            }
+            value = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public int perRecordStream() {
+        int length = 0;
+        for (String value : VALUES) {
+            length += FluentStringStream.of(value).trim().removePunctuation().toLowerCase()
+                    .replace(" ", "_").withPrefix("f_").truncate(24, "").collect().length();
+        }
+        return length;
+    }
+
+    @Benchmark
+    public int perRecordPipeline() {
+        int length = 0;
+        for (String value : VALUES) length += PIPELINE.apply(value).length();
+        return length;
+    }
+
+    @Benchmark
+    public String tenStepsUnfused(Chain c) {
+        return tenSteps(FluentStringStream.of(c.value).withFusion(false)).collect();
+    }
+
+    @Benchmark
+    public String tenStepsFused(Chain c) {
+        return tenSteps(FluentStringStream.of(c.value)).collect();
+    }
+
+    private static FluentStringStream tenSteps(FluentStringStream s) {
+        return s.trim().removeDigits().removePunctuation().toLowerCase().replace(" ", "_").withPrefix("f_")
+                .padRight(40, '_').truncate(8192, "~").toUpperCase().wrap("|");
+    }
+}
@@ -0,0 +1,51 @@
+package com.platform.sdk.bench;
+
+import com.platform.sdk.string.FluentString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A chain of {@code length} append, prepend and wrap calls on a flat FluentString,
+ * which copies the whole value at every step, and on one in rope mode.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RopeAppendBenchmark {
+
+    private static final String PIECE = "lorem ipsum dolor sit amet, ";
+
+    @Param({"1000", "5000", "20000"})
+    public int length;
+
+    @Benchmark
+    public int flat() {
+        return build(FluentString.of(""));
+    }
+
+    @Benchmark
+    public int rope() {
+        return build(FluentString.ofRope(""));
+    }
+
+    private int build(FluentString start) {
+        FluentString fs = start;
+        for (int i = 0; i < length; i++) {
+            fs = i % 10 == 0 ? fs.wrap("|") : i % 2 == 0 ? fs.prepend(PIECE) : fs.append(PIECE);
+        }
+        return fs.get().length();
+    }
+}
@@ -0,0 +1,76 @@
+package com.platform.sdk.bench;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+/**
+ * Input text shared by the benchmarks: {@code size} chars of words separated by spaces,
+ * with some punctuation and digits, drawn from one character mix. The text is the same
+ * on every run, so results of different runs compare.
+ */
+@State(Scope.Benchmark)
+public class TextState {
+
+    /** Which characters the words are made of. */
+    public enum Mix {
+        /** English words, digits and punctuation. */
+        ASCII("The quick brown fox jumps over the lazy dog", "Order 1042 shipped, total 99.95 EUR!", "hello-world_2025 (draft) v3"),
+        /** Accented Latin-1 words, which also exercise stripAccents and normalize. */
+        LATIN1("Élan café naïve façade", "Über Straße Ærø Øre", "crème brûlée à la française, déjà vu!"),
+        /** Han, kana and Hangul: letters with no case. */
+        CJK("漢字 仮名 交じり 文", "東京 大阪 京都 2025年", "한국어 텍스트 처리, 안녕하세요!"),
+        /** Emoji outside the BMP, as surrogate pairs, between ASCII words. */
+        EMOJI("launch 🚀 done 👍🏽", "party 🎉🎉 time 😀", "weather ☀️ 🌧️ 42 today!");
+
+        private final String[] phrases;
+
+        Mix(String... phrases) {
+            this.phrases = phrases;
+        }
+    }
+
+    @Param({"16", "1024", "1048576"})
+    public int size;
+
+    @Param({"ASCII", "LATIN1", "CJK", "EMOJI"})
+    public Mix mix;
+
+    public String text;
+    /** {@code text} in mixed case with surrounding whitespace, for trim and case benchmarks. */
+    public String padded;
+    public String base64;
+    public String urlEncoded;
+    public String escapedHtml;
+    public String multiline;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        text = text(mix, size);
+        padded = "  " + text + "  ";
+        base64 = Base64.getEncoder().encodeToString(text.getBytes(StandardCharsets.UTF_8));
+        urlEncoded = URLEncoder.encode(text, StandardCharsets.UTF_8.name());
+        escapedHtml = text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+        multiline = text.replace(", ", "\n").replace("! ", "\n\n");
+    }
+
+    /** Exactly {@code size} chars of phrases from {@code mix}, never ending inside a surrogate pair. */
+    public static String text(Mix mix, int size) {
+        Random random = new Random(size * 31L + mix.ordinal());
+        StringBuilder sb = new StringBuilder(size + 64);
+        while (sb.length() < size) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(mix.phrases[random.nextInt(mix.phrases.length)]);
+        }
+        sb.setLength(size);
+        if (Character.isHighSurrogate(sb.charAt(size - 1))) sb.setCharAt(size - 1, ' ');
+        return sb.toString();
+    }
+}
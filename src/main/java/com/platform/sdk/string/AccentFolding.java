@@ -0,0 +1,212 @@
+package com.platform.sdk.string;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Lookup-table accent folding and transliteration behind {@code stripAccents()} and
+ * {@code toSlug()}.
+ * <p>
+ * {@link #stripAccents} gives the same result as NFD followed by removing
+ * U+0300..U+036F, but without normalizing the whole string: each BMP character is
+ * folded through a table that is filled one 256-character page at a time, on first use.
+ * A character whose folding leaves a combining mark behind (where canonical reordering
+ * could matter) sends the string down the full-normalization path instead. ASCII-only
+ * strings are returned as they are.
+ * <p>
+ * {@link #toSlug} transliterates Latin, Greek and Cyrillic letters to lower-case ASCII
+ * ({@code "Crème Brûlée"} becomes {@code "creme-brulee"}, {@code "Москва"} becomes
+ * {@code "moskva"}), turns runs of whitespace into single dashes and drops everything else.
+ */
+public final class AccentFolding {
+
+    private static final String FALLBACK = new String("fallback");
+    private static final FoldPage[] FOLD_PAGES = new FoldPage[256];
+    private static final CharMatcher COMBINING_DIACRITICS = CharMatcher.inRange('\u0300', '\u036F');
+
+    private static final char[][] SLUG_RANGES = {{'\u0080', '\u0530'}, {'\u1E00', '\u2000'}};
+    private static final String[][] SLUG_TABLES = new String[SLUG_RANGES.length][];
+
+    static {
+        Map<Character, String> letters = baseLetters();
+        for (int r = 0; r < SLUG_RANGES.length; r++) {
+            String[] table = new String[SLUG_RANGES[r][1] - SLUG_RANGES[r][0]];
+            for (int i = 0; i < table.length; i++) {
+                table[i] = transliterate((char) (SLUG_RANGES[r][0] + i), letters);
+            }
+            SLUG_TABLES[r] = table;
+        }
+    }
+
+    private AccentFolding() {
+    }
+
+    public static String stripAccents(String value) {
+        int first = 0;
+        while (first < value.length() && value.charAt(first) < 0x80) first++;
+        if (first == value.length()) return value;
+        StringBuilder sb = null;
+        for (int i = first; i < value.length(); i++) {
+            char c = value.charAt(i);
+            String folded = c < 0x80 ? null : fold(c);
+            if (folded == FALLBACK) {
+                return COMBINING_DIACRITICS.removeFrom(Normalizer.normalize(value, Normalizer.Form.NFD));
+            }
+            if (folded != null && sb == null) {
+                sb = new StringBuilder(value.length());
+                sb.append(value, 0, i);
+            }
+            if (sb != null) {
+                if (folded != null) sb.append(folded);
+                else sb.append(c);
+            }
+        }
+        return sb == null ? value : sb.toString();
+    }
+
+    public static String toSlug(String value) {
+        int length = value.length();
+        int i = 0;
+        while (i < length && isSlugChar(value.charAt(i))) i++;
+        if (i == length) return value;
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(value, 0, i);
+        boolean separate = false;
+        for (; i < length; i++) {
+            char c = value.charAt(i);
+            String piece;
+            if (isSlugChar(c)) {
+                piece = null;
+            } else if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+                piece = null;
+            } else if (WordTokenizer.isSeparator(c)) {
+                separate = sb.length() > 0;
+                continue;
+            } else {
+                piece = c < 0x80 ? "" : slugOf(c);
+                if (piece.isEmpty()) continue;
+            }
+            if (separate) {
+                sb.append('-');
+                separate = false;
+            }
+            if (piece == null) sb.append(c);
+            else sb.append(piece);
+        }
+        return sb.toString();
+    }
+
+    /** Folded form of a non-ASCII BMP char: null when unchanged, {@link #FALLBACK} when it cannot be folded alone. */
+    private static String fold(char c) {
+        FoldPage page = FOLD_PAGES[c >>> 8];
+        if (page == null) {
+            // racing threads compute identical pages; the final field makes each one safe to publish
+            page = new FoldPage(c >>> 8);
+            FOLD_PAGES[c >>> 8] = page;
+        }
+        return page.folds[c & 0xFF];
+    }
+
+    private static String[] foldPage(int high) {
+        String[] page = new String[256];
+        for (int low = 0; low < 256; low++) {
+            char c = (char) (high << 8 | low);
+            if (Character.isSurrogate(c)) {
+                page[low] = FALLBACK;
+                continue;
+            }
+            String folded = COMBINING_DIACRITICS.removeFrom(Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD));
+            if (hasCombiningMark(folded)) {
+                page[low] = FALLBACK;
+            } else if (folded.length() != 1 || folded.charAt(0) != c) {
+                page[low] = folded;
+            }
+        }
+        return page;
+    }
+
+    private static final class FoldPage {
+        final String[] folds;
+
+        FoldPage(int high) {
+            this.folds = foldPage(high);
+        }
+    }
+
+    private static boolean hasCombiningMark(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            int type = Character.getType(value.charAt(i));
+            if (type == Character.NON_SPACING_MARK || type == Character.COMBINING_SPACING_MARK
+                    || type == Character.ENCLOSING_MARK) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String slugOf(char c) {
+        for (int r = 0; r < SLUG_RANGES.length; r++) {
+            if (c >= SLUG_RANGES[r][0] && c < SLUG_RANGES[r][1]) {
+                return SLUG_TABLES[r][c - SLUG_RANGES[r][0]];
+            }
+        }
+        return "";
+    }
+
+    private static boolean isSlugChar(char c) {
+        return c >= 'a' && c <= 'z' || c >= '0' && c <= '9';
+    }
+
+    /** Lower-case ASCII spelling of {@code c}, or "" when it has none. */
+    private static String transliterate(char c, Map<Character, String> letters) {
+        String direct = letters.get(Character.toLowerCase(c));
+        if (direct != null) return direct;
+        String folded = COMBINING_DIACRITICS.removeFrom(Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD))
+                .toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < folded.length(); i++) {
+            char f = folded.charAt(i);
+            if (isSlugChar(f)) {
+                sb.append(f);
+            } else if (letters.containsKey(f)) {
+                sb.append(letters.get(f));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** Lower-case letters that do not decompose to ASCII, with their ASCII spelling. */
+    private static Map<Character, String> baseLetters() {
+        Map<Character, String> letters = new HashMap<>();
+        String[] latin = {
+                "ß", "ss", "æ", "ae", "œ", "oe", "ø", "o", "đ", "d", "ð", "d", "þ", "th", "ł", "l", "ħ", "h",
+                "ı", "i", "ŋ", "n", "ĸ", "k", "ŧ", "t", "ſ", "s", "ƒ", "f", "ŀ", "l", "ĳ", "ij", "ǆ", "dz",
+                "ǉ", "lj", "ǌ", "nj", "ǳ", "dz", "ƀ", "b", "ɓ", "b", "ƈ", "c", "ɗ", "d", "ɖ", "d", "ɛ", "e",
+                "ə", "e", "ɠ", "g", "ɣ", "g", "ɨ", "i", "ɩ", "i", "ƙ", "k", "ƚ", "l", "ɲ", "n", "ɵ", "o",
+                "ʃ", "sh", "ƭ", "t", "ʈ", "t", "ʉ", "u", "ʋ", "v", "ƴ", "y", "ƶ", "z", "ʒ", "zh"
+        };
+        String[] greek = {
+                "α", "a", "β", "v", "γ", "g", "δ", "d", "ε", "e", "ζ", "z", "η", "i", "θ", "th", "ι", "i",
+                "κ", "k", "λ", "l", "μ", "m", "ν", "n", "ξ", "x", "ο", "o", "π", "p", "ρ", "r", "σ", "s",
+                "ς", "s", "τ", "t", "υ", "y", "φ", "f", "χ", "ch", "ψ", "ps", "ω", "o", "ϐ", "v", "ϑ", "th",
+                "ϕ", "f", "ϖ", "p", "ϰ", "k", "ϱ", "r", "ϲ", "s", "ϳ", "j"
+        };
+        String[] cyrillic = {
+                "а", "a", "б", "b", "в", "v", "г", "g", "д", "d", "е", "e", "ж", "zh", "з", "z", "и", "i",
+                "й", "y", "к", "k", "л", "l", "м", "m", "н", "n", "о", "o", "п", "p", "р", "r", "с", "s",
+                "т", "t", "у", "u", "ф", "f", "х", "kh", "ц", "ts", "ч", "ch", "ш", "sh", "щ", "shch",
+                "ъ", "", "ы", "y", "ь", "", "э", "e", "ю", "yu", "я", "ya", "є", "ye", "і", "i", "ї", "yi",
+                "ґ", "g", "ђ", "dj", "ј", "j", "љ", "lj", "њ", "nj", "ћ", "c", "џ", "dz", "ѕ", "dz", "ў", "u",
+                "ғ", "gh", "қ", "q", "ң", "ng", "ү", "u", "ұ", "u", "һ", "h", "ә", "a", "ө", "o", "ҳ", "h"
+        };
+        for (String[] pairs : new String[][]{latin, greek, cyrillic}) {
+            for (int i = 0; i < pairs.length; i += 2) {
+                letters.put(pairs[i].charAt(0), pairs[i + 1]);
+            }
+        }
+        return letters;
+    }
+}
@@ -0,0 +1,112 @@
+package com.platform.sdk.string;
+
+/**
+ * Identifier case styles behind {@code snakeCase()}, {@code kebabCase()},
+ * {@code camelCase()}, {@code pascalCase()} and {@code constantCase()}.
+ * <p>
+ * {@link #convert} splits its input into words in a single scan and writes each word
+ * in the target style straight into one pre-sized buffer. Words end at whitespace,
+ * {@code '_'} and {@code '-'} (runs of them, and any at either end, are dropped), at a
+ * lower-case letter or digit followed by an upper-case letter ({@code "userId"}), at
+ * the last capital of an acronym followed by a lower-case letter ({@code "HTTPServer"}),
+ * and where digits follow a letter ({@code "utf8"}). Other characters stay inside their
+ * word. Input already in the target style is returned as is.
+ */
+public enum CaseFormat {
+
+    /** {@code "user_id"} */
+    SNAKE('_', false, false, false),
+    /** {@code "user-id"} */
+    KEBAB('-', false, false, false),
+    /** {@code "userId"} */
+    CAMEL('\0', false, true, false),
+    /** {@code "UserId"} */
+    PASCAL('\0', true, true, false),
+    /** {@code "USER_ID"} */
+    CONSTANT('_', false, false, true);
+
+    private final char delimiter;
+    private final boolean capitalizeFirst;
+    private final boolean capitalizeRest;
+    private final boolean upper;
+
+    CaseFormat(char delimiter, boolean capitalizeFirst, boolean capitalizeRest, boolean upper) {
+        this.delimiter = delimiter;
+        this.capitalizeFirst = capitalizeFirst;
+        this.capitalizeRest = capitalizeRest;
+        this.upper = upper;
+    }
+
+    public String convert(String value) {
+        int length = value.length();
+        // delimiters at case transitions can make the result longer than the input
+        StringBuilder sb = new StringBuilder(length + (length >> 2) + 4);
+        boolean asciiExact = WordOperations.asciiCaseMappingIsExact();
+        int i = 0;
+        boolean first = true;
+        while (true) {
+            while (i < length && isDelimiter(value.charAt(i))) i++;
+            if (i == length) break;
+            int end = wordEnd(value, i);
+            if (!first && delimiter != '\0') sb.append(delimiter);
+            int mark = sb.length();
+            if (upper) {
+                appendUpperCase(sb, value, i, end, asciiExact);
+            } else {
+                WordOperations.appendLowerCase(sb, value, i, end);
+                if (first ? capitalizeFirst : capitalizeRest) {
+                    sb.setCharAt(mark, Character.toUpperCase(sb.charAt(mark)));
+                }
+            }
+            first = false;
+            i = end;
+        }
+        return value.contentEquals(sb) ? value : sb.toString();
+    }
+
+    private static int wordEnd(String value, int start) {
+        int length = value.length();
+        char previous = value.charAt(start);
+        for (int i = start + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (isDelimiter(c)) return i;
+            if (isUpper(c)) {
+                if (isLower(previous) || isDigit(previous)) return i;
+                if (isUpper(previous) && i + 1 < length && isLower(value.charAt(i + 1))) return i;
+            } else if (isDigit(c) && Character.isLetter(previous)) {
+                return i;
+            }
+            previous = c;
+        }
+        return length;
+    }
+
+    private static void appendUpperCase(StringBuilder sb, String value, int start, int end, boolean asciiExact) {
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i) >= 128 || !asciiExact) {
+                sb.append(value.substring(start, end).toUpperCase());
+                return;
+            }
+        }
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            sb.append(c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c);
+        }
+    }
+
+    private static boolean isDelimiter(char c) {
+        return c == '_' || c == '-' || WordTokenizer.isSeparator(c);
+    }
+
+    private static boolean isUpper(char c) {
+        return c < 128 ? c >= 'A' && c <= 'Z' : Character.isUpperCase(c);
+    }
+
+    private static boolean isLower(char c) {
+        return c < 128 ? c >= 'a' && c <= 'z' : Character.isLowerCase(c);
+    }
+
+    private static boolean isDigit(char c) {
+        return c < 128 ? c >= '0' && c <= '9' : Character.isDigit(c);
+    }
+}
@@ -0,0 +1,176 @@
+package com.platform.sdk.string;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Character histogram without boxing. Latin-1 characters are counted in a flat
+ * {@code int[256]}; any other character goes to a small open-addressing table that is
+ * only allocated when the text contains one. Distinct characters are remembered in
+ * first-occurrence order, which is the order {@link #forEach} and {@link #toMap()} use.
+ */
+public final class CharFrequency {
+
+    @FunctionalInterface
+    public interface CharIntConsumer {
+        void accept(char c, int count);
+    }
+
+    private final int[] latin1 = new int[256];
+    private char[] wideKeys;
+    private int[] wideCounts;
+    private int wideSize;
+    private char[] order = new char[16];
+    private int distinct;
+    private int total;
+
+    private CharFrequency() {
+    }
+
+    public static CharFrequency of(CharSequence text) {
+        return of(text, 0, text.length());
+    }
+
+    static CharFrequency of(CharSequence text, int from, int to) {
+        CharFrequency frequency = new CharFrequency();
+        for (int i = from; i < to; i++) {
+            frequency.add(text.charAt(i), 1);
+        }
+        return frequency;
+    }
+
+    /**
+     * Counts the characters of {@code text.toLowerCase()}. ASCII-only text is folded
+     * char by char; anything else falls back to {@link String#toLowerCase()}, whose
+     * mapping is not always one char to one char.
+     */
+    public static CharFrequency ofIgnoreCase(String text) {
+        return ofIgnoreCase(text, 0, text.length());
+    }
+
+    static CharFrequency ofIgnoreCase(String text, int from, int to) {
+        if (WordOperations.asciiCaseMappingIsExact()) {
+            CharFrequency frequency = new CharFrequency();
+            int i = from;
+            while (i < to) {
+                char c = text.charAt(i);
+                if (c >= 128) break;
+                frequency.add(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c, 1);
+                i++;
+            }
+            if (i == to) return frequency;
+        }
+        return of(text.substring(from, to).toLowerCase());
+    }
+
+    public int get(char c) {
+        if (c < 256) return latin1[c];
+        if (wideKeys == null) return 0;
+        int slot = slot(wideKeys, c);
+        return wideKeys[slot] == c ? wideCounts[slot] : 0;
+    }
+
+    /** Number of distinct characters. */
+    public int distinct() {
+        return distinct;
+    }
+
+    /** Number of characters counted. */
+    public int total() {
+        return total;
+    }
+
+    /** Visits every distinct character in first-occurrence order. */
+    public void forEach(CharIntConsumer consumer) {
+        for (int i = 0; i < distinct; i++) {
+            char c = order[i];
+            consumer.accept(c, get(c));
+        }
+    }
+
+    /** Up to {@code n} most frequent characters, most frequent first; ties keep first-occurrence order. */
+    public char[] topN(int n) {
+        int size = Math.max(0, Math.min(n, distinct));
+        // count descending, then first-occurrence index, packed so a primitive sort orders them
+        long[] keys = new long[distinct];
+        for (int i = 0; i < distinct; i++) {
+            char c = order[i];
+            keys[i] = ((long) (Integer.MAX_VALUE - get(c)) << 32) | ((long) i << 16) | c;
+        }
+        Arrays.sort(keys);
+        char[] top = new char[size];
+        for (int i = 0; i < size; i++) {
+            top[i] = (char) keys[i];
+        }
+        return top;
+    }
+
+    public Map<Character, Integer> toMap() {
+        Map<Character, Integer> map = new LinkedHashMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    /** Adds the counts of {@code other}; merging tables in text order keeps first-occurrence order. */
+    public void merge(CharFrequency other) {
+        other.forEach(this::add);
+    }
+
+    private void add(char c, int count) {
+        total += count;
+        if (c < 256) {
+            if (latin1[c] == 0) remember(c);
+            latin1[c] += count;
+            return;
+        }
+        if (wideKeys == null) {
+            wideKeys = new char[16];
+            wideCounts = new int[16];
+        }
+        int slot = slot(wideKeys, c);
+        if (wideKeys[slot] != c) {
+            wideKeys[slot] = c;
+            remember(c);
+            if (++wideSize * 2 > wideKeys.length) {
+                rehash();
+                slot = slot(wideKeys, c);
+            }
+        }
+        wideCounts[slot] += count;
+    }
+
+    private void remember(char c) {
+        if (distinct == order.length) order = Arrays.copyOf(order, distinct * 2);
+        order[distinct++] = c;
+    }
+
+    private void rehash() {
+        char[] keys = wideKeys;
+        int[] counts = wideCounts;
+        wideKeys = new char[keys.length * 2];
+        wideCounts = new int[keys.length * 2];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != 0) {
+                int slot = slot(wideKeys, keys[i]);
+                wideKeys[slot] = keys[i];
+                wideCounts[slot] = counts[i];
+            }
+        }
+    }
+
+    /** Slot holding {@code c}, or the empty slot where it belongs; 0 marks empty since wide chars are >= 256. */
+    private static int slot(char[] keys, char c) {
+        int mask = keys.length - 1;
+        int slot = (c * 0x9E3779B1) >>> 16 & mask;
+        while (keys[slot] != 0 && keys[slot] != c) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+}
@@ -0,0 +1,309 @@
+package com.platform.sdk.string;
+
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+/**
+ * Precompiled character class used by the character-removal and character-check
+ * operations of FluentString and FluentStringStream.
+ * <p>
+ * Table-backed matchers answer ASCII membership from a 128-bit bitmap and fall back
+ * to a BMP bit table for other characters. Matchers compose with {@link #and},
+ * {@link #or} and {@link #negate}; two table-backed matchers compose into a new table.
+ * The kernels make a single pass and return the original String when nothing changes.
+ */
+public abstract class CharMatcher {
+
+    private static final CharMatcher NONE = new Table(0L, 0L, null, false);
+    private static final CharMatcher ANY = NONE.negate();
+    private static final CharMatcher ASCII_DIGIT = inRange('0', '9');
+    private static final CharMatcher ASCII_LETTER = inRange('a', 'z').or(inRange('A', 'Z'));
+    private static final CharMatcher ASCII_LETTER_OR_DIGIT = ASCII_LETTER.or(ASCII_DIGIT);
+    private static final CharMatcher ASCII_PUNCTUATION = anyOf("!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~");
+    private static final CharMatcher ASCII_WHITESPACE = anyOf(" \t\n\u000B\f\r");
+    private static final CharMatcher WHITESPACE = forPredicate(c -> Character.isWhitespace(c) || Character.isSpaceChar(c))
+            .precomputed();
+
+    CharMatcher() {
+    }
+
+    public abstract boolean matches(char c);
+
+    public static CharMatcher none() {
+        return NONE;
+    }
+
+    public static CharMatcher any() {
+        return ANY;
+    }
+
+    public static CharMatcher is(char c) {
+        return anyOf(String.valueOf(c));
+    }
+
+    public static CharMatcher anyOf(CharSequence chars) {
+        long lo = 0L, hi = 0L;
+        BitSet upper = null;
+        if (chars != null) {
+            for (int i = 0; i < chars.length(); i++) {
+                char c = chars.charAt(i);
+                if (c < 64) {
+                    lo |= 1L << c;
+                } else if (c < 128) {
+                    hi |= 1L << (c - 64);
+                } else {
+                    if (upper == null) upper = new BitSet();
+                    upper.set(c);
+                }
+            }
+        }
+        return new Table(lo, hi, upper, false);
+    }
+
+    public static CharMatcher noneOf(CharSequence chars) {
+        return anyOf(chars).negate();
+    }
+
+    public static CharMatcher inRange(char startInclusive, char endInclusive) {
+        long lo = 0L, hi = 0L;
+        BitSet upper = null;
+        for (int c = startInclusive; c <= endInclusive; c++) {
+            if (c < 64) {
+                lo |= 1L << c;
+            } else if (c < 128) {
+                hi |= 1L << (c - 64);
+            } else {
+                upper = new BitSet();
+                upper.set(c, endInclusive + 1);
+                break;
+            }
+        }
+        return new Table(lo, hi, upper, false);
+    }
+
+    public static CharMatcher forPredicate(IntPredicate predicate) {
+        return new CharMatcher() {
+            @Override
+            public boolean matches(char c) {
+                return predicate.test(c);
+            }
+        };
+    }
+
+    /** {@code [0-9]}, the same class as the regex {@code \d}. */
+    public static CharMatcher asciiDigit() {
+        return ASCII_DIGIT;
+    }
+
+    /** {@code [a-zA-Z]}. */
+    public static CharMatcher asciiLetter() {
+        return ASCII_LETTER;
+    }
+
+    /** {@code [a-zA-Z0-9]}. */
+    public static CharMatcher asciiLetterOrDigit() {
+        return ASCII_LETTER_OR_DIGIT;
+    }
+
+    /** The same class as the regex {@code \p{Punct}}. */
+    public static CharMatcher asciiPunctuation() {
+        return ASCII_PUNCTUATION;
+    }
+
+    /** The same class as the regex {@code \s}. */
+    public static CharMatcher asciiWhitespace() {
+        return ASCII_WHITESPACE;
+    }
+
+    /** Unicode whitespace: {@link Character#isWhitespace} or {@link Character#isSpaceChar}. */
+    public static CharMatcher whitespace() {
+        return WHITESPACE;
+    }
+
+    public CharMatcher negate() {
+        CharMatcher self = this;
+        return new CharMatcher() {
+            @Override
+            public boolean matches(char c) {
+                return !self.matches(c);
+            }
+        };
+    }
+
+    public CharMatcher and(CharMatcher other) {
+        CharMatcher self = this;
+        return new CharMatcher() {
+            @Override
+            public boolean matches(char c) {
+                return self.matches(c) && other.matches(c);
+            }
+        };
+    }
+
+    public CharMatcher or(CharMatcher other) {
+        CharMatcher self = this;
+        return new CharMatcher() {
+            @Override
+            public boolean matches(char c) {
+                return self.matches(c) || other.matches(c);
+            }
+        };
+    }
+
+    /**
+     * Returns a table-backed matcher equivalent to this one, evaluating this matcher
+     * once for every BMP character.
+     */
+    public CharMatcher precomputed() {
+        long lo = 0L, hi = 0L;
+        for (int c = 0; c < 64; c++) {
+            if (matches((char) c)) lo |= 1L << c;
+        }
+        for (int c = 64; c < 128; c++) {
+            if (matches((char) c)) hi |= 1L << (c - 64);
+        }
+        BitSet upper = new BitSet();
+        for (int c = 128; c <= Character.MAX_VALUE; c++) {
+            if (matches((char) c)) upper.set(c);
+        }
+        return new Table(lo, hi, upper.isEmpty() ? null : upper, false);
+    }
+
+    public int indexIn(CharSequence sequence) {
+        return indexIn(sequence, 0);
+    }
+
+    public int indexIn(CharSequence sequence, int start) {
+        for (int i = start; i < sequence.length(); i++) {
+            if (matches(sequence.charAt(i))) return i;
+        }
+        return -1;
+    }
+
+    public boolean matchesAll(CharSequence sequence) {
+        for (int i = 0; i < sequence.length(); i++) {
+            if (!matches(sequence.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    public boolean matchesAny(CharSequence sequence) {
+        return indexIn(sequence) >= 0;
+    }
+
+    public boolean matchesNone(CharSequence sequence) {
+        return indexIn(sequence) < 0;
+    }
+
+    public int countIn(CharSequence sequence) {
+        int count = 0;
+        for (int i = 0; i < sequence.length(); i++) {
+            if (matches(sequence.charAt(i))) count++;
+        }
+        return count;
+    }
+
+    /** Removes every matching character, returning {@code value} itself when none match. */
+    public String removeFrom(String value) {
+        return filter(value, false);
+    }
+
+    /** Keeps only matching characters, returning {@code value} itself when all match. */
+    public String retainFrom(String value) {
+        return filter(value, true);
+    }
+
+    private String filter(String value, boolean keep) {
+        int length = value.length();
+        int first = 0;
+        while (first < length && matches(value.charAt(first)) == keep) {
+            first++;
+        }
+        if (first == length) return value;
+        char[] buffer = new char[length - 1];
+        value.getChars(0, first, buffer, 0);
+        int size = first;
+        for (int i = first + 1; i < length; i++) {
+            char c = value.charAt(i);
+            if (matches(c) == keep) {
+                buffer[size++] = c;
+            }
+        }
+        return new String(buffer, 0, size);
+    }
+
+    private static final class Table extends CharMatcher {
+        private final long lo;
+        private final long hi;
+        private final BitSet upper;
+        private final boolean upperNegated;
+
+        private Table(long lo, long hi, BitSet upper, boolean upperNegated) {
+            this.lo = lo;
+            this.hi = hi;
+            this.upper = upper;
+            this.upperNegated = upperNegated;
+        }
+
+        @Override
+        public boolean matches(char c) {
+            if (c < 64) return (lo & (1L << c)) != 0;
+            if (c < 128) return (hi & (1L << (c - 64))) != 0;
+            return (upper != null && upper.get(c)) != upperNegated;
+        }
+
+        @Override
+        public CharMatcher negate() {
+            return new Table(~lo, ~hi, upper, !upperNegated);
+        }
+
+        @Override
+        public CharMatcher and(CharMatcher other) {
+            if (!(other instanceof Table)) return super.and(other);
+            Table that = (Table) other;
+            // a AND b == NOT (NOT a OR NOT b)
+            return ((Table) ((Table) negate()).or(that.negate())).negate();
+        }
+
+        @Override
+        public CharMatcher or(CharMatcher other) {
+            if (!(other instanceof Table)) return super.or(other);
+            Table that = (Table) other;
+            if (!upperNegated && !that.upperNegated) {
+                return new Table(lo | that.lo, hi | that.hi, union(upper, that.upper), false);
+            }
+            // At least one side matches "everything except its set" above ASCII.
+            BitSet excluded;
+            if (upperNegated && that.upperNegated) {
+                excluded = intersection(upper, that.upper);
+            } else {
+                BitSet negatedSet = upperNegated ? upper : that.upper;
+                BitSet plainSet = upperNegated ? that.upper : upper;
+                excluded = difference(negatedSet, plainSet);
+            }
+            return new Table(lo | that.lo, hi | that.hi, excluded, true);
+        }
+
+        private static BitSet union(BitSet a, BitSet b) {
+            if (a == null) return b;
+            if (b == null) return a;
+            BitSet result = (BitSet) a.clone();
+            result.or(b);
+            return result;
+        }
+
+        private static BitSet intersection(BitSet a, BitSet b) {
+            if (a == null || b == null) return null;
+            BitSet result = (BitSet) a.clone();
+            result.and(b);
+            return result.isEmpty() ? null : result;
+        }
+
+        private static BitSet difference(BitSet a, BitSet b) {
+            if (a == null || b == null) return a;
+            BitSet result = (BitSet) a.clone();
+            result.andNot(b);
+            return result.isEmpty() ? null : result;
+        }
+    }
+}
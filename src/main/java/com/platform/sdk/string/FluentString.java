@@ -1,25 +1,19 @@
 package com.platform.sdk.string;
 
-import org.apache.commons.text.StringEscapeUtils;
-import org.xml.sax.InputSource;
-
-import javax.xml.parsers.DocumentBuilderFactory;
-import java.io.StringReader;
+import java.lang.ref.WeakReference;
 import java.nio.charset.StandardCharsets;
 import java.text.Normalizer;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Collections;
-import java.util.LinkedHashMap;
-import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -27,139 +21,248 @@ import java.util.stream.Collectors;
  * string manipulation.
  */
 public final class FluentString {
-    private final String input;
+    private static final CharMatcher ALPHANUMERIC_OR_SPACE = CharMatcher.asciiLetterOrDigit().or(CharMatcher.is(' '));
+    /** The chars {@link String#trim()} removes; a value made only of them is blank. */
+    private static final CharMatcher TRIMMABLE = CharMatcher.inRange('\u0000', ' ');
+
+    private static final int ROPE_MODE = 1;
+
+    // Either the input String itself or, for lightweight instances, a WeakInput.
+    private final Object origin;
     private final String result;
+    private final Rope rope;
+    private final int mode;
+    // StringShape facts about the value; filled in lazily, so racing threads may each resolve the same facts
+    private int shape;
 
     private FluentString(String input, String result) {
-        this.input = input == null ? "" : input;
-        this.result = result == null ? "" : result;
+        this(input == null ? "" : input, result, null, 0, StringShape.UNKNOWN);
+    }
+
+    private FluentString(Object origin, String result, Rope rope, int mode, int shape) {
+        this.origin = origin;
+        this.result = rope != null ? null : result == null ? "" : result;
+        this.rope = rope;
+        this.mode = mode;
+        this.shape = shape;
     }
 
     public static FluentString of(String input) {
         return new FluentString(input, input);
     }
 
+    /**
+     * Creates a lightweight FluentString that does not keep its input strongly reachable.
+     * Every instance derived from it (including the pieces of {@code split()} and
+     * {@code lines()}) only holds the input through a weak reference, so keeping a small
+     * token does not pin a large payload. Once the input has been collected,
+     * {@link #input()} returns an empty string and {@link #isChanged()} compares the
+     * length and hash code recorded at creation.
+     */
+    public static FluentString ofLightweight(String input) {
+        String value = input == null ? "" : input;
+        return new FluentString(new WeakInput(value), value, null, 0, StringShape.UNKNOWN);
+    }
+
+    /**
+     * Creates a FluentString in rope mode: {@code append}, {@code prepend}, {@code wrap},
+     * {@code withPrefix}, {@code withSuffix} and {@code repeat} link chunks into a balanced
+     * rope instead of copying, so long building chains stay linear. The text is flattened
+     * once, when {@link #get()} or an operation that needs the characters is called.
+     */
+    public static FluentString ofRope(String input) {
+        return new FluentString(input == null ? "" : input, input, null, ROPE_MODE, StringShape.UNKNOWN);
+    }
+
     public String get() {
-        return result;
+        return result();
     }
 
     public String input() {
-        return input;
+        if (origin instanceof WeakInput) {
+            String input = ((WeakInput) origin).get();
+            return input == null ? "" : input;
+        }
+        return (String) origin;
+    }
+
+    public boolean isLightweight() {
+        return origin instanceof WeakInput;
+    }
+
+    /** Returns this value as a lightweight instance that no longer pins its input. */
+    public FluentString lightweight() {
+        if (origin instanceof WeakInput) return this;
+        return new FluentString(new WeakInput((String) origin), result, rope, mode, shape);
+    }
+
+    /**
+     * Estimates the bytes kept reachable by this instance alone: the object itself, its
+     * value (String or rope) and, unless lightweight, its input.
+     */
+    public long retainedSizeEstimate() {
+        long size = Footprint.FLUENT_STRING;
+        size += rope != null ? rope.retainedSizeEstimate() : Footprint.of(result);
+        if (origin instanceof WeakInput) {
+            size += Footprint.WEAK_INPUT;
+        } else if (origin != result) {
+            size += Footprint.of((String) origin);
+        }
+        return size;
     }
 
     public String result() {
-        return result;
+        return rope != null ? rope.toString() : result;
+    }
+
+    public boolean isRopeMode() {
+        return (mode & ROPE_MODE) != 0;
     }
 
     @Override
     public String toString() {
-        return result;
+        return result();
     }
 
     // Example transformations
     public FluentString trim() {
-        return new FluentString(input, result.trim());
+        if (skips(StringShape.TRIMMED)) return this;
+        return derive(result().trim(), StringShape.afterTrim(shape));
     }
 
     public FluentString toLowerCase() {
-        return new FluentString(input, result.toLowerCase());
+        if (skips(StringShape.LOWER_CASE)) return this;
+        String value = result();
+        return mapped(value, value.toLowerCase(), StringShape.LOWER_CASE, StringShape.afterLowerCase(shape));
     }
 
     public FluentString toUpperCase() {
-        return new FluentString(input, result.toUpperCase());
+        if (skips(StringShape.UPPER_CASE)) return this;
+        String value = result();
+        return mapped(value, value.toUpperCase(), StringShape.UPPER_CASE, StringShape.afterUpperCase(shape));
     }
 
     public FluentString append(String str) {
-        return new FluentString(input, result + (str == null ? "" : str));
+        if (isRopeMode()) return derive(Rope.concat(toRope(), Rope.of(str)));
+        return derive(result() + (str == null ? "" : str));
     }
 
     public FluentString substring(int beginIndex) {
-        return new FluentString(input, result.substring(beginIndex));
+        return derive(result().substring(beginIndex));
     }
 
     public FluentString substring(int beginIndex, int endIndex) {
-        return new FluentString(input, result.substring(beginIndex, endIndex));
+        return derive(result().substring(beginIndex, endIndex));
+    }
+
+    public StringSlice substringView(int beginIndex) {
+        return StringSlice.of(result()).subSequence(beginIndex);
+    }
+
+    public StringSlice substringView(int beginIndex, int endIndex) {
+        return StringSlice.of(result(), beginIndex, endIndex);
+    }
+
+    public StringSlice trimView() {
+        return StringSlice.of(result()).trim();
     }
 
     public FluentString prepend(String str) {
-        return new FluentString(input, (str == null ? "" : str) + result);
+        if (isRopeMode()) return derive(Rope.concat(Rope.of(str), toRope()));
+        return derive((str == null ? "" : str) + result());
     }
 
     public FluentString replace(String target, String replacement) {
-        return new FluentString(input, result.replace(target, replacement));
+        return derive(result().replace(target, replacement));
     }
 
     public FluentString replaceAll(String regex, String replacement) {
-        return new FluentString(input, result.replaceAll(regex, replacement));
+        return replaceAll(FluentStringPatternCache.get(regex), replacement);
+    }
+
+    public FluentString replaceAll(Pattern pattern, String replacement) {
+        String value = result();
+        long start = FluentTelemetry.start();
+        String replaced = pattern.matcher(value).replaceAll(replacement);
+        FluentTelemetry.operation("replaceAll", pattern.pattern(), start, value.length());
+        return derive(replaced);
     }
 
     public FluentString replaceFirst(String regex, String replacement) {
-        return new FluentString(input, result.replaceFirst(regex, replacement));
+        return replaceFirst(FluentStringPatternCache.get(regex), replacement);
+    }
+
+    public FluentString replaceFirst(Pattern pattern, String replacement) {
+        String value = result();
+        long start = FluentTelemetry.start();
+        String replaced = pattern.matcher(value).replaceFirst(replacement);
+        FluentTelemetry.operation("replaceFirst", pattern.pattern(), start, value.length());
+        return derive(replaced);
     }
 
     public FluentString reverse() {
-        return new FluentString(input, new StringBuilder(result).reverse().toString());
+        return derive(new StringBuilder(result()).reverse().toString());
     }
 
     public FluentString capitalize() {
-        if (result.isEmpty()) return this;
-        return new FluentString(input, Character.toUpperCase(result.charAt(0)) + result.substring(1).toLowerCase());
+        if (result().isEmpty()) return this;
+        return derive(Character.toUpperCase(result().charAt(0)) + result().substring(1).toLowerCase());
     }
 
     public FluentString removeWhitespace() {
-        return new FluentString(input, result.replaceAll("\\s+", ""));
+        return derive(CharMatcher.asciiWhitespace().removeFrom(result()));
     }
 
     public FluentString padLeft(int length, char padChar) {
-        if (result.length() >= length) return this;
+        if (result().length() >= length) return this;
         StringBuilder sb = new StringBuilder();
-        for (int i = result.length(); i < length; i++) {
+        for (int i = result().length(); i < length; i++) {
             sb.append(padChar);
         }
-        sb.append(result);
-        return new FluentString(input, sb.toString());
+        sb.append(result());
+        return derive(sb.toString());
     }
 
     public FluentString padRight(int length, char padChar) {
-        if (result.length() >= length) return this;
-        StringBuilder sb = new StringBuilder(result);
-        for (int i = result.length(); i < length; i++) {
+        if (result().length() >= length) return this;
+        StringBuilder sb = new StringBuilder(result());
+        for (int i = result().length(); i < length; i++) {
             sb.append(padChar);
         }
-        return new FluentString(input, sb.toString());
+        return derive(sb.toString());
     }
 
     public FluentString truncate(int maxLength, String ellipsis) {
-        if (result.length() <= maxLength) return this;
-        return new FluentString(input, result.substring(0, Math.max(0, maxLength - ellipsis.length())) + ellipsis);
+        if (result().length() <= maxLength) return this;
+        return derive(result().substring(0, Math.max(0, maxLength - ellipsis.length())) + ellipsis);
     }
 
     public boolean isEmpty() {
-        return result.isEmpty();
+        return length() == 0;
     }
 
     public boolean isBlank() {
-        return result.trim().isEmpty();
+        return TRIMMABLE.matchesAll(result());
     }
 
     public boolean contains(String str) {
-        return result.contains(str);
+        return result().contains(str);
     }
 
     public boolean startsWith(String prefix) {
-        return result.startsWith(prefix);
+        return result().startsWith(prefix);
     }
 
     public boolean endsWith(String suffix) {
-        return result.endsWith(suffix);
+        return result().endsWith(suffix);
     }
 
     public int length() {
-        return result.length();
+        return rope != null ? rope.length() : result.length();
     }
 
     public Optional<String> toOptional() {
-        return result.isEmpty() ? Optional.empty() : Optional.of(result);
+        return result().isEmpty() ? Optional.empty() : Optional.of(result());
     }
 
     public FluentString orElse(String fallback) {
@@ -171,102 +274,132 @@ public final class FluentString {
     }
 
     public FluentString map(Function<String, String> fn) {
-        return new FluentString(input, fn.apply(result));
+        return derive(fn.apply(result()));
     }
 
     public boolean matches(String regex) {
-        return result.matches(regex);
+        return matches(FluentStringPatternCache.get(regex));
+    }
+
+    public boolean matches(Pattern pattern) {
+        String value = result();
+        long start = FluentTelemetry.start();
+        boolean matches = pattern.matcher(value).matches();
+        FluentTelemetry.operation("matches", pattern.pattern(), start, value.length());
+        return matches;
     }
 
     public Optional<String> extractFirstMatch(String regex) {
-        java.util.regex.Matcher matcher = java.util.regex.Pattern.compile(regex).matcher(result);
+        return extractFirstMatch(FluentStringPatternCache.get(regex));
+    }
+
+    public Optional<String> extractFirstMatch(Pattern pattern) {
+        Matcher matcher = pattern.matcher(result());
         return matcher.find() ? Optional.of(matcher.group()) : Optional.empty();
     }
 
     public List<String> extractAllMatches(String regex) {
+        return extractAllMatches(FluentStringPatternCache.get(regex));
+    }
+
+    public List<String> extractAllMatches(Pattern pattern) {
+        String value = result();
+        long start = FluentTelemetry.start();
         List<String> matches = new ArrayList<>();
-        java.util.regex.Matcher matcher = java.util.regex.Pattern.compile(regex).matcher(result);
+        Matcher matcher = pattern.matcher(value);
         while (matcher.find()) {
             matches.add(matcher.group());
         }
+        FluentTelemetry.operation("extractAllMatches", pattern.pattern(), start, value.length());
         return matches;
     }
 
     public int countMatches(String regex) {
-        java.util.regex.Matcher matcher = java.util.regex.Pattern.compile(regex).matcher(result);
+        return countMatches(FluentStringPatternCache.get(regex));
+    }
+
+    public int countMatches(Pattern pattern) {
+        String value = result();
+        long start = FluentTelemetry.start();
+        Matcher matcher = pattern.matcher(value);
         int count = 0;
         while (matcher.find()) count++;
+        FluentTelemetry.operation("countMatches", pattern.pattern(), start, value.length());
         return count;
     }
 
     public boolean equalsIgnoreCase(String other) {
-        return result.equalsIgnoreCase(other);
+        return result().equalsIgnoreCase(other);
     }
 
     public FluentString wrap(String wrapper) {
-        return new FluentString(input, wrapper + result + wrapper);
+        if (isRopeMode()) {
+            Rope edge = Rope.of(String.valueOf(wrapper));
+            return derive(Rope.concat(Rope.concat(edge, toRope()), edge));
+        }
+        return derive(wrapper + result() + wrapper);
     }
 
     public FluentString withPrefix(String prefix) {
-        return result.startsWith(prefix) ? this : new FluentString(input, prefix + result);
+        if (isRopeMode()) {
+            Rope value = toRope();
+            return value.startsWith(prefix) ? this : derive(Rope.concat(Rope.of(prefix), value));
+        }
+        return result().startsWith(prefix) ? this : derive(prefix + result());
     }
 
     public FluentString withSuffix(String suffix) {
-        return result.endsWith(suffix) ? this : new FluentString(input, result + suffix);
+        if (isRopeMode()) {
+            Rope value = toRope();
+            return value.endsWith(suffix) ? this : derive(Rope.concat(value, Rope.of(suffix)));
+        }
+        return result().endsWith(suffix) ? this : derive(result() + suffix);
     }
 
     public FluentString removeDigits() {
-        return new FluentString(input, result.replaceAll("\\d", ""));
+        return derive(CharMatcher.asciiDigit().removeFrom(result()));
     }
 
     public FluentString removePunctuation() {
-        return new FluentString(input, result.replaceAll("[\\p{Punct}]", ""));
+        return derive(CharMatcher.asciiPunctuation().removeFrom(result()));
     }
 
     public FluentString removeSpecialChars() {
-        return new FluentString(input, result.replaceAll("[^a-zA-Z0-9 ]", ""));
+        return derive(ALPHANUMERIC_OR_SPACE.retainFrom(result()));
     }
 
     public FluentString capitalizeWords() {
-        String[] words = result.trim().split("\\s+");
-        StringBuilder sb = new StringBuilder();
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                sb.append(Character.toUpperCase(word.charAt(0)))
-                        .append(word.substring(1).toLowerCase())
-                        .append(" ");
-            }
-        }
-        return new FluentString(input, sb.toString().trim());
+        return derive(WordOperations.capitalizeWords(result()));
     }
 
     public FluentString snakeCase() {
-        return new FluentString(input, result.trim().toLowerCase().replaceAll("\\s+", "_"));
+        return derive(CaseFormat.SNAKE.convert(result()));
     }
 
     public FluentString kebabCase() {
-        return new FluentString(input, result.trim().toLowerCase().replaceAll("\\s+", "-"));
+        return derive(CaseFormat.KEBAB.convert(result()));
     }
 
     public FluentString camelCase() {
-        String[] parts = result.toLowerCase().split("\\s+");
-        StringBuilder sb = new StringBuilder(parts[0]);
-        for (int i = 1; i < parts.length; i++) {
-            if (parts[i].length() > 0) {
-                sb.append(Character.toUpperCase(parts[i].charAt(0)))
-                        .append(parts[i].substring(1));
-            }
-        }
-        return new FluentString(input, sb.toString());
+        return derive(CaseFormat.CAMEL.convert(result()));
+    }
+
+    public FluentString pascalCase() {
+        return derive(CaseFormat.PASCAL.convert(result()));
+    }
+
+    public FluentString constantCase() {
+        return derive(CaseFormat.CONSTANT.convert(result()));
     }
 
     public FluentString repeat(int times) {
-        if (times <= 0) return new FluentString(input, "");
+        if (times <= 0) return derive("");
+        if (isRopeMode()) return derive(Rope.repeat(toRope(), times));
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < times; i++) {
-            sb.append(result);
+            sb.append(result());
         }
-        return new FluentString(input, sb.toString());
+        return derive(sb.toString());
     }
 
     public FluentString indent(int spaces) {
@@ -274,48 +407,47 @@ public final class FluentString {
         for (int i = 0; i < spaces; i++) {
             sb.append(' ');
         }
-        return new FluentString(input, sb + result);
+        return derive(sb + result());
     }
 
     public FluentString clean() {
-        return new FluentString(input, result.replaceAll("[^a-zA-Z0-9 ]", "").trim());
+        return derive(ALPHANUMERIC_OR_SPACE.retainFrom(result()).trim(), StringShape.cleaned());
     }
 
     public FluentString center(int width, char padChar) {
-        if (result.length() >= width) return this;
-        int totalPadding = width - result.length();
+        if (result().length() >= width) return this;
+        int totalPadding = width - result().length();
         int paddingLeft = totalPadding / 2;
         int paddingRight = totalPadding - paddingLeft;
         StringBuilder sb = new StringBuilder();
         for (int i = 0; i < paddingLeft; i++) sb.append(padChar);
-        sb.append(result);
+        sb.append(result());
         for (int i = 0; i < paddingRight; i++) sb.append(padChar);
-        return new FluentString(input, sb.toString());
+        return derive(sb.toString());
     }
 
     public FluentString escapeHtml() {
-        return new FluentString(input, StringEscapeUtils.escapeHtml4(result));
+        return derive(TextEscaper.HTML4.escape(result()));
     }
 
     public FluentString escapeXml() {
-        return new FluentString(input, StringEscapeUtils.escapeXml11(result));
+        return derive(TextEscaper.XML11.escape(result()));
+    }
+
+    public FluentString escapeJson() {
+        return derive(TextEscaper.JSON.escape(result()));
     }
 
     public FluentString unescapeHtml() {
-        return new FluentString(input, StringEscapeUtils.unescapeHtml4(result));
+        return derive(TextUnescaper.HTML4.unescape(result()));
     }
 
     public FluentString unescapeXml() {
-        return new FluentString(input, StringEscapeUtils.unescapeXml(result));
+        return derive(TextUnescaper.XML.unescape(result()));
     }
 
     public FluentString getInitials() {
-        String[] parts = result.trim().split("\\s+");
-        StringBuilder sb = new StringBuilder();
-        for (String part : parts) {
-            if (!part.isEmpty()) sb.append(Character.toUpperCase(part.charAt(0)));
-        }
-        return new FluentString(input, sb.toString());
+        return derive(WordOperations.initials(result()));
     }
 
     public static FluentString join(List<String> strings, String delimiter) {
@@ -324,7 +456,8 @@ public final class FluentString {
     }
 
     public FluentString normalize() {
-        return new FluentString(input, Normalizer.normalize(result, Normalizer.Form.NFC));
+        if (skips(StringShape.NFC)) return this;
+        return derive(Normalizer.normalize(result(), Normalizer.Form.NFC), StringShape.afterNormalize(shape));
     }
 
     public FluentString padCenter(int length, char padChar) {
@@ -332,21 +465,65 @@ public final class FluentString {
     }
 
     public List<FluentString> split(String regex) {
-        String[] parts = result.split(regex);
+        String value = result();
+        long start = FluentTelemetry.start();
+        String[] parts = FluentStringPatternCache.split(value, regex, 0);
+        FluentTelemetry.operation("split", regex, start, value.length());
+        return pieces(parts);
+    }
+
+    public List<FluentString> split(Pattern pattern) {
+        String value = result();
+        long start = FluentTelemetry.start();
+        String[] parts = pattern.split(value);
+        FluentTelemetry.operation("split", pattern.pattern(), start, value.length());
+        return pieces(parts);
+    }
+
+    private List<FluentString> pieces(String[] parts) {
         List<FluentString> list = new ArrayList<>();
         for (String part : parts) {
-            list.add(new FluentString(input, part));
+            list.add(derive(part));
         }
         return list;
     }
 
+    public List<StringSlice> splitViews(String regex) {
+        return splitViews(FluentStringPatternCache.get(regex));
+    }
+
+    /**
+     * Same pieces as {@link #split(Pattern)}, returned as views over this value
+     * instead of copied Strings wrapped in new FluentString instances.
+     */
+    public List<StringSlice> splitViews(Pattern pattern) {
+        String value = result();
+        List<StringSlice> parts = new ArrayList<>();
+        Matcher matcher = pattern.matcher(value);
+        int index = 0;
+        while (matcher.find()) {
+            if (matcher.end() == 0) continue; // no leading empty piece for a zero-width match at the start
+            parts.add(StringSlice.of(value, index, matcher.start()));
+            index = matcher.end();
+        }
+        if (index == 0) {
+            return new ArrayList<>(Collections.singletonList(StringSlice.of(value)));
+        }
+        parts.add(StringSlice.of(value, index, value.length()));
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            parts.remove(--size);
+        }
+        return parts;
+    }
+
     public FluentString startCase() {
         return capitalizeWords();
     }
 
     public FluentString stripAccents() {
-        String normalized = Normalizer.normalize(result, Normalizer.Form.NFD);
-        return new FluentString(input, normalized.replaceAll("\\p{InCombiningDiacriticalMarks}+", ""));
+        if (skips(StringShape.ASCII)) return this;
+        return derive(AccentFolding.stripAccents(result()));
     }
 
     public FluentString ifBlank(String fallback) {
@@ -358,38 +535,42 @@ public final class FluentString {
     }
 
     public boolean isAlpha() {
-        return result.matches("[a-zA-Z]+");
+        return !result().isEmpty() && CharMatcher.asciiLetter().matchesAll(result());
     }
 
     public boolean isNumeric() {
-        return result.matches("\\d+");
+        return !result().isEmpty() && CharMatcher.asciiDigit().matchesAll(result());
     }
 
     public boolean isAlphaNumeric() {
-        return result.matches("[a-zA-Z0-9]+");
+        return !result().isEmpty() && CharMatcher.asciiLetterOrDigit().matchesAll(result());
     }
 
     public boolean isEmail() {
-        return result.matches("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$");
+        return matches("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$");
     }
 
     public boolean isXml() {
-        try {
-            DocumentBuilderFactory.newInstance()
-                    .newDocumentBuilder()
-                    .parse(new InputSource(new StringReader(result)));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return XmlWellFormedness.check(result());
     }
 
     public FluentString removeNonAlphaNumeric() {
-        return new FluentString(input, result.replaceAll("[^a-zA-Z0-9]", ""));
+        return derive(CharMatcher.asciiLetterOrDigit().retainFrom(result()));
     }
 
     public List<FluentString> words() {
-        return split("\\s+");
+        List<FluentString> list = new ArrayList<>();
+        for (String word : WordOperations.words(result())) {
+            list.add(derive(word));
+        }
+        return list;
+    }
+
+    public List<StringSlice> wordViews() {
+        String value = result();
+        List<StringSlice> words = new ArrayList<>();
+        WordTokenizer.forEach(value, (start, end) -> words.add(StringSlice.of(value, start, end)));
+        return words;
     }
 
     public static FluentString format(String pattern, Object... args) {
@@ -401,27 +582,27 @@ public final class FluentString {
     }
 
     public FluentString peek(Consumer<String> consumer) {
-        consumer.accept(result);
+        consumer.accept(result());
         return this;
     }
 
     public Optional<FluentString> filter(Predicate<String> predicate) {
-        return predicate.test(result) ? Optional.of(this) : Optional.empty();
+        return predicate.test(result()) ? Optional.of(this) : Optional.empty();
     }
 
     public FluentString validate(Predicate<String> predicate, String errorMessage) {
-        if (!predicate.test(result)) {
+        if (!predicate.test(result())) {
             throw new IllegalArgumentException(errorMessage);
         }
         return this;
     }
 
     public FluentString ifCondition(Predicate<String> predicate, Function<String, String> fn) {
-        return predicate.test(result) ? new FluentString(input, fn.apply(result)) : this;
+        return predicate.test(result()) ? derive(fn.apply(result())) : this;
     }
 
     public boolean isPalindrome() {
-        String cleaned = result.replaceAll("[\\W_]", "").toLowerCase();
+        String cleaned = CharMatcher.asciiLetterOrDigit().retainFrom(result()).toLowerCase();
         return new StringBuilder(cleaned).reverse().toString().equals(cleaned);
     }
 
@@ -430,24 +611,15 @@ public final class FluentString {
     }
 
     public FluentString toTitleCase(Locale locale) {
-        String[] words = result.split("\\s+");
-        StringBuilder sb = new StringBuilder();
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                String firstChar = word.substring(0, 1).toUpperCase(locale);
-                String rest = word.substring(1).toLowerCase(locale);
-                sb.append(firstChar).append(rest).append(" ");
-            }
-        }
-        return new FluentString(input, sb.toString().trim());
+        return derive(WordOperations.toTitleCase(result(), locale));
     }
 
     public int compareIgnoreCase(String other, Locale locale) {
-        return result.toLowerCase(locale).compareTo(other.toLowerCase(locale));
+        return result().toLowerCase(locale).compareTo(other.toLowerCase(locale));
     }
 
     public FluentStringBuilder toBuilder() {
-        return FluentStringBuilder.start().append(this.result);
+        return FluentStringBuilder.start().append(result());
     }
 
     public static FluentStringBuilder builder() {
@@ -459,24 +631,24 @@ public final class FluentString {
     }
 
     public FluentString apply(FluentStringPlugin plugin) {
-        return new FluentString(input, plugin.apply(result));
+        return derive(plugin.apply(result()));
     }
 
     public FluentString toBase64() {
-        return new FluentString(input,
-                java.util.Base64.getEncoder().encodeToString(result.getBytes(StandardCharsets.UTF_8))
+        return derive(
+                java.util.Base64.getEncoder().encodeToString(result().getBytes(StandardCharsets.UTF_8))
         );
     }
 
     public FluentString fromBase64() {
-        byte[] decoded = java.util.Base64.getDecoder().decode(result);
-        return new FluentString(input, new String(decoded, StandardCharsets.UTF_8));
+        byte[] decoded = java.util.Base64.getDecoder().decode(result());
+        return derive(new String(decoded, StandardCharsets.UTF_8));
     }
 
     public FluentString urlEncode() {
         try {
-            return new FluentString(input,
-                    java.net.URLEncoder.encode(result, StandardCharsets.UTF_8.toString())
+            return derive(
+                    java.net.URLEncoder.encode(result(), StandardCharsets.UTF_8.toString())
             );
         } catch (Exception e) {
             throw new RuntimeException("URL encoding failed", e);
@@ -485,8 +657,8 @@ public final class FluentString {
 
     public FluentString urlDecode() {
         try {
-            return new FluentString(input,
-                    java.net.URLDecoder.decode(result, StandardCharsets.UTF_8.toString())
+            return derive(
+                    java.net.URLDecoder.decode(result(), StandardCharsets.UTF_8.toString())
             );
         } catch (Exception e) {
             throw new RuntimeException("URL decoding failed", e);
@@ -494,20 +666,24 @@ public final class FluentString {
     }
 
     public List<FluentString> lines() {
-        String[] split = result.split("\\R"); // handles all line breaks
+        String[] split = FluentStringPatternCache.get("\\R").split(result()); // handles all line breaks
         List<FluentString> list = new ArrayList<>();
         for (String line : split) {
-            list.add(new FluentString(input, line));
+            list.add(derive(line));
         }
         return list;
     }
 
+    public List<StringSlice> lineViews() {
+        return splitViews(FluentStringPatternCache.get("\\R"));
+    }
+
     public int lineCount() {
         return lines().size();
     }
 
     public FluentString removeBlankLines() {
-        return new FluentString(input,
+        return derive(
                 lines().stream()
                         .map(FluentString::get)
                         .filter(line -> !line.trim().isEmpty())
@@ -516,17 +692,17 @@ public final class FluentString {
     }
 
     public boolean hasLength(int expectedLength) {
-        return result.length() == expectedLength;
+        return result().length() == expectedLength;
     }
 
     public boolean hasOnlyWhitespace() {
-        return !result.isEmpty() && result.trim().isEmpty();
+        return !result().isEmpty() && TRIMMABLE.matchesAll(result());
     }
 
     public int countOccurrences(String substring) {
         if (substring == null || substring.isEmpty()) return 0;
         int count = 0, index = 0;
-        while ((index = result.indexOf(substring, index)) != -1) {
+        while ((index = result().indexOf(substring, index)) != -1) {
             count++;
             index += substring.length();
         }
@@ -534,32 +710,32 @@ public final class FluentString {
     }
 
     public boolean isUpperCase() {
-        return !result.isEmpty() && result.equals(result.toUpperCase());
+        return !result().isEmpty() && has(StringShape.UPPER_CASE);
     }
 
     public boolean isLowerCase() {
-        return !result.isEmpty() && result.equals(result.toLowerCase());
+        return !result().isEmpty() && has(StringShape.LOWER_CASE);
+    }
+
+    public boolean isAscii() {
+        return has(StringShape.ASCII);
+    }
+
+    public boolean isTrimmed() {
+        return has(StringShape.TRIMMED);
+    }
+
+    public boolean isNfc() {
+        return has(StringShape.NFC);
     }
 
     public FluentString toSlug() {
-        return new FluentString(input,
-                result.toLowerCase()
-                        .replaceAll("[^a-z0-9\\s]", "")
-                        .replaceAll("\\s+", "-")
-                        .replaceAll("-{2,}", "-")
-                        .replaceAll("^-|-$", "")
-        );
+        return derive(AccentFolding.toSlug(result()), StringShape.slug());
     }
 
     public FluentString keepOnly(String allowedChars) {
-        if (allowedChars == null || allowedChars.isEmpty()) return new FluentString(input, "");
-        StringBuilder sb = new StringBuilder();
-        for (char c : result.toCharArray()) {
-            if (allowedChars.indexOf(c) >= 0) {
-                sb.append(c);
-            }
-        }
-        return new FluentString(input, sb.toString());
+        if (allowedChars == null || allowedChars.isEmpty()) return derive("");
+        return derive(CharMatcher.anyOf(allowedChars).retainFrom(result()));
     }
 
     public String getCharFrequency() {
@@ -574,106 +750,150 @@ public final class FluentString {
                 .collect(Collectors.joining(",", "{", "}"));
     }
 
+    public CharFrequency charFrequency() {
+        return CharFrequency.of(result());
+    }
+
+    public CharFrequency charFrequencyIgnoreCase() {
+        return CharFrequency.ofIgnoreCase(result());
+    }
+
+    public WordFrequency wordFrequency() {
+        return WordFrequency.of(result());
+    }
+
+    public WordFrequency wordFrequencyIgnoreCase() {
+        return WordFrequency.ofIgnoreCase(result());
+    }
+
+    /** Parallel variants of the frequency and counting methods, for texts of several megabytes. */
+    public ParallelTextAnalyzer parallel() {
+        return ParallelTextAnalyzer.of(result());
+    }
+
     public Map<Character, Integer> getCharFrequencyCaseSensitive() {
-        Map<Character, Integer> frequencyMap = new LinkedHashMap<>();
-        for (char c : result.toCharArray()) {
-            frequencyMap.put(c, frequencyMap.getOrDefault(c, 0) + 1);
-        }
-        return frequencyMap;
+        return charFrequency().toMap();
     }
 
     public Map<String, Integer> getWordFrequencyCaseSensitive() {
-        Map<String, Integer> wordFreq = new LinkedHashMap<>();
-        String[] words = result.trim().split("\\s+"); // No toLowerCase
-        for (String word : words) {
-            wordFreq.put(word, wordFreq.getOrDefault(word, 0) + 1);
-        }
-        return wordFreq;
+        return wordFrequency().toMap();
     }
 
     public Map<Character, Integer> getCharFrequencyIgnoreCase() {
-        Map<Character, Integer> frequencyMap = new LinkedHashMap<>();
-        for (char c : result.toLowerCase().toCharArray()) {
-            frequencyMap.put(c, frequencyMap.getOrDefault(c, 0) + 1);
-        }
-        return frequencyMap;
+        return charFrequencyIgnoreCase().toMap();
     }
 
     public Map<String, Integer> getWordFrequencyIgnoreCase() {
-        Map<String, Integer> wordFreq = new LinkedHashMap<>();
-        String[] words = result.trim().toLowerCase().split("\\s+");
-        for (String word : words) {
-            wordFreq.put(word, wordFreq.getOrDefault(word, 0) + 1);
-        }
-        return wordFreq;
+        return wordFrequencyIgnoreCase().toMap();
     }
 
 
     public boolean isChanged() {
-        return !input.equals(result);
+        if (origin instanceof WeakInput) {
+            return ((WeakInput) origin).differsFrom(result());
+        }
+        return !origin.equals(result());
     }
 
     public FluentString debug() {
-        System.out.println("Input: " + input + " | Result: " + result);
+        System.out.println("Input: " + input() + " | Result: " + result());
         return this;
     }
 
     public FluentString safe(Function<String, String> fn) {
         try {
-            return new FluentString(input, fn.apply(result));
+            return derive(fn.apply(result()));
         } catch (Exception e) {
             return this;
         }
     }
 
     public FluentString reverseWords() {
-        String[] words = result.trim().split("\\s+");
-        List<String> wordList = Arrays.asList(words);
-        Collections.reverse(wordList);
-        return new FluentString(input, String.join(" ", wordList));
+        return derive(WordOperations.reverseWords(result()));
     }
 
     public FluentString titleCase() {
-        String[] words = result.trim().split("\\s+");
-        StringBuilder sb = new StringBuilder();
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                sb.append(Character.toUpperCase(word.charAt(0)))
-                        .append(word.substring(1).toLowerCase())
-                        .append(" ");
-            }
-        }
-        return new FluentString(input, sb.toString().trim());
+        return derive(WordOperations.capitalizeWords(result()));
     }
 
     public FluentString removeDuplicateWords() {
-        Set<String> seen = new LinkedHashSet<>();
-        StringBuilder sb = new StringBuilder();
-        for (String word : result.trim().split("\\s+")) {
-            if (seen.add(word)) {
-                sb.append(word).append(" ");
-            }
-        }
-        return new FluentString(input, sb.toString().trim());
+        return derive(WordOperations.removeDuplicateWords(result()));
     }
 
     public int wordCount() {
-        if (result.trim().isEmpty()) return 0;
-        return result.trim().split("\\s+").length;
+        return WordTokenizer.count(result());
     }
 
     public int charCount() {
-        return result.replaceAll("\\s+", "").length();
+        return result().length() - CharMatcher.asciiWhitespace().countIn(result());
     }
 
     public FluentString truncateWords(int n) {
-        if (n <= 0) return new FluentString(input, "");
-        String[] words = result.trim().split("\\s+");
-        if (words.length <= n) return this;
-        return new FluentString(input, String.join(" ", Arrays.copyOfRange(words, 0, n)));
+        return derive(WordOperations.truncateWords(result(), n));
     }
 
     public FluentStringParser convert() {
-        return new FluentStringParser(this.result);
+        return new FluentStringParser(result());
+    }
+
+    private FluentString derive(String value) {
+        return derive(value, StringShape.UNKNOWN);
+    }
+
+    private FluentString derive(String value, int shape) {
+        return value == result ? this : new FluentString(origin, value, null, mode, shape);
+    }
+
+    private FluentString derive(Rope value) {
+        return new FluentString(origin, null, value, mode, StringShape.UNKNOWN);
+    }
+
+    private boolean has(int fact) {
+        int resolved = StringShape.resolve(shape, result(), fact);
+        shape = resolved;
+        return StringShape.holds(resolved, fact);
+    }
+
+    /**
+     * Result of the operation establishing {@code fact}: this instance, now known to have
+     * the fact, if the operation returned {@code value} itself.
+     */
+    private FluentString mapped(String value, String mapped, int fact, int mappedShape) {
+        if (mapped != value) return derive(mapped, mappedShape);
+        shape = StringShape.unchanged(shape, fact);
+        return this;
+    }
+
+    /**
+     * True, and counted as a skip, when {@code fact} already makes the operation a no-op.
+     * A fact {@link StringShape#resolvedByMapping resolved by the mapping} is not looked up
+     * here; only an already known one skips.
+     */
+    private boolean skips(int fact) {
+        boolean holds = StringShape.resolvedByMapping(fact) ? StringShape.holds(shape, fact) : has(fact);
+        if (!holds) return false;
+        StringShape.recordSkip();
+        return true;
+    }
+
+    private Rope toRope() {
+        return rope != null ? rope : Rope.of(result);
+    }
+
+    private static final class WeakInput extends WeakReference<String> {
+        private final int length;
+        private final int hash;
+
+        private WeakInput(String input) {
+            super(input);
+            this.length = input.length();
+            this.hash = input.hashCode();
+        }
+
+        private boolean differsFrom(String value) {
+            String input = get();
+            if (input != null) return !input.equals(value);
+            return length != value.length() || hash != value.hashCode();
+        }
     }
 }
@@ -39,7 +39,7 @@ public class FluentStringAssertions {
     }
 
     public FluentStringAssertions assertMatches(String regex, String message) {
-        if (!fluentString.get().matches(regex)) {
+        if (!fluentString.matches(regex)) {
             throw new IllegalArgumentException(message);
         }
         return this;
@@ -8,10 +8,14 @@ import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 /**
- * Utility class for safe type conversion from String.
+ * Utility class for safe type conversion from String. Conversions that find no value
+ * are reported through {@link FluentTelemetry}.
  */
 public class FluentStringParser {
 
+    /** What {@link #parseInt} returns for a source that is not an int; outside the int range. */
+    private static final long NOT_AN_INT = Long.MIN_VALUE;
+
     private final String source;
 
     public FluentStringParser(String source) {
@@ -19,17 +23,33 @@ public class FluentStringParser {
     }
 
     public Optional<Integer> toInt() {
-        try {
-            return Optional.of(Integer.parseInt(source));
-        } catch (NumberFormatException e) {
+        long value = parseInt(source);
+        if (value == NOT_AN_INT) {
+            FluentTelemetry.parseFailure("int", source.length());
             return Optional.empty();
         }
+        return Optional.of((int) value);
+    }
+
+    /**
+     * The source as an int, or {@code defaultValue} if it is not one. Accepts what
+     * {@link Integer#parseInt(String)} accepts, but allocates nothing and throws nothing,
+     * for hot paths that parse many values.
+     */
+    public int toInt(int defaultValue) {
+        long value = parseInt(source);
+        if (value == NOT_AN_INT) {
+            FluentTelemetry.parseFailure("int", source.length());
+            return defaultValue;
+        }
+        return (int) value;
     }
 
     public Optional<Long> toLong() {
         try {
             return Optional.of(Long.parseLong(source));
         } catch (NumberFormatException e) {
+            FluentTelemetry.parseFailure("long", source.length());
             return Optional.empty();
         }
     }
@@ -38,6 +58,7 @@ public class FluentStringParser {
         try {
             return Optional.of(Double.parseDouble(source));
         } catch (NumberFormatException e) {
+            FluentTelemetry.parseFailure("double", source.length());
             return Optional.empty();
         }
     }
@@ -46,6 +67,7 @@ public class FluentStringParser {
         try {
             return Optional.of(Float.parseFloat(source));
         } catch (NumberFormatException e) {
+            FluentTelemetry.parseFailure("float", source.length());
             return Optional.empty();
         }
     }
@@ -54,6 +76,7 @@ public class FluentStringParser {
         try {
             return Optional.of(new BigDecimal(source));
         } catch (NumberFormatException e) {
+            FluentTelemetry.parseFailure("decimal", source.length());
             return Optional.empty();
         }
     }
@@ -62,6 +85,7 @@ public class FluentStringParser {
         String s = source.toLowerCase();
         if ("true".equals(s)) return Optional.of(true);
         if ("false".equals(s)) return Optional.of(false);
+        FluentTelemetry.parseFailure("boolean", source.length());
         return Optional.empty();
     }
 
@@ -71,15 +95,15 @@ public class FluentStringParser {
 
     public Optional<List<String>> toList(String delimiter) {
         if (source.isEmpty()) return Optional.empty();
-        return Optional.of(Arrays.asList(source.split(delimiter)));
+        return Optional.of(Arrays.asList(FluentStringPatternCache.split(source, delimiter, 0)));
     }
 
     public Optional<Map<String, String>> toMap(String entryDelimiter, String kvDelimiter) {
         if (source.isEmpty()) return Optional.empty();
         Map<String, String> map = new LinkedHashMap<>();
-        String[] entries = source.split(entryDelimiter);
+        String[] entries = FluentStringPatternCache.split(source, entryDelimiter, 0);
         for (String entry : entries) {
-            String[] kv = entry.split(kvDelimiter, 2);
+            String[] kv = FluentStringPatternCache.split(entry, kvDelimiter, 2);
             if (kv.length == 2) {
                 map.put(kv[0].trim(), kv[1].trim());
             }
@@ -91,6 +115,7 @@ public class FluentStringParser {
         try {
             return Optional.of(Enum.valueOf(enumClass, source.toUpperCase()));
         } catch (IllegalArgumentException e) {
+            FluentTelemetry.parseFailure("enum", source.length());
             return Optional.empty();
         }
     }
@@ -100,6 +125,7 @@ public class FluentStringParser {
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
             return Optional.of(LocalDate.parse(source, formatter));
         } catch (Exception e) {
+            FluentTelemetry.parseFailure("date", source.length());
             return Optional.empty();
         }
     }
@@ -109,6 +135,7 @@ public class FluentStringParser {
             DateTimeFormatter formatter = DateTimeFormatter.ofPattern(pattern);
             return Optional.of(LocalDateTime.parse(source, formatter));
         } catch (Exception e) {
+            FluentTelemetry.parseFailure("datetime", source.length());
             return Optional.empty();
         }
     }
@@ -117,12 +144,13 @@ public class FluentStringParser {
         try {
             return Optional.of(Instant.parse(source));
         } catch (Exception e) {
+            FluentTelemetry.parseFailure("instant", source.length());
             return Optional.empty();
         }
     }
 
     public boolean isNumeric() {
-        return source.matches("-?\\d+(\\.\\d+)?");
+        return FluentStringPatternCache.get("-?\\d+(\\.\\d+)?").matcher(source).matches();
     }
 
     public boolean isBoolean() {
@@ -137,4 +165,23 @@ public class FluentStringParser {
             return false;
         }
     }
+
+    /** Parses {@code s} as {@link Integer#parseInt(String)} does, returning {@link #NOT_AN_INT} where it would throw. */
+    private static long parseInt(String s) {
+        int length = s.length();
+        if (length == 0) return NOT_AN_INT;
+        char first = s.charAt(0);
+        boolean negative = first == '-';
+        int i = negative || first == '+' ? 1 : 0;
+        if (i == length) return NOT_AN_INT;
+        long limit = negative ? -(long) Integer.MIN_VALUE : Integer.MAX_VALUE;
+        long value = 0;
+        for (; i < length; i++) {
+            int digit = Character.digit(s.charAt(i), 10);
+            if (digit < 0) return NOT_AN_INT;
+            value = value * 10 + digit;
+            if (value > limit) return NOT_AN_INT;
+        }
+        return negative ? -value : value;
+    }
 }
@@ -0,0 +1,179 @@
+package com.platform.sdk.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * Library-wide, thread-safe and size-bounded cache of compiled regular expressions.
+ * Every regex-taking method of FluentString and FluentStringStream resolves its
+ * Pattern through this cache, so a regex is compiled once instead of on every call.
+ * Misses and the compilations they cause are reported through {@link FluentTelemetry}.
+ * <p>
+ * A hit writes shared state at most once between two misses: the counters are
+ * {@link LongAdder}s and recency is approximate. The clock only advances on a miss,
+ * and a hit stamps its entry with the current clock only if the stamp is older, so
+ * patterns used since the last miss rank alike, above everything used before it. When
+ * the cache is full, a miss evicts the least recently used eighth of it in one pass;
+ * while one thread evicts, others go on without waiting, so the cache may briefly hold
+ * a few more than {@link #maxSize()} patterns.
+ */
+public final class FluentStringPatternCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final ConcurrentHashMap<String, Entry> CACHE = new ConcurrentHashMap<>();
+    // advanced by 2 per miss: a new entry gets an even stamp, a hit the odd one after it
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+    private static final ReentrantLock EVICTION_LOCK = new ReentrantLock();
+
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private FluentStringPatternCache() {
+    }
+
+    public static Pattern get(String regex) {
+        if (regex == null) {
+            throw new NullPointerException("regex");
+        }
+        Entry entry = CACHE.get(regex);
+        if (entry != null) {
+            HITS.increment();
+            long now = CLOCK.get() + 1;
+            if (entry.lastAccess != now) {
+                entry.lastAccess = now;
+            }
+            return entry.pattern;
+        }
+        MISSES.increment();
+        FluentTelemetry.cacheMiss("pattern", regex);
+        long start = System.nanoTime();
+        Pattern pattern = Pattern.compile(regex);
+        FluentTelemetry.regexCompiled(regex, System.nanoTime() - start);
+        Entry created = new Entry(pattern, CLOCK.addAndGet(2));
+        Entry existing = CACHE.putIfAbsent(regex, created);
+        if (existing != null) {
+            return existing.pattern;
+        }
+        if (CACHE.size() > maxSize && EVICTION_LOCK.tryLock()) {
+            try {
+                evict();
+            } finally {
+                EVICTION_LOCK.unlock();
+            }
+        }
+        return created.pattern;
+    }
+
+    /**
+     * Splits {@code input} as {@code input.split(regex, limit)} does. A delimiter that
+     * {@link String#split} takes as a literal (one char that is not a regex
+     * metacharacter, or a backslash and one char that is not a letter or digit) keeps
+     * its non-regex fast path; any other regex goes through the cache.
+     */
+    public static String[] split(String input, String regex, int limit) {
+        if (isLiteralDelimiter(regex)) {
+            return input.split(regex, limit);
+        }
+        return get(regex).split(input, limit);
+    }
+
+    /** The delimiters for which {@link String#split} skips the regex engine. */
+    static boolean isLiteralDelimiter(String regex) {
+        if (regex.length() == 1) {
+            return ".$|()[{^?*+\\".indexOf(regex.charAt(0)) < 0;
+        }
+        if (regex.length() == 2 && regex.charAt(0) == '\\') {
+            char c = regex.charAt(1);
+            return (c < '0' || c > '9') && (c < 'a' || c > 'z') && (c < 'A' || c > 'Z') && !Character.isSurrogate(c);
+        }
+        return false;
+    }
+
+    public static long hitCount() {
+        return HITS.sum();
+    }
+
+    public static long missCount() {
+        return MISSES.sum();
+    }
+
+    public static long evictionCount() {
+        return EVICTIONS.sum();
+    }
+
+    public static int size() {
+        return CACHE.size();
+    }
+
+    public static int maxSize() {
+        return maxSize;
+    }
+
+    public static void setMaxSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Max size must be positive, but was " + size);
+        }
+        maxSize = size;
+        EVICTION_LOCK.lock();
+        try {
+            evict();
+        } finally {
+            EVICTION_LOCK.unlock();
+        }
+    }
+
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    public static void resetStatistics() {
+        HITS.reset();
+        MISSES.reset();
+        EVICTIONS.reset();
+    }
+
+    /** Evicts the least recently used patterns down to 7/8 of the max size; called holding the eviction lock. */
+    private static void evict() {
+        int max = maxSize;
+        if (CACHE.size() <= max) {
+            return;
+        }
+        // stamps are read once: hits keep changing them, and a sort needs a stable order
+        List<Map.Entry<String, Entry>> entries = new ArrayList<>(CACHE.entrySet());
+        long[] stamps = new long[entries.size()];
+        for (int i = 0; i < stamps.length; i++) {
+            stamps[i] = entries.get(i).getValue().lastAccess;
+        }
+        int excess = stamps.length - (max - max / 8);
+        long[] sorted = stamps.clone();
+        Arrays.sort(sorted);
+        long cutoff = sorted[excess - 1];
+        for (int i = 0; i < stamps.length && excess > 0; i++) {
+            Map.Entry<String, Entry> e = entries.get(i);
+            if (stamps[i] <= cutoff && CACHE.remove(e.getKey(), e.getValue())) {
+                EVICTIONS.increment();
+                excess--;
+            }
+        }
+    }
+
+    private static final class Entry {
+        private final Pattern pattern;
+        private volatile long lastAccess;
+
+        private Entry(Pattern pattern, long lastAccess) {
+            this.pattern = pattern;
+            this.lastAccess = lastAccess;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.platform.sdk.string;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * What the library reports about its own work: operations slower than
+ * {@link #setSlowOperationThreshold the slow threshold}, inputs longer than
+ * {@link #setLargeInputThreshold the large threshold}, regex compilations, pattern cache
+ * misses and parse failures. Each is reported to the {@link MetricsRegistry} and, on
+ * Java 11 and later while a Flight Recorder recording is running, as a JFR event in the
+ * "FluentString" category:
+ * <pre>
+ * fluentstring.operation.nanos.&lt;operation&gt;   histogram, every timed operation
+ * fluentstring.operation.slow                counter
+ * fluentstring.input.large                   counter
+ * fluentstring.regex.compile.nanos           histogram
+ * fluentstring.cache.miss.&lt;cache&gt;            counter
+ * fluentstring.parse.failure.&lt;type&gt;          counter
+ * </pre>
+ * Timed operations are FluentString's regex methods, {@code FluentStringStream.collect()}
+ * and {@code FluentPipeline.apply}. With no registry and no recording nothing is timed:
+ * each of them costs two volatile reads.
+ * <p>
+ * Parsed text is never reported, neither in metric names nor in events: a parse failure
+ * carries the target type and the input length only.
+ * <p>
+ * Defaults can be set with the system properties {@value #SLOW_THRESHOLD_PROPERTY}
+ * (milliseconds) and {@value #LARGE_THRESHOLD_PROPERTY} (chars).
+ */
+public final class FluentTelemetry {
+
+    public static final String SLOW_THRESHOLD_PROPERTY = "fluentstring.telemetry.slowThresholdMillis";
+    public static final String LARGE_THRESHOLD_PROPERTY = "fluentstring.telemetry.largeInputChars";
+
+    private static final MetricsRegistry NOOP = new MetricsRegistry() {
+        @Override
+        public Counter counter(String name) {
+            return amount -> { };
+        }
+
+        @Override
+        public Histogram histogram(String name) {
+            return value -> { };
+        }
+    };
+
+    private static final ConcurrentHashMap<String, MetricsRegistry.Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, MetricsRegistry.Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+
+    private static volatile MetricsRegistry registry = loadRegistry();
+    private static volatile long slowThresholdNanos = Duration.ofMillis(Long.getLong(SLOW_THRESHOLD_PROPERTY, 10)).toNanos();
+    private static volatile int largeInputThreshold = Integer.getInteger(LARGE_THRESHOLD_PROPERTY, 1 << 20);
+
+    private FluentTelemetry() {
+    }
+
+    /** Reports to {@code registry} from now on; {@code null} stops reporting metrics. */
+    public static void setMetricsRegistry(MetricsRegistry registry) {
+        FluentTelemetry.registry = registry == null ? NOOP : registry;
+        COUNTERS.clear();
+        HISTOGRAMS.clear();
+    }
+
+    public static void setSlowOperationThreshold(Duration threshold) {
+        if (threshold == null || threshold.isNegative()) {
+            throw new IllegalArgumentException("Threshold must not be null or negative, but was " + threshold);
+        }
+        slowThresholdNanos = threshold.toNanos();
+    }
+
+    public static Duration slowOperationThreshold() {
+        return Duration.ofNanos(slowThresholdNanos);
+    }
+
+    public static void setLargeInputThreshold(int chars) {
+        if (chars < 1) throw new IllegalArgumentException("Threshold must be at least 1, but was " + chars);
+        largeInputThreshold = chars;
+    }
+
+    public static int largeInputThreshold() {
+        return largeInputThreshold;
+    }
+
+    /** Whether anything is being reported: a registry is set or a JFR recording is running. */
+    public static boolean enabled() {
+        return registry != NOOP || JfrEvents.recording();
+    }
+
+    /**
+     * Start time to pass to {@link #operation}, or 0 when nothing is reported. Public so
+     * that the stream package and plugins can time their own operations.
+     */
+    public static long start() {
+        if (!enabled()) return 0;
+        long now = System.nanoTime();
+        return now == 0 ? 1 : now;
+    }
+
+    /** Ends an operation begun with {@link #start()}; {@code detail} is the regex or similar, if any. */
+    public static void operation(String operation, String detail, long start, int inputLength) {
+        if (start == 0) return;
+        long nanos = System.nanoTime() - start;
+        histogram("fluentstring.operation.nanos." + operation).record(nanos);
+        if (nanos >= slowThresholdNanos) {
+            counter("fluentstring.operation.slow").increment(1);
+            JfrEvents.slowOperation(operation, detail, nanos, inputLength);
+        }
+        if (inputLength >= largeInputThreshold) {
+            counter("fluentstring.input.large").increment(1);
+            JfrEvents.largeInput(operation, detail, inputLength);
+        }
+    }
+
+    static void regexCompiled(String regex, long nanos) {
+        if (!enabled()) return;
+        histogram("fluentstring.regex.compile.nanos").record(nanos);
+        JfrEvents.regexCompiled(regex, nanos);
+    }
+
+    static void cacheMiss(String cache, String key) {
+        if (!enabled()) return;
+        counter("fluentstring.cache.miss." + cache).increment(1);
+        JfrEvents.cacheMiss(cache, key);
+    }
+
+    /** Only the length of the input is reported: it may be large or hold personal data. */
+    static void parseFailure(String type, int inputLength) {
+        if (!enabled()) return;
+        counter("fluentstring.parse.failure." + type).increment(1);
+        JfrEvents.parseFailure(type, inputLength);
+    }
+
+    private static MetricsRegistry.Counter counter(String name) {
+        MetricsRegistry current = registry;
+        if (current == NOOP) return NOOP.counter(name);
+        return COUNTERS.computeIfAbsent(name, current::counter);
+    }
+
+    private static MetricsRegistry.Histogram histogram(String name) {
+        MetricsRegistry current = registry;
+        if (current == NOOP) return NOOP.histogram(name);
+        return HISTOGRAMS.computeIfAbsent(name, current::histogram);
+    }
+
+    private static MetricsRegistry loadRegistry() {
+        try {
+            Iterator<MetricsRegistry> found = ServiceLoader.load(MetricsRegistry.class).iterator();
+            return found.hasNext() ? found.next() : NOOP;
+        } catch (ServiceConfigurationError e) {
+            return NOOP;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.platform.sdk.string;
+
+/**
+ * Rough heap-size estimates for a 64-bit JVM with compressed references, used by
+ * {@link FluentString#retainedSizeEstimate()}.
+ */
+final class Footprint {
+
+    static final long FLUENT_STRING = 32;
+    static final long WEAK_INPUT = 48;
+    static final long ROPE_NODE = 40;
+
+    private static final long STRING_HEADER = 24;
+    private static final long ARRAY_HEADER = 16;
+    private static final boolean COMPACT_STRINGS = !System.getProperty("java.specification.version", "1.8").startsWith("1.");
+
+    private Footprint() {
+    }
+
+    static long of(String value) {
+        if (value == null) return 0;
+        long bytes = (long) value.length() * (COMPACT_STRINGS && isLatin1(value) ? 1 : 2);
+        return STRING_HEADER + align(ARRAY_HEADER + bytes);
+    }
+
+    private static boolean isLatin1(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) return false;
+        }
+        return true;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+}
@@ -0,0 +1,59 @@
+package com.platform.sdk.string;
+
+/**
+ * HTML 4.01 character entity names, as used by {@link TextEscaper#HTML4} and
+ * {@link TextUnescaper#HTML4}: the ISO-8859-1 range U+00A0..U+00FF in code order, and
+ * the symbols, Greek letters and special characters of the extended set sorted by code.
+ */
+final class HtmlEntities {
+
+    private HtmlEntities() {
+    }
+
+    static final String[] LATIN1_NAMES = {
+        "nbsp", "iexcl", "cent", "pound", "curren", "yen", "brvbar", "sect", "uml", "copy", "ordf", "laquo",
+        "not", "shy", "reg", "macr", "deg", "plusmn", "sup2", "sup3", "acute", "micro", "para", "middot",
+        "cedil", "sup1", "ordm", "raquo", "frac14", "frac12", "frac34", "iquest", "Agrave", "Aacute", "Acirc",
+        "Atilde", "Auml", "Aring", "AElig", "Ccedil", "Egrave", "Eacute", "Ecirc", "Euml", "Igrave", "Iacute",
+        "Icirc", "Iuml", "ETH", "Ntilde", "Ograve", "Oacute", "Ocirc", "Otilde", "Ouml", "times", "Oslash",
+        "Ugrave", "Uacute", "Ucirc", "Uuml", "Yacute", "THORN", "szlig", "agrave", "aacute", "acirc",
+        "atilde", "auml", "aring", "aelig", "ccedil", "egrave", "eacute", "ecirc", "euml", "igrave", "iacute",
+        "icirc", "iuml", "eth", "ntilde", "ograve", "oacute", "ocirc", "otilde", "ouml", "divide", "oslash",
+        "ugrave", "uacute", "ucirc", "uuml", "yacute", "thorn", "yuml"
+    };
+
+    static final char[] EXTENDED_CODES = {
+        '\u0152', '\u0153', '\u0160', '\u0161', '\u0178', '\u0192', '\u02C6', '\u02DC', '\u0391', '\u0392',
+        '\u0393', '\u0394', '\u0395', '\u0396', '\u0397', '\u0398', '\u0399', '\u039A', '\u039B', '\u039C',
+        '\u039D', '\u039E', '\u039F', '\u03A0', '\u03A1', '\u03A3', '\u03A4', '\u03A5', '\u03A6', '\u03A7',
+        '\u03A8', '\u03A9', '\u03B1', '\u03B2', '\u03B3', '\u03B4', '\u03B5', '\u03B6', '\u03B7', '\u03B8',
+        '\u03B9', '\u03BA', '\u03BB', '\u03BC', '\u03BD', '\u03BE', '\u03BF', '\u03C0', '\u03C1', '\u03C2',
+        '\u03C3', '\u03C4', '\u03C5', '\u03C6', '\u03C7', '\u03C8', '\u03C9', '\u03D1', '\u03D2', '\u03D6',
+        '\u2002', '\u2003', '\u2009', '\u200C', '\u200D', '\u200E', '\u200F', '\u2013', '\u2014', '\u2018',
+        '\u2019', '\u201A', '\u201C', '\u201D', '\u201E', '\u2020', '\u2021', '\u2022', '\u2026', '\u2030',
+        '\u2032', '\u2033', '\u2039', '\u203A', '\u203E', '\u2044', '\u20AC', '\u2111', '\u2118', '\u211C',
+        '\u2122', '\u2135', '\u2190', '\u2191', '\u2192', '\u2193', '\u2194', '\u21B5', '\u21D0', '\u21D1',
+        '\u21D2', '\u21D3', '\u21D4', '\u2200', '\u2202', '\u2203', '\u2205', '\u2207', '\u2208', '\u2209',
+        '\u220B', '\u220F', '\u2211', '\u2212', '\u2217', '\u221A', '\u221D', '\u221E', '\u2220', '\u2227',
+        '\u2228', '\u2229', '\u222A', '\u222B', '\u2234', '\u223C', '\u2245', '\u2248', '\u2260', '\u2261',
+        '\u2264', '\u2265', '\u2282', '\u2283', '\u2284', '\u2286', '\u2287', '\u2295', '\u2297', '\u22A5',
+        '\u22C5', '\u2308', '\u2309', '\u230A', '\u230B', '\u2329', '\u232A', '\u25CA', '\u2660', '\u2663',
+        '\u2665', '\u2666'
+    };
+
+    static final String[] EXTENDED_NAMES = {
+        "OElig", "oelig", "Scaron", "scaron", "Yuml", "fnof", "circ", "tilde", "Alpha", "Beta", "Gamma",
+        "Delta", "Epsilon", "Zeta", "Eta", "Theta", "Iota", "Kappa", "Lambda", "Mu", "Nu", "Xi", "Omicron",
+        "Pi", "Rho", "Sigma", "Tau", "Upsilon", "Phi", "Chi", "Psi", "Omega", "alpha", "beta", "gamma",
+        "delta", "epsilon", "zeta", "eta", "theta", "iota", "kappa", "lambda", "mu", "nu", "xi", "omicron",
+        "pi", "rho", "sigmaf", "sigma", "tau", "upsilon", "phi", "chi", "psi", "omega", "thetasym", "upsih",
+        "piv", "ensp", "emsp", "thinsp", "zwnj", "zwj", "lrm", "rlm", "ndash", "mdash", "lsquo", "rsquo",
+        "sbquo", "ldquo", "rdquo", "bdquo", "dagger", "Dagger", "bull", "hellip", "permil", "prime", "Prime",
+        "lsaquo", "rsaquo", "oline", "frasl", "euro", "image", "weierp", "real", "trade", "alefsym", "larr",
+        "uarr", "rarr", "darr", "harr", "crarr", "lArr", "uArr", "rArr", "dArr", "hArr", "forall", "part",
+        "exist", "empty", "nabla", "isin", "notin", "ni", "prod", "sum", "minus", "lowast", "radic", "prop",
+        "infin", "ang", "and", "or", "cap", "cup", "int", "there4", "sim", "cong", "asymp", "ne", "equiv",
+        "le", "ge", "sub", "sup", "nsub", "sube", "supe", "oplus", "otimes", "perp", "sdot", "lceil", "rceil",
+        "lfloor", "rfloor", "lang", "rang", "loz", "spades", "clubs", "hearts", "diams"
+    };
+}
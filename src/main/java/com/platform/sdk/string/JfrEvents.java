@@ -0,0 +1,32 @@
+package com.platform.sdk.string;
+
+/**
+ * Java Flight Recorder events of the library. JFR is not part of Java 8, so here every
+ * method does nothing; the multi-release JAR replaces this class on Java 11 and later
+ * with one that emits the events.
+ */
+final class JfrEvents {
+
+    private JfrEvents() {
+    }
+
+    /** Whether a JFR recording is running. */
+    static boolean recording() {
+        return false;
+    }
+
+    static void slowOperation(String operation, String detail, long nanos, int inputLength) {
+    }
+
+    static void largeInput(String operation, String detail, int inputLength) {
+    }
+
+    static void regexCompiled(String regex, long nanos) {
+    }
+
+    static void cacheMiss(String cache, String key) {
+    }
+
+    static void parseFailure(String type, int inputLength) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.platform.sdk.string;
+
+/**
+ * Service provider interface through which the library reports counters and
+ * histograms; see {@link FluentTelemetry}. An adapter implements it over the
+ * application's metrics library and is either installed with
+ * {@link FluentTelemetry#setMetricsRegistry} or listed in
+ * {@code META-INF/services/com.platform.sdk.string.MetricsRegistry}, from where the
+ * first one found is picked up when the library first reports something.
+ * <p>
+ * Names are fixed by the library and never contain processed text: a parse failure, for
+ * example, is counted per target type, not per input, so no payload or personal data
+ * reaches the registry or its labels.
+ * <p>
+ * Instruments are looked up once per name and then kept, so implementations need not
+ * cache them; they must be thread-safe.
+ */
+public interface MetricsRegistry {
+
+    Counter counter(String name);
+
+    Histogram histogram(String name);
+
+    @FunctionalInterface
+    interface Counter {
+        void increment(long amount);
+    }
+
+    @FunctionalInterface
+    interface Histogram {
+        void record(long value);
+    }
+}
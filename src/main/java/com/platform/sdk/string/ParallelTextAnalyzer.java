@@ -0,0 +1,247 @@
+package com.platform.sdk.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.BiFunction;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parallel counterparts of the frequency and counting methods of FluentString, for
+ * texts of several megabytes. The text is cut into chunks, each chunk is counted into
+ * its own table on a {@link ForkJoinPool}, and the tables are merged in text order, so
+ * every result is identical to the sequential method. Texts shorter than the threshold
+ * are counted sequentially on the calling thread.
+ * <p>
+ * Word-based counts cut only at whitespace. Match counts cut anywhere: each chunk
+ * counts the matches that start inside it, and when a match from the previous chunk
+ * runs past the cut, that chunk is recounted from where the sequential scan would
+ * resume.
+ */
+public final class ParallelTextAnalyzer {
+
+    /** Texts shorter than this many chars are counted sequentially. */
+    public static final int DEFAULT_THRESHOLD = 1 << 20;
+
+    private static final int MIN_CHUNK = 1 << 16;
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final String text;
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    private ParallelTextAnalyzer(String text, ForkJoinPool pool, int threshold) {
+        this.text = text;
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    public static ParallelTextAnalyzer of(String text) {
+        return new ParallelTextAnalyzer(text == null ? "" : text, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelTextAnalyzer withPool(ForkJoinPool pool) {
+        if (pool == null) throw new IllegalArgumentException("Pool must not be null");
+        return new ParallelTextAnalyzer(text, pool, threshold);
+    }
+
+    public ParallelTextAnalyzer withThreshold(int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("Threshold must not be negative, but was " + threshold);
+        return new ParallelTextAnalyzer(text, pool, threshold);
+    }
+
+    public int wordCount() {
+        int count = 0;
+        for (int words : run(wordChunks(), (from, to) -> WordTokenizer.count(text, from, to))) {
+            count += words;
+        }
+        return count;
+    }
+
+    public CharFrequency charFrequency() {
+        List<CharFrequency> tables = run(chunks(), (from, to) -> CharFrequency.of(text, from, to));
+        for (int i = 1; i < tables.size(); i++) {
+            tables.get(0).merge(tables.get(i));
+        }
+        return tables.get(0);
+    }
+
+    public CharFrequency charFrequencyIgnoreCase() {
+        // lower-casing is context sensitive across letters, never across whitespace
+        List<CharFrequency> tables = run(wordChunks(), (from, to) -> CharFrequency.ofIgnoreCase(text, from, to));
+        for (int i = 1; i < tables.size(); i++) {
+            tables.get(0).merge(tables.get(i));
+        }
+        return tables.get(0);
+    }
+
+    public WordFrequency wordFrequency() {
+        return wordFrequency(false);
+    }
+
+    public WordFrequency wordFrequencyIgnoreCase() {
+        if (WordFrequency.canFoldAscii(text)) return wordFrequency(true);
+        return new ParallelTextAnalyzer(text.toLowerCase(), pool, threshold).wordFrequency(false);
+    }
+
+    /** Non-overlapping occurrences of {@code substring}, counted like {@link FluentString#countOccurrences}. */
+    public int countOccurrences(String substring) {
+        if (substring == null || substring.isEmpty()) return 0;
+        return countScans(chunks(), (from, to) -> scanOccurrences(substring, from, to));
+    }
+
+    public int countMatches(String regex) {
+        return countMatches(FluentStringPatternCache.get(regex));
+    }
+
+    public int countMatches(Pattern pattern) {
+        return countScans(chunks(), (from, to) -> scanMatches(pattern, from, to));
+    }
+
+    private WordFrequency wordFrequency(boolean foldAscii) {
+        List<WordFrequency> tables = run(wordChunks(), (from, to) -> new WordFrequency(text, foldAscii).count(from, to));
+        for (int i = 1; i < tables.size(); i++) {
+            tables.get(0).merge(tables.get(i));
+        }
+        return tables.get(0);
+    }
+
+    private int countScans(int[] bounds, BiFunction<Integer, Integer, Scan> scanner) {
+        List<Scan> scans = run(bounds, scanner);
+        int count = 0;
+        int resume = 0;
+        for (int i = 0; i < scans.size(); i++) {
+            Scan scan = scans.get(i);
+            if (resume > bounds[i]) {
+                // the previous chunk's last match ran past the cut; count from where a sequential scan would.
+                // The last chunk is always rescanned, since it may hold an empty match at the end of the text.
+                boolean swallowed = resume >= bounds[i + 1] && i + 1 < scans.size();
+                scan = swallowed ? new Scan(0, resume) : scanner.apply(resume, bounds[i + 1]);
+            }
+            count += scan.count;
+            resume = scan.resume;
+        }
+        return count;
+    }
+
+    /** Counts matches starting in {@code [from, to)}; matches may extend past {@code to}. */
+    private Scan scanOccurrences(String substring, int from, int to) {
+        if (to == text.length()) {
+            // nothing to overrun, so the intrinsic search can run unbounded
+            int count = 0;
+            int index = from;
+            while ((index = text.indexOf(substring, index)) != -1) {
+                count++;
+                index += substring.length();
+            }
+            return new Scan(count, to);
+        }
+        int last = Math.min(to - 1, text.length() - substring.length());
+        char first = substring.charAt(0);
+        int count = 0;
+        int i = from;
+        while (i <= last) {
+            if (text.charAt(i) == first && text.regionMatches(i + 1, substring, 1, substring.length() - 1)) {
+                count++;
+                i += substring.length();
+            } else {
+                i++;
+            }
+        }
+        return new Scan(count, Math.max(i, from));
+    }
+
+    /**
+     * Counts matches starting in {@code [from, to)}. The search is confined to the chunk
+     * first and widened to the rest of the text only when the engine reports that it
+     * hit the chunk end, so sparse patterns do not scan the whole tail from every chunk.
+     */
+    private Scan scanMatches(Pattern pattern, int from, int to) {
+        Matcher matcher = pattern.matcher(text).useTransparentBounds(true).useAnchoringBounds(false);
+        int count = 0;
+        int position = from;
+        while (position <= to && position <= text.length()) {
+            matcher.region(position, to);
+            boolean found = matcher.find();
+            if (matcher.hitEnd() && to < text.length()) {
+                matcher.region(position, text.length());
+                found = matcher.find();
+            }
+            // only the last chunk may count an empty match at its end, which is the end of the text
+            if (!found || matcher.start() > to || matcher.start() == to && to < text.length()) break;
+            count++;
+            position = matcher.end() == matcher.start() ? matcher.end() + 1 : matcher.end();
+        }
+        return new Scan(count, position);
+    }
+
+    private int[] chunks() {
+        return split(false);
+    }
+
+    private int[] wordChunks() {
+        return split(true);
+    }
+
+    /** Chunk bounds {@code [b0 = 0, b1, ..., bn = length]}; a single chunk below the threshold. */
+    private int[] split(boolean atWhitespace) {
+        int length = text.length();
+        int chunks = length < threshold ? 1
+                : Math.max(1, Math.min(pool.getParallelism() * CHUNKS_PER_THREAD, length / MIN_CHUNK));
+        int[] bounds = new int[chunks + 1];
+        int size = 1;
+        for (int i = 1; i < chunks; i++) {
+            int cut = (int) ((long) length * i / chunks);
+            if (atWhitespace) {
+                while (cut < length && !WordTokenizer.isSeparator(text.charAt(cut))) cut++;
+            }
+            if (cut > bounds[size - 1] && cut < length) bounds[size++] = cut;
+        }
+        bounds[size++] = length;
+        return size == bounds.length ? bounds : Arrays.copyOf(bounds, size);
+    }
+
+    private <T> List<T> run(int[] bounds, BiFunction<Integer, Integer, T> task) {
+        List<T> results = new ArrayList<>(bounds.length - 1);
+        if (bounds.length == 2) {
+            results.add(task.apply(bounds[0], bounds[1]));
+            return results;
+        }
+        List<Callable<T>> tasks = new ArrayList<>(bounds.length - 1);
+        for (int i = 0; i + 1 < bounds.length; i++) {
+            int from = bounds[i];
+            int to = bounds[i + 1];
+            tasks.add(() -> task.apply(from, to));
+        }
+        try {
+            for (Future<T> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while analyzing text", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+        return results;
+    }
+
+    private static final class Scan {
+        final int count;
+        /** Position the sequential scan would continue from after this chunk. */
+        final int resume;
+
+        Scan(int count, int resume) {
+            this.count = count;
+            this.resume = resume;
+        }
+    }
+}
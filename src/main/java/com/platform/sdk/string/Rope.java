@@ -0,0 +1,182 @@
+package com.platform.sdk.string;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Immutable rope used by the rope mode of FluentString: a height-balanced (AVL)
+ * tree of string chunks. Concatenation is O(log n) and never copies the
+ * operands, except that adjacent chunks whose combined length is at most
+ * {@link #FLATTEN_THRESHOLD} are merged into one leaf so that long chains of
+ * small appends do not degrade into a tree of tiny leaves.
+ * <p>
+ * The flattened String is built on the first {@link #toString()} and cached.
+ */
+final class Rope implements CharSequence {
+
+    static final int FLATTEN_THRESHOLD = 512;
+
+    private static final Rope EMPTY = new Rope("");
+
+    private final String leaf;
+    private final Rope left;
+    private final Rope right;
+    private final int length;
+    private final int depth;
+    private String flat;
+
+    private Rope(String leaf) {
+        this.leaf = leaf;
+        this.left = null;
+        this.right = null;
+        this.length = leaf.length();
+        this.depth = 0;
+        this.flat = leaf;
+    }
+
+    private Rope(Rope left, Rope right) {
+        this.leaf = null;
+        this.left = left;
+        this.right = right;
+        this.length = Math.addExact(left.length, right.length);
+        this.depth = Math.max(left.depth, right.depth) + 1;
+    }
+
+    static Rope of(String value) {
+        return value == null || value.isEmpty() ? EMPTY : new Rope(value);
+    }
+
+    static Rope concat(Rope left, Rope right) {
+        if (left.length == 0) return right;
+        if (right.length == 0) return left;
+        return join(left, right);
+    }
+
+    static Rope repeat(Rope rope, int times) {
+        Rope result = EMPTY;
+        Rope doubling = rope;
+        while (times > 0) {
+            if ((times & 1) != 0) result = concat(result, doubling);
+            times >>>= 1;
+            if (times > 0) doubling = concat(doubling, doubling);
+        }
+        return result;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    /** Counts every distinct node once, so ropes built by {@link #repeat} are not overcounted. */
+    long retainedSizeEstimate() {
+        return retainedSizeEstimate(Collections.newSetFromMap(new IdentityHashMap<>()));
+    }
+
+    private long retainedSizeEstimate(Set<Rope> seen) {
+        if (!seen.add(this)) return 0;
+        long size = Footprint.ROPE_NODE + (flat != null && flat != leaf ? Footprint.of(flat) : 0);
+        if (leaf != null) return size + Footprint.of(leaf);
+        return size + left.retainedSizeEstimate(seen) + right.retainedSizeEstimate(seen);
+    }
+
+    boolean startsWith(String prefix) {
+        if (prefix.length() > length) return false;
+        for (int i = 0; i < prefix.length(); i++) {
+            if (charAt(i) != prefix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    boolean endsWith(String suffix) {
+        int offset = length - suffix.length();
+        if (offset < 0) return false;
+        for (int i = 0; i < suffix.length(); i++) {
+            if (charAt(offset + i) != suffix.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        Rope node = this;
+        while (node.leaf == null) {
+            if (index < node.left.length) {
+                node = node.left;
+            } else {
+                index -= node.left.length;
+                node = node.right;
+            }
+        }
+        return node.leaf.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return toString().substring(start, end);
+    }
+
+    @Override
+    public String toString() {
+        String value = flat;
+        if (value == null) {
+            char[] buffer = new char[length];
+            copyTo(buffer, 0);
+            value = new String(buffer);
+            flat = value;
+        }
+        return value;
+    }
+
+    private void copyTo(char[] buffer, int offset) {
+        Rope node = this;
+        while (node.leaf == null) {
+            String cached = node.flat;
+            if (cached != null) {
+                cached.getChars(0, cached.length(), buffer, offset);
+                return;
+            }
+            node.left.copyTo(buffer, offset);
+            offset += node.left.length;
+            node = node.right;
+        }
+        node.leaf.getChars(0, node.leaf.length(), buffer, offset);
+    }
+
+    private static Rope join(Rope left, Rope right) {
+        if (left.length + right.length <= FLATTEN_THRESHOLD) {
+            return new Rope(left.toString() + right.toString());
+        }
+        if (left.depth > right.depth + 1) {
+            return balance(left.left, join(left.right, right));
+        }
+        if (right.depth > left.depth + 1) {
+            return balance(join(left, right.left), right.right);
+        }
+        return new Rope(left, right);
+    }
+
+    private static Rope balance(Rope left, Rope right) {
+        if (left.depth > right.depth + 1) {
+            if (left.left.depth >= left.right.depth) {
+                return new Rope(left.left, new Rope(left.right, right));
+            }
+            return new Rope(new Rope(left.left, left.right.left), new Rope(left.right.right, right));
+        }
+        if (right.depth > left.depth + 1) {
+            if (right.right.depth >= right.left.depth) {
+                return new Rope(new Rope(left, right.left), right.right);
+            }
+            return new Rope(new Rope(left, right.left.left), new Rope(right.left.right, right.right));
+        }
+        return new Rope(left, right);
+    }
+}
@@ -0,0 +1,172 @@
+package com.platform.sdk.string;
+
+import java.text.Normalizer;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cheap facts about a string value (ASCII only, lower case, upper case, trimmed, NFC)
+ * that FluentString and FluentStringStream carry from one step of a chain to the next,
+ * so that a step whose effect is already implied is skipped: {@code toLowerCase()} of a
+ * lower-case value, {@code normalize()} or {@code stripAccents()} of an ASCII value,
+ * {@code trim()} after {@code clean()}.
+ * <p>
+ * A shape is packed into an int holding, for each fact, whether it is known and
+ * whether it holds. Facts come from the operation that produced the value (the result
+ * of {@code toLowerCase()} is lower case) or are resolved from the value itself by
+ * {@link #resolve}; one scan settles every fact of an ASCII value. Lower and upper case
+ * mean that {@code toLowerCase()} and {@code toUpperCase()} would return the value
+ * unchanged. Those two are {@link #resolvedByMapping resolved by the mapping itself}: a
+ * step only skips when the fact is already known, and otherwise runs the mapping once
+ * and learns the fact from whether it returned its input. The counters are library-wide.
+ */
+public final class StringShape {
+
+    public static final int ASCII = 1;
+    public static final int LOWER_CASE = 1 << 1;
+    public static final int UPPER_CASE = 1 << 2;
+    public static final int TRIMMED = 1 << 3;
+    public static final int NFC = 1 << 4;
+
+    /** Shape of a value about which nothing is known. */
+    public static final int UNKNOWN = 0;
+
+    private static final int ALL = ASCII | LOWER_CASE | UPPER_CASE | TRIMMED | NFC;
+    private static final int KNOWN_SHIFT = 8;
+
+    private static final LongAdder SKIPPED = new LongAdder();
+    private static final LongAdder SCANS = new LongAdder();
+
+    private StringShape() {
+    }
+
+    public static boolean holds(int shape, int fact) {
+        return (shape & fact) != 0;
+    }
+
+    public static boolean isKnown(int shape, int fact) {
+        return (shape >>> KNOWN_SHIFT & fact) != 0;
+    }
+
+    /**
+     * Whether {@code fact} is best learned from the operation it guards rather than
+     * resolved ahead of it: settling lower or upper case for a non-ASCII value takes a
+     * full case mapping, which {@code toLowerCase()} and {@code toUpperCase()} then
+     * repeat, while they return their input itself when nothing changes.
+     */
+    public static boolean resolvedByMapping(int fact) {
+        return fact == LOWER_CASE || fact == UPPER_CASE;
+    }
+
+    /** Shape of a value that the operation establishing {@code fact} returned unchanged. */
+    public static int unchanged(int shape, int fact) {
+        return with(shape, fact, true);
+    }
+
+    /** Returns {@code shape} with {@code fact} known, looking at {@code value} only if it was not. */
+    public static int resolve(int shape, String value, int fact) {
+        if (isKnown(shape, fact)) return shape;
+        if (fact == TRIMMED) {
+            int length = value.length();
+            return with(shape, TRIMMED, length == 0 || value.charAt(0) > ' ' && value.charAt(length - 1) > ' ');
+        }
+        SCANS.increment();
+        if (!isKnown(shape, ASCII) || holds(shape, ASCII)) {
+            int ascii = scanAscii(value);
+            if (ascii != UNKNOWN) return ascii;
+            shape = with(shape, ASCII, false);
+            if (fact == ASCII) return shape;
+        }
+        switch (fact) {
+            case LOWER_CASE:
+                return with(shape, LOWER_CASE, value.equals(value.toLowerCase()));
+            case UPPER_CASE:
+                return with(shape, UPPER_CASE, value.equals(value.toUpperCase()));
+            case NFC:
+                return with(shape, NFC, Normalizer.isNormalized(value, Normalizer.Form.NFC));
+            default:
+                throw new IllegalArgumentException("Unknown fact " + fact);
+        }
+    }
+
+    /** Shape of {@code trim()}'s result: trimming only removes ASCII control and space characters. */
+    public static int afterTrim(int shape) {
+        int kept = ASCII | NFC | (holds(shape, ASCII) ? LOWER_CASE | UPPER_CASE : 0);
+        return with(keep(shape, kept), TRIMMED, true);
+    }
+
+    public static int afterLowerCase(int shape) {
+        return afterCaseMapping(shape, LOWER_CASE);
+    }
+
+    public static int afterUpperCase(int shape) {
+        return afterCaseMapping(shape, UPPER_CASE);
+    }
+
+    public static int afterNormalize(int shape) {
+        // NFC can turn a non-ASCII value into an ASCII one (KELVIN SIGN becomes K)
+        int kept = TRIMMED | (holds(shape, ASCII) ? ALL : 0);
+        return with(keep(shape, kept), NFC, true);
+    }
+
+    /** Shape of a value built only from ASCII letters, digits and spaces, with no space at either end. */
+    public static int cleaned() {
+        return with(with(with(UNKNOWN, ASCII, true), NFC, true), TRIMMED, true);
+    }
+
+    /** Shape of a value built only from lower-case ASCII letters, digits and dashes. */
+    public static int slug() {
+        return with(cleaned(), LOWER_CASE, true);
+    }
+
+    /** Records that an operation was skipped because its value's shape made it a no-op. */
+    public static void recordSkip() {
+        SKIPPED.increment();
+    }
+
+    public static long skippedOperations() {
+        return SKIPPED.sum();
+    }
+
+    /** Number of times a fact had to be resolved by looking at a value's characters. */
+    public static long scans() {
+        return SCANS.sum();
+    }
+
+    public static void resetCounters() {
+        SKIPPED.reset();
+        SCANS.reset();
+    }
+
+    private static int afterCaseMapping(int shape, int mapped) {
+        int kept = TRIMMED;
+        if (holds(shape, ASCII) && WordOperations.asciiCaseMappingIsExact()) {
+            kept |= ASCII | NFC;
+        }
+        return with(keep(shape, kept), mapped, true);
+    }
+
+    /** Every fact of an ASCII value, or {@link #UNKNOWN} if the value is not ASCII. */
+    private static int scanAscii(String value) {
+        boolean lower = false;
+        boolean upper = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 128) return UNKNOWN;
+            lower |= c >= 'a' && c <= 'z';
+            upper |= c >= 'A' && c <= 'Z';
+        }
+        int length = value.length();
+        int shape = with(with(UNKNOWN, ASCII, true), NFC, true);
+        shape = with(shape, TRIMMED, length == 0 || value.charAt(0) > ' ' && value.charAt(length - 1) > ' ');
+        return with(with(shape, LOWER_CASE, !upper), UPPER_CASE, !lower);
+    }
+
+    private static int with(int shape, int fact, boolean holds) {
+        shape |= fact << KNOWN_SHIFT;
+        return holds ? shape | fact : shape & ~fact;
+    }
+
+    private static int keep(int shape, int facts) {
+        return shape & (facts | facts << KNOWN_SHIFT);
+    }
+}
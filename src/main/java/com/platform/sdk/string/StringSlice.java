@@ -0,0 +1,158 @@
+package com.platform.sdk.string;
+
+/**
+ * Zero-copy view over a range of a parent String, returned by the view variants of
+ * FluentString ({@code substringView}, {@code trimView}, {@code splitViews},
+ * {@code wordViews} and {@code lineViews}).
+ * <p>
+ * A slice shares the parent's immutable character storage; slicing a slice narrows
+ * the range over the same parent. Characters are only copied when the slice is
+ * materialized with {@link #toString()}, or by {@link #retain()} when the slice
+ * covers less than {@link #retainRatio()} of its parent and is about to outlive it.
+ */
+public final class StringSlice implements CharSequence {
+
+    public static final double DEFAULT_RETAIN_RATIO = 0.25;
+
+    private static volatile double retainRatio = DEFAULT_RETAIN_RATIO;
+
+    private final String parent;
+    private final int offset;
+    private final int length;
+    private String materialized;
+    private int hash;
+
+    private StringSlice(String parent, int offset, int length) {
+        this.parent = parent;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static StringSlice of(String value) {
+        String parent = value == null ? "" : value;
+        return new StringSlice(parent, 0, parent.length());
+    }
+
+    public static StringSlice of(String value, int start, int end) {
+        String parent = value == null ? "" : value;
+        checkRange(start, end, parent.length());
+        return new StringSlice(parent, start, end - start);
+    }
+
+    public static double retainRatio() {
+        return retainRatio;
+    }
+
+    /**
+     * Sets the fraction of its parent below which {@link #retain()} copies a slice
+     * instead of keeping the parent reachable.
+     */
+    public static void setRetainRatio(double ratio) {
+        if (ratio < 0.0 || ratio > 1.0) {
+            throw new IllegalArgumentException("Retain ratio must be between 0 and 1, but was " + ratio);
+        }
+        retainRatio = ratio;
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    public boolean isEmpty() {
+        return length == 0;
+    }
+
+    @Override
+    public char charAt(int index) {
+        if (index < 0 || index >= length) {
+            throw new StringIndexOutOfBoundsException(index);
+        }
+        return parent.charAt(offset + index);
+    }
+
+    @Override
+    public StringSlice subSequence(int start, int end) {
+        checkRange(start, end, length);
+        if (start == 0 && end == length) return this;
+        return new StringSlice(parent, offset + start, end - start);
+    }
+
+    public StringSlice subSequence(int start) {
+        return subSequence(start, length);
+    }
+
+    /** Same characters as {@link String#trim()} would remove, without copying. */
+    public StringSlice trim() {
+        int start = 0;
+        int end = length;
+        while (start < end && charAt(start) <= ' ') start++;
+        while (end > start && charAt(end - 1) <= ' ') end--;
+        return subSequence(start, end);
+    }
+
+    /** Offset of this slice within the String it was taken from. */
+    public int offset() {
+        return offset;
+    }
+
+    /** Length of the String this slice keeps reachable. */
+    public int parentLength() {
+        return parent.length();
+    }
+
+    /**
+     * Returns a slice that is safe to keep after the parent is dropped: this slice if
+     * it covers at least {@link #retainRatio()} of the parent, otherwise a copy.
+     */
+    public StringSlice retain() {
+        if (length >= retainRatio * parent.length()) return this;
+        return of(toString());
+    }
+
+    public boolean contentEquals(CharSequence other) {
+        if (other == null || other.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (charAt(i) != other.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    public FluentString toFluentString() {
+        return FluentString.of(toString());
+    }
+
+    @Override
+    public String toString() {
+        String value = materialized;
+        if (value == null) {
+            value = offset == 0 && length == parent.length() ? parent : parent.substring(offset, offset + length);
+            materialized = value;
+        }
+        return value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof StringSlice && contentEquals((StringSlice) o);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = hash;
+        if (h == 0 && length > 0) {
+            for (int i = 0; i < length; i++) {
+                h = 31 * h + parent.charAt(offset + i);
+            }
+            hash = h;
+        }
+        return h;
+    }
+
+    private static void checkRange(int start, int end, int length) {
+        if (start < 0 || end > length || start > end) {
+            throw new StringIndexOutOfBoundsException("begin " + start + ", end " + end + ", length " + length);
+        }
+    }
+}
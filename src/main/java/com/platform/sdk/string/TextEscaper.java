@@ -0,0 +1,122 @@
+package com.platform.sdk.string;
+
+/**
+ * Table-driven escaper behind {@code escapeHtml()}, {@code escapeXml()} and
+ * {@code escapeJson()}. Each format maps characters to replacements through a
+ * two-level table (one 256-entry page per high byte, pages allocated only where the
+ * format has entries). {@link #escape} scans for the first character that needs work
+ * and returns its argument unchanged if there is none; otherwise it copies the clean
+ * prefix and escapes the rest in one pass into a pre-sized buffer.
+ */
+public final class TextEscaper {
+
+    /** Same output as commons-text {@code StringEscapeUtils.escapeHtml4}. */
+    public static final TextEscaper HTML4 = html4();
+
+    /** Same output as commons-text {@code StringEscapeUtils.escapeXml11}. */
+    public static final TextEscaper XML11 = xml11();
+
+    /**
+     * Escapes a string for use inside a JSON string literal (RFC 8259): quotation mark,
+     * reverse solidus and control characters; everything else is left as is.
+     */
+    public static final TextEscaper JSON = json();
+
+    private final String[][] pages = new String[256][];
+    private final boolean dropUnpairedSurrogates;
+
+    private TextEscaper(boolean dropUnpairedSurrogates) {
+        this.dropUnpairedSurrogates = dropUnpairedSurrogates;
+    }
+
+    public String escape(String value) {
+        int first = firstToEscape(value);
+        if (first < 0) return value;
+        int length = value.length();
+        StringBuilder sb = new StringBuilder(length + 16 + ((length - first) >> 3));
+        sb.append(value, 0, first);
+        for (int i = first; i < length; i++) {
+            char c = value.charAt(i);
+            String replacement = replacement(c);
+            if (replacement != null) {
+                sb.append(replacement);
+            } else if (dropUnpairedSurrogates && Character.isSurrogate(c)) {
+                if (isPairAt(value, i)) {
+                    sb.append(c).append(value.charAt(++i));
+                }
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    private int firstToEscape(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (replacement(c) != null) return i;
+            if (dropUnpairedSurrogates && Character.isSurrogate(c)) {
+                if (!isPairAt(value, i)) return i;
+                i++;
+            }
+        }
+        return -1;
+    }
+
+    private String replacement(char c) {
+        String[] page = pages[c >>> 8];
+        return page == null ? null : page[c & 0xFF];
+    }
+
+    private static boolean isPairAt(String value, int i) {
+        return Character.isHighSurrogate(value.charAt(i)) && i + 1 < value.length()
+                && Character.isLowSurrogate(value.charAt(i + 1));
+    }
+
+    private TextEscaper put(char c, String replacement) {
+        String[] page = pages[c >>> 8];
+        if (page == null) {
+            page = new String[256];
+            pages[c >>> 8] = page;
+        }
+        page[c & 0xFF] = replacement;
+        return this;
+    }
+
+    private TextEscaper putNumeric(char from, char to) {
+        for (char c = from; c <= to; c++) {
+            put(c, "&#" + (int) c + ";");
+        }
+        return this;
+    }
+
+    private static TextEscaper html4() {
+        TextEscaper escaper = new TextEscaper(false)
+                .put('"', "&quot;").put('&', "&amp;").put('<', "&lt;").put('>', "&gt;");
+        for (int i = 0; i < HtmlEntities.LATIN1_NAMES.length; i++) {
+            escaper.put((char) (0xA0 + i), "&" + HtmlEntities.LATIN1_NAMES[i] + ";");
+        }
+        for (int i = 0; i < HtmlEntities.EXTENDED_CODES.length; i++) {
+            escaper.put(HtmlEntities.EXTENDED_CODES[i], "&" + HtmlEntities.EXTENDED_NAMES[i] + ";");
+        }
+        return escaper;
+    }
+
+    private static TextEscaper xml11() {
+        // NUL, U+FFFE and U+FFFF cannot appear in XML 1.1 at all, so they are dropped
+        return new TextEscaper(true)
+                .put('"', "&quot;").put('&', "&amp;").put('<', "&lt;").put('>', "&gt;").put('\'', "&apos;")
+                .put('\0', "").put('\uFFFE', "").put('\uFFFF', "")
+                .putNumeric('\u0001', '\u0008').putNumeric('\u000B', '\u000C').putNumeric('\u000E', '\u001F')
+                .putNumeric('\u007F', '\u0084').putNumeric('\u0086', '\u009F');
+    }
+
+    private static TextEscaper json() {
+        TextEscaper escaper = new TextEscaper(false);
+        for (char c = 0; c < 0x20; c++) {
+            escaper.put(c, String.format("\\u%04x", (int) c));
+        }
+        return escaper.put('"', "\\\"").put('\\', "\\\\")
+                .put('\b', "\\b").put('\f', "\\f").put('\n', "\\n").put('\r', "\\r").put('\t', "\\t");
+    }
+}
@@ -0,0 +1,151 @@
+package com.platform.sdk.string;
+
+import java.util.Arrays;
+
+/**
+ * Counterpart of {@link TextEscaper} behind {@code unescapeHtml()} and
+ * {@code unescapeXml()}. Named entities are resolved by binary search over a sorted
+ * name table, comparing in place without creating substrings; numeric references
+ * ({@code &#65;}, {@code &#x41;}) need their closing semicolon. Text without an
+ * {@code &} is returned unchanged.
+ */
+public final class TextUnescaper {
+
+    /** Same output as commons-text {@code StringEscapeUtils.unescapeHtml4}. */
+    public static final TextUnescaper HTML4 = html4();
+
+    /** Same output as commons-text {@code StringEscapeUtils.unescapeXml}. */
+    public static final TextUnescaper XML = new TextUnescaper(
+            new String[]{"amp", "apos", "gt", "lt", "quot"}, new char[]{'&', '\'', '>', '<', '"'});
+
+    private final String[] names;
+    private final char[] chars;
+    private final int maxNameLength;
+
+    private TextUnescaper(String[] names, char[] chars) {
+        this.names = names;
+        this.chars = chars;
+        int max = 0;
+        for (String name : names) max = Math.max(max, name.length());
+        this.maxNameLength = max;
+    }
+
+    public String unescape(String value) {
+        int amp = value.indexOf('&');
+        if (amp < 0) return value;
+        int length = value.length();
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(value, 0, amp);
+        int i = amp;
+        while (i < length) {
+            char c = value.charAt(i);
+            int consumed = c == '&' ? reference(value, i, sb) : 0;
+            if (consumed == 0) {
+                sb.append(c);
+                i++;
+            } else {
+                i += consumed;
+            }
+        }
+        return sb.toString();
+    }
+
+    /** Appends the character for the reference at {@code start} and returns its length, or 0 if there is none. */
+    private int reference(String value, int start, StringBuilder sb) {
+        int length = value.length();
+        if (start + 1 < length && value.charAt(start + 1) == '#') {
+            return numericReference(value, start, sb);
+        }
+        int limit = Math.min(length, start + 2 + maxNameLength);
+        for (int end = start + 1; end < limit; end++) {
+            if (value.charAt(end) == ';') {
+                int index = find(value, start + 1, end);
+                if (index < 0) return 0;
+                sb.append(chars[index]);
+                return end + 1 - start;
+            }
+        }
+        return 0;
+    }
+
+    private static int numericReference(String value, int start, StringBuilder sb) {
+        int length = value.length();
+        int digits = start + 2;
+        if (digits >= length) return 0;
+        int radix = 10;
+        char marker = value.charAt(digits);
+        if (marker == 'x' || marker == 'X') {
+            radix = 16;
+            digits++;
+        }
+        int end = digits;
+        while (end < length && Character.digit(value.charAt(end), 16) >= 0 && value.charAt(end) < 128) end++;
+        if (end == digits || end == length || value.charAt(end) != ';') return 0;
+        int codePoint = 0;
+        for (int i = digits; i < end; i++) {
+            int digit = Character.digit(value.charAt(i), radix);
+            if (digit < 0) return 0;
+            codePoint = codePoint * radix + digit;
+            if (codePoint > Character.MAX_CODE_POINT) return 0;
+        }
+        sb.appendCodePoint(codePoint);
+        return end + 1 - start;
+    }
+
+    private int find(String value, int start, int end) {
+        int low = 0;
+        int high = names.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int cmp = compare(names[mid], value, start, end);
+            if (cmp < 0) {
+                low = mid + 1;
+            } else if (cmp > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    private static int compare(String name, String value, int start, int end) {
+        int n = Math.min(name.length(), end - start);
+        for (int i = 0; i < n; i++) {
+            int diff = name.charAt(i) - value.charAt(start + i);
+            if (diff != 0) return diff;
+        }
+        return name.length() - (end - start);
+    }
+
+    private static TextUnescaper html4() {
+        int latin1 = HtmlEntities.LATIN1_NAMES.length;
+        int extended = HtmlEntities.EXTENDED_NAMES.length;
+        String[] names = new String[4 + latin1 + extended];
+        char[] chars = new char[names.length];
+        String[] basic = {"quot", "amp", "lt", "gt"};
+        char[] basicChars = {'"', '&', '<', '>'};
+        for (int i = 0; i < 4; i++) {
+            names[i] = basic[i];
+            chars[i] = basicChars[i];
+        }
+        for (int i = 0; i < latin1; i++) {
+            names[4 + i] = HtmlEntities.LATIN1_NAMES[i];
+            chars[4 + i] = (char) (0xA0 + i);
+        }
+        for (int i = 0; i < extended; i++) {
+            names[4 + latin1 + i] = HtmlEntities.EXTENDED_NAMES[i];
+            chars[4 + latin1 + i] = HtmlEntities.EXTENDED_CODES[i];
+        }
+        Integer[] order = new Integer[names.length];
+        for (int i = 0; i < order.length; i++) order[i] = i;
+        Arrays.sort(order, (a, b) -> names[a].compareTo(names[b]));
+        String[] sortedNames = new String[names.length];
+        char[] sortedChars = new char[names.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedNames[i] = names[order[i]];
+            sortedChars[i] = chars[order[i]];
+        }
+        return new TextUnescaper(sortedNames, sortedChars);
+    }
+}
@@ -0,0 +1,206 @@
+package com.platform.sdk.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Word histogram keyed by {@link WordTokenizer} spans. Each word is hashed and compared
+ * in place against the first occurrence of its kind, so counting creates no Strings;
+ * a distinct word is only materialized when a caller asks for it. Words are kept in
+ * first-occurrence order, which is the order {@link #forEach} and {@link #toMap()} use.
+ */
+public final class WordFrequency {
+
+    private static final CharMatcher ASCII = CharMatcher.inRange('\0', '\u007F');
+
+    private final String text;
+    private final boolean foldAscii;
+    private int[] slots = new int[32];
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private int[] hashes = new int[16];
+    private int[] counts = new int[16];
+    private String[] words;
+    private int distinct;
+    private int total;
+
+    WordFrequency(String text, boolean foldAscii) {
+        this.text = text;
+        this.foldAscii = foldAscii;
+    }
+
+    public static WordFrequency of(String text) {
+        return new WordFrequency(text, false).count(0, text.length());
+    }
+
+    /**
+     * Counts the words of {@code text.toLowerCase()}. ASCII-only text is folded while
+     * hashing; anything else is lower-cased once up front.
+     */
+    public static WordFrequency ofIgnoreCase(String text) {
+        if (canFoldAscii(text)) {
+            return new WordFrequency(text, true).count(0, text.length());
+        }
+        String lower = text.toLowerCase();
+        return new WordFrequency(lower, false).count(0, lower.length());
+    }
+
+    static boolean canFoldAscii(String text) {
+        return WordOperations.asciiCaseMappingIsExact() && ASCII.matchesAll(text);
+    }
+
+    /** Count of {@code word}, which must be lower case to match an ignore-case histogram. */
+    public int get(String word) {
+        int h = 0;
+        for (int i = 0; i < word.length(); i++) {
+            h = 31 * h + word.charAt(i);
+        }
+        int mask = slots.length - 1;
+        for (int slot = spread(h) & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (hashes[entry] == h && matches(entry, word)) return counts[entry];
+        }
+        return 0;
+    }
+
+    /** Number of distinct words. */
+    public int distinct() {
+        return distinct;
+    }
+
+    /** Number of words counted. */
+    public int total() {
+        return total;
+    }
+
+    /** Visits every distinct word in first-occurrence order. */
+    public void forEach(ObjIntConsumer<String> consumer) {
+        for (int i = 0; i < distinct; i++) {
+            consumer.accept(word(i), counts[i]);
+        }
+    }
+
+    /** Up to {@code n} most frequent words, most frequent first; ties keep first-occurrence order. */
+    public List<String> topN(int n) {
+        int size = Math.max(0, Math.min(n, distinct));
+        // count descending, then first-occurrence index, packed so a primitive sort orders them
+        long[] keys = new long[distinct];
+        for (int i = 0; i < distinct; i++) {
+            keys[i] = ((long) (Integer.MAX_VALUE - counts[i]) << 32) | i;
+        }
+        Arrays.sort(keys);
+        List<String> top = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            top.add(word((int) keys[i]));
+        }
+        return top;
+    }
+
+    public Map<String, Integer> toMap() {
+        Map<String, Integer> map = new LinkedHashMap<>();
+        forEach(map::put);
+        return map;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+    /** Counts the words in {@code [from, to)}, which must not cut through a word. */
+    WordFrequency count(int from, int to) {
+        WordTokenizer.Cursor cursor = WordTokenizer.cursor(text, from, to);
+        while (cursor.next()) {
+            int h = 0;
+            for (int i = cursor.start(); i < cursor.end(); i++) {
+                h = 31 * h + fold(text.charAt(i));
+            }
+            add(cursor.start(), cursor.end(), h, 1);
+        }
+        return this;
+    }
+
+    /** Adds the counts of {@code other}, which must count the same text with the same folding. */
+    void merge(WordFrequency other) {
+        for (int entry = 0; entry < other.distinct; entry++) {
+            add(other.starts[entry], other.ends[entry], other.hashes[entry], other.counts[entry]);
+        }
+    }
+
+    private void add(int start, int end, int h, int count) {
+        total += count;
+        int mask = slots.length - 1;
+        int slot = spread(h) & mask;
+        for (; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int entry = slots[slot] - 1;
+            if (hashes[entry] == h && sameWord(entry, start, end)) {
+                counts[entry] += count;
+                return;
+            }
+        }
+        if (distinct == starts.length) {
+            int capacity = distinct * 2;
+            starts = Arrays.copyOf(starts, capacity);
+            ends = Arrays.copyOf(ends, capacity);
+            hashes = Arrays.copyOf(hashes, capacity);
+            counts = Arrays.copyOf(counts, capacity);
+        }
+        starts[distinct] = start;
+        ends[distinct] = end;
+        hashes[distinct] = h;
+        counts[distinct] = count;
+        slots[slot] = ++distinct;
+        if (distinct * 2 > slots.length) rehash();
+    }
+
+    private boolean sameWord(int entry, int start, int end) {
+        int s = starts[entry];
+        if (ends[entry] - s != end - start) return false;
+        for (int i = 0; i < end - start; i++) {
+            if (fold(text.charAt(s + i)) != fold(text.charAt(start + i))) return false;
+        }
+        return true;
+    }
+
+    private boolean matches(int entry, String word) {
+        int s = starts[entry];
+        if (ends[entry] - s != word.length()) return false;
+        for (int i = 0; i < word.length(); i++) {
+            if (fold(text.charAt(s + i)) != word.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    private String word(int entry) {
+        if (words == null) words = new String[distinct];
+        String word = words[entry];
+        if (word == null) {
+            word = text.substring(starts[entry], ends[entry]);
+            if (foldAscii) word = word.toLowerCase();
+            words[entry] = word;
+        }
+        return word;
+    }
+
+    private char fold(char c) {
+        return foldAscii && c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private void rehash() {
+        slots = new int[slots.length * 2];
+        int mask = slots.length - 1;
+        for (int entry = 0; entry < distinct; entry++) {
+            int slot = spread(hashes[entry]) & mask;
+            while (slots[slot] != 0) slot = (slot + 1) & mask;
+            slots[slot] = entry + 1;
+        }
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,129 @@
+package com.platform.sdk.string;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Word-level kernels built on {@link WordTokenizer}, shared by FluentString and
+ * FluentStringStream. Results join words with a single space, and operations that
+ * would rebuild an identical string return their argument instead.
+ */
+public final class WordOperations {
+
+    private WordOperations() {
+    }
+
+    public static List<String> words(String value) {
+        List<String> words = new ArrayList<>();
+        WordTokenizer.forEach(value, (start, end) -> words.add(value.substring(start, end)));
+        return words;
+    }
+
+    /** Upper-cases the first character of every word and lower-cases the rest. */
+    public static String capitalizeWords(String value) {
+        StringBuilder sb = new StringBuilder(value.length());
+        WordTokenizer.Cursor cursor = WordTokenizer.cursor(value);
+        while (cursor.next()) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(Character.toUpperCase(value.charAt(cursor.start())));
+            appendLowerCase(sb, value, cursor.start() + 1, cursor.end());
+        }
+        return sameOrNew(value, sb);
+    }
+
+    public static String toTitleCase(String value, Locale locale) {
+        StringBuilder sb = new StringBuilder(value.length());
+        WordTokenizer.Cursor cursor = WordTokenizer.cursor(value);
+        while (cursor.next()) {
+            int start = cursor.start();
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(value.substring(start, start + 1).toUpperCase(locale))
+                    .append(value.substring(start + 1, cursor.end()).toLowerCase(locale));
+        }
+        return sameOrNew(value, sb);
+    }
+
+    public static String reverseWords(String value) {
+        int[] spans = spans(value);
+        StringBuilder sb = new StringBuilder(value.length());
+        for (int i = spans.length - 2; i >= 0; i -= 2) {
+            if (sb.length() > 0) sb.append(' ');
+            sb.append(value, spans[i], spans[i + 1]);
+        }
+        return sameOrNew(value, sb);
+    }
+
+    public static String removeDuplicateWords(String value) {
+        Set<String> seen = new HashSet<>();
+        StringBuilder sb = new StringBuilder(value.length());
+        WordTokenizer.Cursor cursor = WordTokenizer.cursor(value);
+        while (cursor.next()) {
+            if (seen.add(cursor.word())) {
+                if (sb.length() > 0) sb.append(' ');
+                sb.append(value, cursor.start(), cursor.end());
+            }
+        }
+        return sameOrNew(value, sb);
+    }
+
+    /** Keeps the first {@code n} words; returns {@code value} itself when it has no more than {@code n}. */
+    public static String truncateWords(String value, int n) {
+        if (n <= 0) return "";
+        StringBuilder sb = new StringBuilder();
+        WordTokenizer.Cursor cursor = WordTokenizer.cursor(value);
+        int count = 0;
+        while (cursor.next()) {
+            if (++count > n) return sb.toString();
+            if (count > 1) sb.append(' ');
+            sb.append(value, cursor.start(), cursor.end());
+        }
+        return value;
+    }
+
+    public static String initials(String value) {
+        StringBuilder sb = new StringBuilder();
+        WordTokenizer.forEach(value, (start, end) -> sb.append(Character.toUpperCase(value.charAt(start))));
+        return sb.toString();
+    }
+
+    /** Word spans as {@code [start0, end0, start1, end1, ...]}. */
+    static int[] spans(String value) {
+        int[] spans = new int[8];
+        WordTokenizer.Cursor cursor = WordTokenizer.cursor(value);
+        int size = 0;
+        while (cursor.next()) {
+            if (size == spans.length) spans = Arrays.copyOf(spans, size * 2);
+            spans[size++] = cursor.start();
+            spans[size++] = cursor.end();
+        }
+        return Arrays.copyOf(spans, size);
+    }
+
+    static void appendLowerCase(StringBuilder sb, String value, int start, int end) {
+        boolean asciiExact = asciiCaseMappingIsExact();
+        for (int i = start; i < end; i++) {
+            if (value.charAt(i) >= 128 || !asciiExact) {
+                sb.append(value.substring(start, end).toLowerCase());
+                return;
+            }
+        }
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            sb.append(c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c);
+        }
+    }
+
+    /** False under Turkish and Azeri default locales, where {@code 'I'} does not lower-case to {@code 'i'}. */
+    public static boolean asciiCaseMappingIsExact() {
+        String language = Locale.getDefault().getLanguage();
+        return !"tr".equals(language) && !"az".equals(language);
+    }
+
+    private static String sameOrNew(String value, StringBuilder sb) {
+        return value.contentEquals(sb) ? value : sb.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package com.platform.sdk.string;
+
+/**
+ * Single-pass word tokenizer shared by every word-level operation of FluentString and
+ * FluentStringStream. Words are maximal runs of characters that are not Unicode
+ * whitespace ({@link Character#isWhitespace} or {@link Character#isSpaceChar}, so
+ * no-break spaces separate words too). Words are reported as {@code [start, end)}
+ * spans; no substrings or arrays are created unless the caller asks for them.
+ */
+public final class WordTokenizer {
+
+    private static final CharMatcher SEPARATOR = CharMatcher.whitespace();
+
+    private WordTokenizer() {
+    }
+
+    @FunctionalInterface
+    public interface SpanConsumer {
+        void accept(int start, int end);
+    }
+
+    public static boolean isSeparator(char c) {
+        return SEPARATOR.matches(c);
+    }
+
+    /** Counts the words of {@code text} without allocating. */
+    public static int count(CharSequence text) {
+        return count(text, 0, text.length());
+    }
+
+    static int count(CharSequence text, int from, int to) {
+        int count = 0;
+        boolean inWord = false;
+        for (int i = from; i < to; i++) {
+            boolean separator = SEPARATOR.matches(text.charAt(i));
+            if (!separator && !inWord) count++;
+            inWord = !separator;
+        }
+        return count;
+    }
+
+    public static void forEach(CharSequence text, SpanConsumer consumer) {
+        int length = text.length();
+        int i = 0;
+        while (true) {
+            while (i < length && SEPARATOR.matches(text.charAt(i))) i++;
+            if (i == length) return;
+            int start = i;
+            while (i < length && !SEPARATOR.matches(text.charAt(i))) i++;
+            consumer.accept(start, i);
+        }
+    }
+
+    public static Cursor cursor(CharSequence text) {
+        return new Cursor(text, 0, text.length());
+    }
+
+    /** Cursor over {@code [from, to)}; callers pass bounds that do not cut through a word. */
+    static Cursor cursor(CharSequence text, int from, int to) {
+        return new Cursor(text, from, to);
+    }
+
+    /**
+     * Pull-style iteration over the words of a text:
+     * {@code while (cursor.next()) { use(cursor.start(), cursor.end()); }}
+     */
+    public static final class Cursor {
+        private final CharSequence text;
+        private final int from;
+        private final int limit;
+        private int start;
+        private int end;
+
+        private Cursor(CharSequence text, int from, int limit) {
+            this.text = text;
+            this.from = from;
+            this.limit = limit;
+            this.start = this.end = from;
+        }
+
+        public boolean next() {
+            int length = limit;
+            int i = end;
+            while (i < length && SEPARATOR.matches(text.charAt(i))) i++;
+            if (i == length) {
+                start = end = length;
+                return false;
+            }
+            start = i;
+            while (i < length && !SEPARATOR.matches(text.charAt(i))) i++;
+            end = i;
+            return true;
+        }
+
+        public int start() {
+            return start;
+        }
+
+        public int end() {
+            return end;
+        }
+
+        public String word() {
+            return text.subSequence(start, end).toString();
+        }
+
+        public void reset() {
+            start = end = from;
+        }
+    }
+}
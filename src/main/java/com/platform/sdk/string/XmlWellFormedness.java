@@ -0,0 +1,435 @@
+package com.platform.sdk.string;
+
+import java.util.Arrays;
+
+/**
+ * Single-pass XML 1.0 well-formedness check behind {@code isXml()}. It walks the text
+ * once, keeps only the names of the open elements, and stops at the first error; no
+ * parser is looked up and no tree is built.
+ * <p>
+ * Documents are checked as a non-validating parser reading from a character stream
+ * would check them, with one deliberate restriction so that untrusted input can never
+ * trigger entity expansion or external fetches: a DOCTYPE may not carry a
+ * {@code SYSTEM}/{@code PUBLIC} identifier, and its internal subset may only hold
+ * element, attribute-list and notation declarations, comments and processing
+ * instructions. Only the five predefined entities and character references are
+ * therefore accepted.
+ */
+public final class XmlWellFormedness {
+
+    private final String text;
+    private final int length;
+    private int pos;
+    private int[] openStarts = new int[16];
+    private int[] openEnds = new int[16];
+    private int depth;
+    private int[] attributes = new int[16];
+
+    private XmlWellFormedness(String text) {
+        this.text = text;
+        this.length = text.length();
+    }
+
+    public static boolean check(String text) {
+        return text != null && new XmlWellFormedness(text).document();
+    }
+
+    private boolean document() {
+        if (startsWith("<?xml") && isWhitespace(at(5)) && !xmlDeclaration()) return false;
+        if (!misc()) return false;
+        if (startsWith("<!DOCTYPE")) {
+            if (!doctype() || !misc()) return false;
+        }
+        return at(pos) == '<' && rootElement() && misc() && pos == length;
+    }
+
+    private boolean misc() {
+        while (true) {
+            skipWhitespace();
+            if (startsWith("<!--")) {
+                if (!comment()) return false;
+            } else if (startsWith("<?")) {
+                if (!processingInstruction()) return false;
+            } else {
+                return true;
+            }
+        }
+    }
+
+    private boolean rootElement() {
+        if (!startTag()) return false;
+        while (depth > 0) {
+            int c = at(pos);
+            boolean ok;
+            if (c == '<') {
+                if (at(pos + 1) == '/') {
+                    ok = endTag();
+                } else if (startsWith("<!--")) {
+                    ok = comment();
+                } else if (startsWith("<![CDATA[")) {
+                    ok = cdata();
+                } else if (at(pos + 1) == '?') {
+                    ok = processingInstruction();
+                } else {
+                    ok = startTag();
+                }
+            } else if (c == '&') {
+                ok = reference();
+            } else {
+                ok = c >= 0 && charData();
+            }
+            if (!ok) return false;
+        }
+        return true;
+    }
+
+    private boolean startTag() {
+        pos++;
+        int nameStart = pos;
+        if (!name()) return false;
+        int nameEnd = pos;
+        int attributeCount = 0;
+        while (true) {
+            boolean separated = skipWhitespace();
+            int c = at(pos);
+            if (c == '>') {
+                pos++;
+                push(nameStart, nameEnd);
+                return true;
+            }
+            if (c == '/' && at(pos + 1) == '>') {
+                pos += 2;
+                return true;
+            }
+            if (!separated) return false;
+            int attributeStart = pos;
+            if (!name()) return false;
+            for (int i = 0; i < attributeCount; i++) {
+                if (sameRegion(attributes[2 * i], attributes[2 * i + 1], attributeStart, pos)) return false;
+            }
+            if (2 * attributeCount + 2 > attributes.length) {
+                attributes = Arrays.copyOf(attributes, attributes.length * 2);
+            }
+            attributes[2 * attributeCount] = attributeStart;
+            attributes[2 * attributeCount + 1] = pos;
+            attributeCount++;
+            skipWhitespace();
+            if (at(pos) != '=') return false;
+            pos++;
+            skipWhitespace();
+            if (!attributeValue()) return false;
+        }
+    }
+
+    private boolean endTag() {
+        pos += 2;
+        int nameStart = pos;
+        if (!name()) return false;
+        depth--;
+        if (!sameRegion(openStarts[depth], openEnds[depth], nameStart, pos)) return false;
+        skipWhitespace();
+        if (at(pos) != '>') return false;
+        pos++;
+        return true;
+    }
+
+    private boolean attributeValue() {
+        int quote = at(pos);
+        if (quote != '"' && quote != '\'') return false;
+        pos++;
+        while (true) {
+            int c = at(pos);
+            if (c == quote) {
+                pos++;
+                return true;
+            }
+            if (c == '<' || c < 0) return false;
+            if (c == '&' ? !reference() : !character()) return false;
+        }
+    }
+
+    private boolean charData() {
+        while (true) {
+            int c = at(pos);
+            if (c == '<' || c == '&' || c < 0) return true;
+            if (c == ']' && startsWith("]]>")) return false;
+            if (!character()) return false;
+        }
+    }
+
+    /** Predefined entity or character reference; no other entity can be declared. */
+    private boolean reference() {
+        pos++;
+        if (at(pos) == '#') {
+            pos++;
+            int radix = 10;
+            if (at(pos) == 'x') {
+                radix = 16;
+                pos++;
+            }
+            int digitsStart = pos;
+            int codePoint = 0;
+            int digit;
+            while (at(pos) < 128 && (digit = Character.digit(at(pos), radix)) >= 0) {
+                codePoint = codePoint * radix + digit;
+                if (codePoint > Character.MAX_CODE_POINT) return false;
+                pos++;
+            }
+            if (pos == digitsStart || at(pos) != ';') return false;
+            pos++;
+            return isXmlChar(codePoint) || codePoint >= Character.MIN_SUPPLEMENTARY_CODE_POINT;
+        }
+        int nameStart = pos;
+        if (!name() || at(pos) != ';') return false;
+        int nameLength = pos - nameStart;
+        pos++;
+        return nameLength == 2 && (text.startsWith("lt", nameStart) || text.startsWith("gt", nameStart))
+                || nameLength == 3 && text.startsWith("amp", nameStart)
+                || nameLength == 4 && (text.startsWith("apos", nameStart) || text.startsWith("quot", nameStart));
+    }
+
+    private boolean comment() {
+        pos += 4;
+        while (true) {
+            if (at(pos) == '-' && at(pos + 1) == '-') {
+                if (at(pos + 2) != '>') return false;
+                pos += 3;
+                return true;
+            }
+            if (!character()) return false;
+        }
+    }
+
+    private boolean cdata() {
+        pos += 9;
+        while (!startsWith("]]>")) {
+            if (!character()) return false;
+        }
+        pos += 3;
+        return true;
+    }
+
+    private boolean processingInstruction() {
+        pos += 2;
+        int targetStart = pos;
+        if (!name()) return false;
+        if (pos - targetStart == 3 && text.regionMatches(true, targetStart, "xml", 0, 3)) return false;
+        if (startsWith("?>")) {
+            pos += 2;
+            return true;
+        }
+        if (!skipWhitespace()) return false;
+        while (!startsWith("?>")) {
+            if (!character()) return false;
+        }
+        pos += 2;
+        return true;
+    }
+
+    private boolean xmlDeclaration() {
+        pos = 5;
+        skipWhitespace();
+        int value = pseudoAttribute("version");
+        if (value < 0 || pos - value != 4 || !(text.startsWith("1.0", value) || text.startsWith("1.1", value))) {
+            return false;
+        }
+        boolean separated = skipWhitespace();
+        if (separated && startsWith("encoding")) {
+            value = pseudoAttribute("encoding");
+            if (value < 0 || pos - 1 == value || !isAsciiLetter(at(value))) return false;
+            for (int i = value + 1; i < pos - 1; i++) {
+                int c = at(i);
+                if (!isAsciiLetter(c) && !(c >= '0' && c <= '9') && c != '.' && c != '_' && c != '-') return false;
+            }
+            separated = skipWhitespace();
+        }
+        if (separated && startsWith("standalone")) {
+            value = pseudoAttribute("standalone");
+            if (value < 0) return false;
+            int valueLength = pos - 1 - value;
+            if (!(valueLength == 3 && text.startsWith("yes", value) || valueLength == 2 && text.startsWith("no", value))) {
+                return false;
+            }
+            skipWhitespace();
+        }
+        if (!startsWith("?>")) return false;
+        pos += 2;
+        return true;
+    }
+
+    /** Consumes {@code name = "value"} and returns the offset of the value, or -1. */
+    private int pseudoAttribute(String name) {
+        if (!startsWith(name)) return -1;
+        pos += name.length();
+        skipWhitespace();
+        if (at(pos) != '=') return -1;
+        pos++;
+        skipWhitespace();
+        int quote = at(pos);
+        if (quote != '"' && quote != '\'') return -1;
+        int value = ++pos;
+        while (at(pos) != quote) {
+            if (at(pos) < 0) return -1;
+            pos++;
+        }
+        pos++;
+        return value;
+    }
+
+    private boolean doctype() {
+        pos += 9;
+        if (!skipWhitespace() || !name()) return false;
+        skipWhitespace();
+        if (startsWith("SYSTEM") || startsWith("PUBLIC")) return false;
+        if (at(pos) == '[') {
+            pos++;
+            if (!internalSubset()) return false;
+            pos++;
+            skipWhitespace();
+        }
+        if (at(pos) != '>') return false;
+        pos++;
+        return true;
+    }
+
+    private boolean internalSubset() {
+        while (true) {
+            skipWhitespace();
+            int c = at(pos);
+            boolean ok;
+            if (c == ']') {
+                return true;
+            } else if (startsWith("<!--")) {
+                ok = comment();
+            } else if (startsWith("<?")) {
+                ok = processingInstruction();
+            } else if (startsWith("<!ELEMENT") || startsWith("<!ATTLIST") || startsWith("<!NOTATION")) {
+                ok = markupDeclaration();
+            } else {
+                // entity declarations, parameter-entity references and anything else
+                return false;
+            }
+            if (!ok) return false;
+        }
+    }
+
+    private boolean markupDeclaration() {
+        pos += 2;
+        int quote = 0;
+        while (true) {
+            int c = at(pos);
+            if (c < 0) return false;
+            if (quote != 0) {
+                if (c == quote) quote = 0;
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+            } else if (c == '>') {
+                pos++;
+                return true;
+            } else if (c == '%' || c == '<') {
+                return false;
+            }
+            if (!character()) return false;
+        }
+    }
+
+    private boolean name() {
+        int c = at(pos);
+        if (!isNameStartChar(c)) {
+            return c >= 0 && Character.isHighSurrogate((char) c) && supplementaryNameChar();
+        }
+        pos++;
+        while (true) {
+            c = at(pos);
+            if (isNameChar(c)) {
+                pos++;
+            } else if (!(c >= 0 && Character.isHighSurrogate((char) c) && supplementaryNameChar())) {
+                return true;
+            }
+        }
+    }
+
+    /** Name characters above U+FFFF, which are all in [#x10000-#xEFFFF]. */
+    private boolean supplementaryNameChar() {
+        int low = at(pos + 1);
+        if (low < 0 || !Character.isLowSurrogate((char) low)) return false;
+        int codePoint = Character.toCodePoint(text.charAt(pos), (char) low);
+        if (codePoint > 0xEFFFF) return false;
+        pos += 2;
+        return true;
+    }
+
+    /** Consumes one legal XML character, or a valid surrogate pair. */
+    private boolean character() {
+        int c = at(pos);
+        if (isXmlChar(c)) {
+            pos++;
+            return true;
+        }
+        if (c >= 0 && Character.isHighSurrogate((char) c)) {
+            int low = at(pos + 1);
+            if (low >= 0 && Character.isLowSurrogate((char) low)) {
+                pos += 2;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void push(int nameStart, int nameEnd) {
+        if (depth == openStarts.length) {
+            openStarts = Arrays.copyOf(openStarts, depth * 2);
+            openEnds = Arrays.copyOf(openEnds, depth * 2);
+        }
+        openStarts[depth] = nameStart;
+        openEnds[depth] = nameEnd;
+        depth++;
+    }
+
+    private boolean sameRegion(int start, int end, int otherStart, int otherEnd) {
+        return end - start == otherEnd - otherStart && text.regionMatches(start, text, otherStart, end - start);
+    }
+
+    private boolean skipWhitespace() {
+        int start = pos;
+        while (isWhitespace(at(pos))) pos++;
+        return pos > start;
+    }
+
+    private boolean startsWith(String prefix) {
+        return text.startsWith(prefix, pos);
+    }
+
+    private int at(int index) {
+        return index < length ? text.charAt(index) : -1;
+    }
+
+    private static boolean isWhitespace(int c) {
+        return c == ' ' || c == '\n' || c == '\t' || c == '\r';
+    }
+
+    private static boolean isAsciiLetter(int c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z';
+    }
+
+    private static boolean isXmlChar(int c) {
+        return c >= 0x20 && c < 0xD800 || c == '\n' || c == '\t' || c == '\r' || c >= 0xE000 && c <= 0xFFFD;
+    }
+
+    private static boolean isNameStartChar(int c) {
+        return isAsciiLetter(c) || c == ':' || c == '_'
+                || c >= 0xC0 && c <= 0x2FF && c != 0xD7 && c != 0xF7
+                || c >= 0x370 && c <= 0x1FFF && c != 0x37E
+                || c == 0x200C || c == 0x200D
+                || c >= 0x2070 && c <= 0x218F
+                || c >= 0x2C00 && c <= 0x2FEF
+                || c >= 0x3001 && c <= 0xD7FF
+                || c >= 0xF900 && c <= 0xFDCF
+                || c >= 0xFDF0 && c <= 0xFFFD;
+    }
+
+    private static boolean isNameChar(int c) {
+        return isNameStartChar(c) || c >= '0' && c <= '9' || c == '-' || c == '.' || c == 0xB7
+                || c >= 0x300 && c <= 0x36F || c == 0x203F || c == 0x2040;
+    }
+}
@@ -0,0 +1,42 @@
+package com.platform.sdk.string.stream;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The executor {@code collectAsync()} and {@code applyAsync(...)} run on when the caller
+ * gives none. The work they exist for is blocking: a plugin or {@code map(...)} step
+ * that looks a value up in a cache, a file or a service. On Java 8 to 20 each task gets
+ * a thread from an unbounded pool of daemon threads, which are kept for a minute once
+ * idle; the multi-release JAR replaces this class on Java 21 and later with one that
+ * starts a virtual thread per task.
+ */
+final class AsyncExecution {
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new DaemonThreads());
+
+    private AsyncExecution() {
+    }
+
+    static Executor executor() {
+        return EXECUTOR;
+    }
+
+    static boolean usesVirtualThreads() {
+        return false;
+    }
+
+    private static final class DaemonThreads implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable task) {
+            Thread thread = new Thread(task, "fluent-string-async-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
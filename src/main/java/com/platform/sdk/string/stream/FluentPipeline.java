@@ -0,0 +1,152 @@
+package com.platform.sdk.string.stream;
+
+import com.platform.sdk.string.FluentTelemetry;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * A reusable chain of FluentStringStream steps, defined once and applied to any number
+ * of inputs:
+ * <pre>{@code
+ * FluentPipeline normalizeName = FluentPipeline.define(s -> s.trim().stripAccents().toLowerCase());
+ * String key = normalizeName.apply(record.name());
+ * }</pre>
+ * The steps are compiled (redundant steps dropped, adjacent built-in steps fused) when
+ * the pipeline is defined, so applying it allocates nothing but the values the steps
+ * produce. A pipeline is immutable and can be shared between threads, provided the
+ * functions passed to steps such as {@code map(...)} are themselves thread-safe.
+ * <p>
+ * Only transformation steps become part of a pipeline; terminal and inspection methods
+ * called while defining it ({@code peek}, {@code validate}, ...) run once, on the empty
+ * value the definition starts from.
+ */
+public final class FluentPipeline {
+
+    private final List<Function<String, String>> program;
+    private final int steps;
+    private final Function<String, String> function = this::apply;
+    private final PipelineProfiler profiler;
+    private final PipelineProfiler.Slot[] slots;
+
+    FluentPipeline(List<Function<String, String>> steps) {
+        this.program = Collections.unmodifiableList(new ArrayList<>(PipelineCompiler.compile(steps)));
+        this.steps = steps.size();
+        this.profiler = null;
+        this.slots = null;
+    }
+
+    /** A pipeline that runs its steps one by one, uncompiled, recording each with {@code profiler}. */
+    FluentPipeline(List<Function<String, String>> steps, PipelineProfiler profiler, List<String> names) {
+        this.program = Collections.unmodifiableList(new ArrayList<>(steps));
+        this.steps = steps.size();
+        this.profiler = profiler;
+        this.slots = profiler.slots(0, names);
+    }
+
+    public static FluentPipeline define(UnaryOperator<FluentStringStream> steps) {
+        if (steps == null) throw new IllegalArgumentException("Steps must not be null");
+        return steps.apply(FluentStringStream.of("")).toPipeline();
+    }
+
+    /** Runs the pipeline over {@code input}; {@code null} is treated as an empty string, as in {@link FluentStringStream#of}. */
+    public String apply(String input) {
+        if (profiler != null) return profiler.run(program, slots, input == null ? "" : input);
+        String value = input == null ? "" : input;
+        long start = FluentTelemetry.start();
+        String result = PipelineCompiler.run(program, value);
+        FluentTelemetry.operation("pipeline", null, start, value.length());
+        return result;
+    }
+
+    public List<String> applyAll(List<String> inputs) {
+        List<String> results = new ArrayList<>(inputs.size());
+        for (String input : inputs) {
+            results.add(apply(input));
+        }
+        return results;
+    }
+
+    /** Writes the result for {@code inputs[i]} to {@code out[i]} and returns {@code out}. */
+    public String[] applyAll(String[] inputs, String[] out) {
+        if (out.length < inputs.length) {
+            throw new IllegalArgumentException("Output array has " + out.length + " slots for " + inputs.length + " inputs");
+        }
+        for (int i = 0; i < inputs.length; i++) {
+            out[i] = apply(inputs[i]);
+        }
+        return out;
+    }
+
+    /**
+     * Runs the pipeline over {@code input} on the default async executor (a virtual thread
+     * per call on Java 21 and later), for pipelines whose steps block.
+     */
+    public CompletableFuture<String> applyAsync(String input) {
+        return applyAsync(input, AsyncExecution.executor());
+    }
+
+    public CompletableFuture<String> applyAsync(String input, Executor executor) {
+        if (executor == null) throw new IllegalArgumentException("Executor must not be null");
+        return CompletableFuture.supplyAsync(() -> apply(input), executor);
+    }
+
+    /**
+     * Runs the pipeline over every input as its own task and completes with the results
+     * in input order once all are done, or exceptionally if any of them failed. Unlike
+     * {@link #parallel()}, which keeps a few threads busy with CPU-bound work, this suits
+     * steps that spend their time waiting.
+     */
+    public CompletableFuture<List<String>> applyAllAsync(List<String> inputs) {
+        return applyAllAsync(inputs, AsyncExecution.executor());
+    }
+
+    public CompletableFuture<List<String>> applyAllAsync(List<String> inputs, Executor executor) {
+        if (executor == null) throw new IllegalArgumentException("Executor must not be null");
+        List<CompletableFuture<String>> futures = new ArrayList<>(inputs.size());
+        for (String input : inputs) {
+            futures.add(applyAsync(input, executor));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).thenApply(done -> {
+            List<String> results = new ArrayList<>(futures.size());
+            for (CompletableFuture<String> future : futures) {
+                results.add(future.join());
+            }
+            return results;
+        });
+    }
+
+    /** Runs this pipeline over batches of values on a thread pool; see {@link ParallelPipeline}. */
+    public ParallelPipeline parallel() {
+        return ParallelPipeline.of(this);
+    }
+
+    /** Runs the pipeline over {@code input} with fused steps building their results in {@code scratch}. */
+    String apply(String input, FusedStage.Workspace scratch) {
+        if (profiler != null) return profiler.run(program, slots, input == null ? "" : input);
+        String value = input == null ? "" : input;
+        long start = FluentTelemetry.start();
+        String result = PipelineCompiler.run(program, value, scratch);
+        FluentTelemetry.operation("pipeline", null, start, value.length());
+        return result;
+    }
+
+    public Function<String, String> asFunction() {
+        return function;
+    }
+
+    /** Number of steps the pipeline was defined with. */
+    public int size() {
+        return steps;
+    }
+
+    @Override
+    public String toString() {
+        return "FluentPipeline[" + steps + " steps, " + program.size() + " compiled]";
+    }
+}
@@ -0,0 +1,45 @@
+package com.platform.sdk.string.stream;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The streams {@link FluentStringStream#branch} split a stream into. They share the
+ * steps added before the split, which run once for all of them; {@link #collectAll()}
+ * then runs each branch's own steps and returns the results in branch order.
+ */
+public final class FluentStringBranches {
+
+    private final List<FluentStringStream> branches;
+
+    FluentStringBranches(List<FluentStringStream> branches) {
+        this.branches = Collections.unmodifiableList(new ArrayList<>(branches));
+    }
+
+    public List<String> collectAll() {
+        List<String> results = new ArrayList<>(branches.size());
+        for (FluentStringStream branch : branches) {
+            results.add(branch.collect());
+        }
+        return results;
+    }
+
+    /** The stream of branch {@code index}, to collect on its own or add more steps to. */
+    public FluentStringStream get(int index) {
+        return branches.get(index);
+    }
+
+    public List<FluentStringStream> streams() {
+        return branches;
+    }
+
+    public int size() {
+        return branches.size();
+    }
+
+    @Override
+    public String toString() {
+        return "FluentStringBranches" + collectAll();
+    }
+}
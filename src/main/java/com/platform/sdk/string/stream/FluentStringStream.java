@@ -1,82 +1,195 @@
 package com.platform.sdk.string.stream;
 
+import com.platform.sdk.string.AccentFolding;
+import com.platform.sdk.string.CaseFormat;
+import com.platform.sdk.string.CharFrequency;
+import com.platform.sdk.string.CharMatcher;
 import com.platform.sdk.string.FluentString;
 import com.platform.sdk.string.FluentStringAssertions;
 import com.platform.sdk.string.FluentStringBuilder;
 import com.platform.sdk.string.FluentStringParser;
+import com.platform.sdk.string.FluentStringPatternCache;
+import com.platform.sdk.string.FluentStringPlugin;
+import com.platform.sdk.string.FluentTelemetry;
+import com.platform.sdk.string.ParallelTextAnalyzer;
+import com.platform.sdk.string.StringShape;
+import com.platform.sdk.string.TextEscaper;
+import com.platform.sdk.string.TextUnescaper;
+import com.platform.sdk.string.WordFrequency;
+import com.platform.sdk.string.WordOperations;
+import com.platform.sdk.string.WordTokenizer;
+import com.platform.sdk.string.XmlWellFormedness;
 
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.text.Normalizer;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 public final class FluentStringStream {
 
+    private static final CharMatcher ALPHANUMERIC_OR_SPACE = CharMatcher.asciiLetterOrDigit().or(CharMatcher.is(' '));
+    /** The chars {@link String#trim()} removes; a value made only of them is blank. */
+    private static final CharMatcher TRIMMABLE = CharMatcher.inRange('\u0000', ' ');
+
     private final String source;
     private final List<Function<String, String>> pipeline;
+    private boolean fusion;
+    // result of the first resultSteps steps; steps are only ever appended, so it stays valid
+    private String result;
+    private int resultSteps;
+    private long cacheHits;
+    // for a fork: the stream it was forked from, whose first parentSteps steps it shares
+    private FluentStringStream parent;
+    private int parentSteps;
+    private PipelineProfiler profiler;
+    // step names for profiling: labels, and method names while a profiler is attached
+    private List<String> names;
 
     private FluentStringStream(String input) {
         this.source = input == null ? "" : input;
         this.pipeline = new ArrayList<>();
+        this.result = this.source;
+    }
+
+    private FluentStringStream(FluentStringStream parent) {
+        this.source = parent.source;
+        this.pipeline = new ArrayList<>(parent.pipeline);
+        this.fusion = parent.fusion;
+        this.result = parent.result;
+        this.resultSteps = parent.resultSteps;
+        this.profiler = parent.profiler;
+        this.names = parent.names == null ? null : new ArrayList<>(parent.names);
+        if (resultSteps < pipeline.size()) {
+            this.parent = parent;
+            this.parentSteps = pipeline.size();
+        }
     }
 
     public static FluentStringStream of(String input) {
         return new FluentStringStream(input);
     }
 
+    /**
+     * The lines of a local file, memory-mapped and run through a pipeline in parallel
+     * chunks; see {@link MappedLines}. For files that do not fit in memory as a String.
+     */
+    public static MappedLines ofFile(Path path, Charset charset) {
+        return MappedLines.of(path, charset);
+    }
+
     public FluentStringStream addStep(Function<String, String> transformation) {
         this.pipeline.add(transformation);
+        if (profiler != null) nameLastStep(PipelineProfiler.callerName());
+        return this;
+    }
+
+    /**
+     * Profiles the steps of this stream, and of pipelines made from it, with
+     * {@code profiler}; see {@link PipelineProfiler}. Steps added before this call are
+     * profiled as {@code "step 1"}, {@code "step 2"}, ... unless labelled.
+     */
+    public FluentStringStream withProfiler(PipelineProfiler profiler) {
+        if (profiler == null) throw new IllegalArgumentException("Profiler must not be null");
+        this.profiler = profiler;
+        return this;
+    }
+
+    /** Names the last step added, for {@link PipelineProfiler profiling}. */
+    public FluentStringStream label(String name) {
+        if (name == null) throw new IllegalArgumentException("Label must not be null");
+        if (pipeline.isEmpty()) throw new IllegalStateException("There is no step to label");
+        nameLastStep(name);
+        return this;
+    }
+
+    private void nameLastStep(String name) {
+        if (names == null) names = new ArrayList<>();
+        while (names.size() < pipeline.size()) names.add(null);
+        names.set(pipeline.size() - 1, name);
+    }
+
+    /** Names of steps {@code [from, to)}, with {@code "step n"} for unnamed ones. */
+    private List<String> names(int from, int to) {
+        List<String> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            String name = names != null && i < names.size() ? names.get(i) : null;
+            result.add(name != null ? name : "step " + (i + 1));
+        }
+        return result;
+    }
+
+    /**
+     * Turns step fusion on or off for this stream. With fusion on, {@link #collect()}
+     * runs a compiled program in which redundant steps are dropped and adjacent built-in
+     * steps share one pass over a char buffer; off, every step runs on its own. Both
+     * give the same result. Fusion is off by default: measured with JMH it has not
+     * been faster than running the steps one by one, so it is an opt-in.
+     */
+    public FluentStringStream withFusion(boolean enabled) {
+        this.fusion = enabled;
         return this;
     }
 
     public FluentStringStream trim() {
-        return addStep(String::trim);
+        return addStep(new Step(String::trim, StringShape.TRIMMED, StringShape::afterTrim, Stage.trim()));
     }
 
     public FluentStringStream toLowerCase() {
-        return addStep(s -> s.toLowerCase());
+        return addStep(new Step(String::toLowerCase, StringShape.LOWER_CASE, StringShape::afterLowerCase, Stage.lowerCase()));
     }
 
     public FluentStringStream toUpperCase() {
-        return addStep(s -> s.toUpperCase());
+        return addStep(new Step(String::toUpperCase, StringShape.UPPER_CASE, StringShape::afterUpperCase, Stage.upperCase()));
     }
 
     public FluentStringStream append(String str) {
-        return addStep(s -> s + (str == null ? "" : str));
+        String text = str == null ? "" : str;
+        return addStep(new Step(s -> s + text, Stage.append(text)));
     }
 
     public FluentStringStream prepend(String str) {
-        return addStep(s -> (str == null ? "" : str) + s);
+        String text = str == null ? "" : str;
+        return addStep(new Step(s -> text + s, Stage.prepend(text)));
     }
 
     public FluentStringStream replace(String target, String replacement) {
-        return map(s -> s.replace(target, replacement));
+        Function<String, String> replace = s -> s.replace(target, replacement);
+        if (target != null && replacement != null && target.length() == 1 && replacement.length() == 1) {
+            return map(new Step(replace, Stage.replace(target.charAt(0), replacement.charAt(0))));
+        }
+        return map(replace);
     }
 
     public FluentStringStream replaceAll(String regex, String replacement) {
-        return map(s -> s.replaceAll(regex, replacement));
+        return replaceAll(FluentStringPatternCache.get(regex), replacement);
+    }
+
+    public FluentStringStream replaceAll(Pattern pattern, String replacement) {
+        return map(s -> pattern.matcher(s).replaceAll(replacement));
     }
 
     public FluentStringStream replaceFirst(String regex, String replacement) {
-        return map(s -> s.replaceFirst(regex, replacement));
+        return replaceFirst(FluentStringPatternCache.get(regex), replacement);
+    }
+
+    public FluentStringStream replaceFirst(Pattern pattern, String replacement) {
+        return map(s -> pattern.matcher(s).replaceFirst(replacement));
     }
 
     public FluentStringStream removeDuplicateWords() {
-        return addStep(s -> {
-            Set<String> seen = new LinkedHashSet<>();
-            StringBuilder sb = new StringBuilder();
-            for (String word : s.trim().split("\\s+")) {
-                if (seen.add(word)) {
-                    sb.append(word).append(" ");
-                }
-            }
-            return sb.toString().trim();
-        });
+        return addStep(WordOperations::removeDuplicateWords);
     }
 
     public FluentStringStream reverse() {
@@ -88,122 +201,206 @@ public final class FluentStringStream {
     }
 
     public FluentStringStream removeWhitespace() {
-        return map(s -> s.replaceAll("\\s+", ""));
+        return map(new Step(CharMatcher.asciiWhitespace()::removeFrom, Stage.remove(CharMatcher.asciiWhitespace())));
     }
 
     public FluentStringStream clean() {
-        return map(s -> s.replaceAll("[^a-zA-Z0-9 ]", "").trim());
+        return map(new Step(s -> ALPHANUMERIC_OR_SPACE.retainFrom(s).trim(), StringShape.UNKNOWN, shape -> StringShape.cleaned(),
+                Stage.retain(ALPHANUMERIC_OR_SPACE), Stage.trim()));
     }
 
     public FluentStringStream capitalizeWords() {
-        return map(s -> {
-            String[] words = s.trim().split("\\s+");
-            StringBuilder sb = new StringBuilder();
-            for (String word : words) {
-                if (!word.isEmpty()) {
-                    sb.append(Character.toUpperCase(word.charAt(0)))
-                      .append(word.substring(1).toLowerCase()).append(" ");
-                }
-            }
-            return sb.toString().trim();
-        });
+        return map(WordOperations::capitalizeWords);
     }
 
     public FluentStringStream snakeCase() {
-        return map(s -> s.trim().toLowerCase().replaceAll("\\s+", "_"));
+        return map(CaseFormat.SNAKE::convert);
     }
 
     public FluentStringStream kebabCase() {
-        return map(s -> s.trim().toLowerCase().replaceAll("\\s+", "-"));
+        return map(CaseFormat.KEBAB::convert);
     }
 
     public FluentStringStream camelCase() {
-        return map(s -> {
-            String[] parts = s.toLowerCase().split("\\s+");
-            StringBuilder sb = new StringBuilder(parts[0]);
-            for (int i = 1; i < parts.length; i++) {
-                if (parts[i].length() > 0) {
-                    sb.append(Character.toUpperCase(parts[i].charAt(0))).append(parts[i].substring(1));
-                }
-            }
-            return sb.toString();
-        });
+        return map(CaseFormat.CAMEL::convert);
+    }
+
+    public FluentStringStream pascalCase() {
+        return map(CaseFormat.PASCAL::convert);
+    }
+
+    public FluentStringStream constantCase() {
+        return map(CaseFormat.CONSTANT::convert);
     }
 
     public FluentStringStream reverseWords() {
-        return map(s -> {
-            String[] words = s.trim().split("\\s+");
-            List<String> wordList = new ArrayList<>(Arrays.asList(words));
-            Collections.reverse(wordList);
-            return String.join(" ", wordList);
-        });
+        return map(WordOperations::reverseWords);
     }
 
     public FluentStringStream titleCase() {
-        return map(s -> {
-            String[] words = s.trim().split("\\s+");
-            StringBuilder sb = new StringBuilder();
-            for (String word : words) {
-                if (!word.isEmpty()) {
-                    sb.append(Character.toUpperCase(word.charAt(0)))
-                      .append(word.substring(1).toLowerCase()).append(" ");
-                }
-            }
-            return sb.toString().trim();
-        });
+        return map(WordOperations::capitalizeWords);
     }
 
     public FluentStringStream stripAccents() {
-        return map(s -> Normalizer.normalize(s, Normalizer.Form.NFD)
-                .replaceAll("\\p{InCombiningDiacriticalMarks}+", ""));
+        return map(new Step(AccentFolding::stripAccents, StringShape.ASCII, shape -> StringShape.UNKNOWN));
     }
 
     public FluentStringStream toSlug() {
-        return map(s -> s.toLowerCase()
-                .replaceAll("[^a-z0-9\\s]", "")
-                .replaceAll("\\s+", "-")
-                .replaceAll("-{2,}", "-")
-                .replaceAll("^-|-$", ""));
+        return map(new Step(AccentFolding::toSlug, StringShape.UNKNOWN, shape -> StringShape.slug()));
+    }
+
+    public FluentStringStream escapeHtml() {
+        return map(TextEscaper.HTML4::escape);
+    }
+
+    public FluentStringStream escapeXml() {
+        return map(TextEscaper.XML11::escape);
+    }
+
+    public FluentStringStream escapeJson() {
+        return map(TextEscaper.JSON::escape);
+    }
+
+    public FluentStringStream unescapeHtml() {
+        return map(TextUnescaper.HTML4::unescape);
+    }
+
+    public FluentStringStream unescapeXml() {
+        return map(TextUnescaper.XML::unescape);
     }
 
     public FluentStringStream removeDigits() {
-        return map(s -> s.replaceAll("\\d", ""));
+        return map(new Step(CharMatcher.asciiDigit()::removeFrom, Stage.remove(CharMatcher.asciiDigit())));
     }
 
     public FluentStringStream removePunctuation() {
-        return map(s -> s.replaceAll("[\\p{Punct}]", ""));
+        return map(new Step(CharMatcher.asciiPunctuation()::removeFrom, Stage.remove(CharMatcher.asciiPunctuation())));
     }
 
     public FluentStringStream removeSpecialChars() {
-        return map(s -> s.replaceAll("[^a-zA-Z0-9 ]", ""));
+        return map(new Step(ALPHANUMERIC_OR_SPACE::retainFrom, Stage.retain(ALPHANUMERIC_OR_SPACE)));
     }
 
     public FluentStringStream keepOnly(String allowedChars) {
-        return map(s -> {
-            StringBuilder result = new StringBuilder();
-            for (char c : s.toCharArray()) {
-                if (allowedChars.indexOf(c) >= 0) {
-                    result.append(c);
-                }
+        CharMatcher allowed = CharMatcher.anyOf(allowedChars);
+        return map(new Step(allowed::retainFrom, Stage.retain(allowed)));
+    }
+
+    /**
+     * Runs the pipeline over the source, compiled by {@link PipelineCompiler} when
+     * fusion applies (see {@link #withFusion}). Built-in steps carry a
+     * {@link StringShape} along, and a step whose effect is already implied by the
+     * current value's shape is skipped.
+     * <p>
+     * The result is kept: calling {@code collect()} again (directly or through a terminal
+     * or inspection method) returns it without running any step, and after more steps
+     * are added only those steps run, starting from the kept result. Functions passed to
+     * {@code map(...)} and similar steps therefore run once per stream, not once per call.
+     */
+    public String collect() {
+        return resultOf(pipeline.size());
+    }
+
+    /**
+     * Runs {@link #collect()} on the default async executor, which starts a virtual thread
+     * per call on Java 21 and later and uses a pool of daemon threads before that; meant
+     * for chains with steps that block, such as a {@link #plugin} doing a lookup. Do not
+     * add steps to the stream until the future completes.
+     */
+    public CompletableFuture<String> collectAsync() {
+        return collectAsync(AsyncExecution.executor());
+    }
+
+    public CompletableFuture<String> collectAsync(Executor executor) {
+        if (executor == null) throw new IllegalArgumentException("Executor must not be null");
+        return CompletableFuture.supplyAsync(this::collect, executor);
+    }
+
+    /** Number of {@link #collect()} calls answered from the kept result without running a step. */
+    public long cacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * A new stream with the steps of this one, to which further steps can be added
+     * without affecting this stream. The steps so far are not run again for the fork:
+     * it starts from this stream's result for them, which is computed once, on the
+     * first {@code collect()} of either stream, and then kept by both.
+     */
+    public FluentStringStream fork() {
+        return new FluentStringStream(this);
+    }
+
+    /**
+     * Splits this stream into one {@link #fork()} per function, each given the fork to
+     * add its own steps to:
+     * <pre>{@code
+     * FluentStringBranches keys = FluentStringStream.of(title).trim().normalize().stripAccents()
+     *         .branch(s -> s.toSlug(), s -> s.toLowerCase().removePunctuation(), s -> s.capitalizeWords());
+     * List<String> slugSearchAndDisplay = keys.collectAll();
+     * }</pre>
+     * The shared steps run once for all branches; each branch runs only its own.
+     */
+    @SafeVarargs
+    public final FluentStringBranches branch(UnaryOperator<FluentStringStream>... branches) {
+        if (branches == null) throw new IllegalArgumentException("Branches must not be null");
+        List<FluentStringStream> streams = new ArrayList<>(branches.length);
+        for (UnaryOperator<FluentStringStream> branch : branches) {
+            if (branch == null) throw new IllegalArgumentException("Branch must not be null");
+            FluentStringStream stream = branch.apply(fork());
+            if (stream == null) throw new IllegalArgumentException("Branch must not return null");
+            streams.add(stream);
+        }
+        return new FluentStringBranches(streams);
+    }
+
+    /**
+     * The result of the first {@code steps} steps, which must not be fewer than those the
+     * kept result covers. A fork first takes the result of the steps it shares from its
+     * parent, unless the parent has already moved past them.
+     */
+    private String resultOf(int steps) {
+        if (resultSteps == steps) {
+            cacheHits++;
+            return result;
+        }
+        if (parent != null) {
+            if (parent.resultSteps <= parentSteps) {
+                result = parent.resultOf(parentSteps);
+                resultSteps = parentSteps;
             }
-            return result.toString();
-        });
+            parent = null;
+            if (resultSteps == steps) return result;
+        }
+        List<Function<String, String>> pending = pipeline.subList(resultSteps, steps);
+        if (profiler != null) {
+            result = profiler.run(pending, profiler.slots(resultSteps, names(resultSteps, steps)), result);
+            resultSteps = steps;
+            return result;
+        }
+        int inputLength = result.length();
+        long start = FluentTelemetry.start();
+        result = PipelineCompiler.run(fusion ? PipelineCompiler.compile(pending) : pending, result);
+        FluentTelemetry.operation("collect", null, start, inputLength);
+        resultSteps = steps;
+        return result;
     }
 
-    public String collect() {
-        String value = source;
-        for (Function<String, String> op : pipeline) {
-            value = op.apply(value);
-        }
-        return value;
+    List<Function<String, String>> steps() {
+        return pipeline;
+    }
+
+    /** The steps of this stream, without its source, as a reusable {@link FluentPipeline}. */
+    public FluentPipeline toPipeline() {
+        return profiler == null ? new FluentPipeline(pipeline) : new FluentPipeline(pipeline, profiler, names(0, pipeline.size()));
     }
 
     public FluentStringStream normalize() {
-        return map(s -> Normalizer.normalize(s, Normalizer.Form.NFC));
+        return map(new Step(s -> Normalizer.normalize(s, Normalizer.Form.NFC), StringShape.NFC, StringShape::afterNormalize));
     }
 
     public FluentStringStream center(int width, char padChar) {
-        return map(s -> {
+        return map(new Step(s -> {
             if (s.length() >= width) return s;
             int totalPadding = width - s.length();
             int left = totalPadding / 2;
@@ -213,62 +410,60 @@ public final class FluentStringStream {
             sb.append(s);
             for (int i = 0; i < right; i++) sb.append(padChar);
             return sb.toString();
-        });
+        }, Stage.center(width, padChar)));
     }
 
     public FluentStringStream indent(int spaces) {
-        return map(s -> {
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < spaces; i++) sb.append(' ');
-            return sb.append(s).toString();
-        });
+        StringBuilder indent = new StringBuilder();
+        for (int i = 0; i < spaces; i++) indent.append(' ');
+        String text = indent.toString();
+        return map(new Step(s -> text + s, Stage.prepend(text)));
     }
 
     public FluentStringStream padLeft(int length, char padChar) {
-        return map(s -> {
+        return map(new Step(s -> {
             if (s.length() >= length) return s;
             StringBuilder sb = new StringBuilder();
             for (int i = s.length(); i < length; i++) sb.append(padChar);
             sb.append(s);
             return sb.toString();
-        });
+        }, Stage.padLeft(length, padChar)));
     }
 
     public FluentStringStream padRight(int length, char padChar) {
-        return map(s -> {
+        return map(new Step(s -> {
             if (s.length() >= length) return s;
             StringBuilder sb = new StringBuilder(s);
             for (int i = s.length(); i < length; i++) sb.append(padChar);
             return sb.toString();
-        });
+        }, Stage.padRight(length, padChar)));
     }
 
     public FluentStringStream truncate(int maxLength, String ellipsis) {
-        return map(s -> {
+        Function<String, String> truncate = s -> {
             if (s.length() <= maxLength) return s;
             return s.substring(0, Math.max(0, maxLength - ellipsis.length())) + ellipsis;
-        });
+        };
+        return map(ellipsis == null ? truncate : new Step(truncate, Stage.truncate(maxLength, ellipsis)));
     }
 
     public FluentStringStream truncateWords(int n) {
-        return map(s -> {
-            if (n <= 0) return "";
-            String[] words = s.trim().split("\\s+");
-            if (words.length <= n) return s;
-            return String.join(" ", Arrays.copyOfRange(words, 0, n));
-        });
+        return map(s -> WordOperations.truncateWords(s, n));
     }
 
     public FluentStringStream wrap(String wrapper) {
-        return map(s -> wrapper + s + wrapper);
+        String text = String.valueOf(wrapper);
+        return map(new Step(s -> text + s + text, Stage.prepend(text), Stage.append(text)));
     }
 
     public FluentStringStream withPrefix(String prefix) {
-        return map(s -> s.startsWith(prefix) ? s : prefix + s);
+        Function<String, String> withPrefix = s -> s.startsWith(prefix) ? s : prefix + s;
+        return map(prefix == null ? withPrefix : new Step(withPrefix, Stage.prefix(prefix)));
     }
 
     public FluentStringStream withSuffix(String suffix) {
-        return map(s -> s.endsWith(suffix) ? s : s + suffix);
+        Function<String, String> withSuffix = s -> s.endsWith(suffix) ? s : s + suffix;
+        return map(suffix == null ? withSuffix : new Step(withSuffix, Stage.suffix(suffix)));
     }
 
     public int countOccurrences(String substring) {
@@ -283,46 +478,49 @@ public final class FluentStringStream {
     }
 
     public int charCount() {
-        return collect().replaceAll("\\s+", "").length();
+        String val = collect();
+        return val.length() - CharMatcher.asciiWhitespace().countIn(val);
     }
 
     public int wordCount() {
-        String val = collect().trim();
-        return val.isEmpty() ? 0 : val.split("\\s+").length;
+        return WordTokenizer.count(collect());
+    }
+
+    public CharFrequency charFrequency() {
+        return CharFrequency.of(collect());
+    }
+
+    public CharFrequency charFrequencyIgnoreCase() {
+        return CharFrequency.ofIgnoreCase(collect());
+    }
+
+    public WordFrequency wordFrequency() {
+        return WordFrequency.of(collect());
+    }
+
+    public WordFrequency wordFrequencyIgnoreCase() {
+        return WordFrequency.ofIgnoreCase(collect());
+    }
+
+    /** Parallel variants of the frequency and counting methods, for texts of several megabytes. */
+    public ParallelTextAnalyzer parallel() {
+        return ParallelTextAnalyzer.of(collect());
     }
 
     public Map<Character, Integer> getCharFrequencyCaseSensitive() {
-        Map<Character, Integer> map = new LinkedHashMap<>();
-        for (char c : collect().toCharArray()) {
-            map.put(c, map.getOrDefault(c, 0) + 1);
-        }
-        return map;
+        return charFrequency().toMap();
     }
 
     public Map<String, Integer> getWordFrequencyCaseSensitive() {
-        Map<String, Integer> map = new LinkedHashMap<>();
-        String[] words = collect().trim().split("\\s+"); // No .toLowerCase()
-        for (String word : words) {
-            map.put(word, map.getOrDefault(word, 0) + 1);
-        }
-        return map;
+        return wordFrequency().toMap();
     }
 
     public Map<Character, Integer> getCharFrequencyIgnoreCase() {
-        Map<Character, Integer> map = new LinkedHashMap<>();
-        for (char c : collect().toLowerCase().toCharArray()) {
-            map.put(c, map.getOrDefault(c, 0) + 1);
-        }
-        return map;
+        return charFrequencyIgnoreCase().toMap();
     }
 
     public Map<String, Integer> getWordFrequencyIgnoreCase() {
-        Map<String, Integer> map = new LinkedHashMap<>();
-        String[] words = collect().trim().toLowerCase().split("\\s+");
-        for (String word : words) {
-            map.put(word, map.getOrDefault(word, 0) + 1);
-        }
-        return map;
+        return wordFrequencyIgnoreCase().toMap();
     }
 
     public boolean isEmpty() {
@@ -330,7 +528,7 @@ public final class FluentStringStream {
     }
 
     public boolean isBlank() {
-        return collect().trim().isEmpty();
+        return TRIMMABLE.matchesAll(collect());
     }
 
     public boolean equalsIgnoreCase(String other) {
@@ -338,34 +536,34 @@ public final class FluentStringStream {
     }
 
     public boolean matches(String regex) {
-        return collect().matches(regex);
+        return matches(FluentStringPatternCache.get(regex));
+    }
+
+    public boolean matches(Pattern pattern) {
+        return pattern.matcher(collect()).matches();
     }
 
     public boolean isAlpha() {
-        return collect().matches("[a-zA-Z]+");
+        String val = collect();
+        return !val.isEmpty() && CharMatcher.asciiLetter().matchesAll(val);
     }
 
     public boolean isNumeric() {
-        return collect().matches("\\d+");
+        String val = collect();
+        return !val.isEmpty() && CharMatcher.asciiDigit().matchesAll(val);
     }
 
     public boolean isAlphaNumeric() {
-        return collect().matches("[a-zA-Z0-9]+");
+        String val = collect();
+        return !val.isEmpty() && CharMatcher.asciiLetterOrDigit().matchesAll(val);
     }
 
     public boolean isEmail() {
-        return collect().matches("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$");
+        return matches("^[\\w.-]+@[\\w.-]+\\.[a-zA-Z]{2,}$");
     }
 
     public boolean isXml() {
-        try {
-            javax.xml.parsers.DocumentBuilderFactory.newInstance()
-                    .newDocumentBuilder()
-                    .parse(new org.xml.sax.InputSource(new java.io.StringReader(collect())));
-            return true;
-        } catch (Exception e) {
-            return false;
-        }
+        return XmlWellFormedness.check(collect());
     }
 
     public boolean isUpperCase() {
@@ -379,7 +577,7 @@ public final class FluentStringStream {
     }
 
     public boolean isPalindrome() {
-        String val = collect().replaceAll("[\\W_]", "").toLowerCase();
+        String val = CharMatcher.asciiLetterOrDigit().retainFrom(collect()).toLowerCase();
         return new StringBuilder(val).reverse().toString().equals(val);
     }
 
@@ -401,20 +599,27 @@ public final class FluentStringStream {
 
     public boolean hasOnlyWhitespace() {
         String val = collect();
-        return !val.isEmpty() && val.trim().isEmpty();
+        return !val.isEmpty() && TRIMMABLE.matchesAll(val);
+    }
+    /** Adds a {@link FluentStringPlugin} as a step, as {@link FluentString#apply(FluentStringPlugin)} does for a FluentString. */
+    public FluentStringStream plugin(FluentStringPlugin plugin) {
+        if (plugin == null) throw new IllegalArgumentException("Plugin must not be null");
+        return map(plugin::apply);
     }
+
     public FluentStringStream map(Function<String, String> transformation) {
         pipeline.add(transformation);
+        if (profiler != null) nameLastStep(PipelineProfiler.callerName());
         return this;
     }
 
     // 🔄 Transform & Fallback
     public FluentStringStream orElse(String fallback) {
-        return map(s -> s == null || s.trim().isEmpty() ? fallback : s);
+        return map(s -> s == null || TRIMMABLE.matchesAll(s) ? fallback : s);
     }
 
     public FluentStringStream orEmpty() {
-        return map(s -> s == null || s.trim().isEmpty() ? "" : s);
+        return map(s -> s == null || TRIMMABLE.matchesAll(s) ? "" : s);
     }
 
     public FluentStringStream ifEmpty(String fallback) {
@@ -422,7 +627,7 @@ public final class FluentStringStream {
     }
 
     public FluentStringStream ifBlank(String fallback) {
-        return map(s -> s.trim().isEmpty() ? fallback : s);
+        return map(s -> TRIMMABLE.matchesAll(s) ? fallback : s);
     }
 
     public FluentStringStream ifCondition(Predicate<String> predicate, Function<String, String> fn) {
@@ -445,13 +650,21 @@ public final class FluentStringStream {
 
     // 🔎 Extraction
     public Optional<String> extractFirstMatch(String regex) {
-        java.util.regex.Matcher matcher = java.util.regex.Pattern.compile(regex).matcher(collect());
+        return extractFirstMatch(FluentStringPatternCache.get(regex));
+    }
+
+    public Optional<String> extractFirstMatch(Pattern pattern) {
+        Matcher matcher = pattern.matcher(collect());
         return matcher.find() ? Optional.of(matcher.group()) : Optional.empty();
     }
 
     public List<String> extractAllMatches(String regex) {
+        return extractAllMatches(FluentStringPatternCache.get(regex));
+    }
+
+    public List<String> extractAllMatches(Pattern pattern) {
         List<String> matches = new ArrayList<>();
-        java.util.regex.Matcher matcher = java.util.regex.Pattern.compile(regex).matcher(collect());
+        Matcher matcher = pattern.matcher(collect());
         while (matcher.find()) {
             matches.add(matcher.group());
         }
@@ -459,7 +672,11 @@ public final class FluentStringStream {
     }
 
     public int countMatches(String regex) {
-        java.util.regex.Matcher matcher = java.util.regex.Pattern.compile(regex).matcher(collect());
+        return countMatches(FluentStringPatternCache.get(regex));
+    }
+
+    public int countMatches(Pattern pattern) {
+        Matcher matcher = pattern.matcher(collect());
         int count = 0;
         while (matcher.find()) count++;
         return count;
@@ -496,7 +713,7 @@ public final class FluentStringStream {
 
     // 🔠 Others
     public List<String> lines() {
-        return Arrays.asList(collect().split("\\R"));
+        return split("\\R");
     }
 
     public int lineCount() {
@@ -508,11 +725,15 @@ public final class FluentStringStream {
     }
 
     public List<String> split(String regex) {
-        return Arrays.asList(collect().split(regex));
+        return Arrays.asList(FluentStringPatternCache.split(collect(), regex, 0));
+    }
+
+    public List<String> split(Pattern pattern) {
+        return Arrays.asList(pattern.split(collect()));
     }
 
     public List<String> words() {
-        return split("\\s+");
+        return WordOperations.words(collect());
     }
 
     public static String join(List<String> parts, String delimiter) {
@@ -553,16 +774,7 @@ public final class FluentStringStream {
     }
 
     public String toTitleCase(Locale locale) {
-        String[] words = collect().split("\\s+");
-        StringBuilder sb = new StringBuilder();
-        for (String word : words) {
-            if (!word.isEmpty()) {
-                sb.append(word.substring(0, 1).toUpperCase(locale))
-                        .append(word.substring(1).toLowerCase(locale))
-                        .append(" ");
-            }
-        }
-        return sb.toString().trim();
+        return WordOperations.toTitleCase(collect(), locale);
     }
 
     public int compareIgnoreCase(String other, Locale locale) {
@@ -577,4 +789,4 @@ public final class FluentStringStream {
     public String toString() {
         return collect();
     }
-} 
+}
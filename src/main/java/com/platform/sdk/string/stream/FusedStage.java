@@ -0,0 +1,245 @@
+package com.platform.sdk.string.stream;
+
+import com.platform.sdk.string.WordOperations;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Adjacent fusable steps run as one: the value is copied once into a buffer with room
+ * reserved at both ends, each run of char stages is a single loop that maps and
+ * compacts the buffer in place (ASCII chars through one lookup table for the whole
+ * run), edge stages move its bounds or write into the reserved room, and one String is
+ * built at the end (none if nothing changed). If a char stage
+ * meets a char it cannot map on its own (a non-ASCII char under a case conversion, or
+ * any char while the default locale does not case-map ASCII exactly), the steps run one
+ * by one instead.
+ */
+final class FusedStage implements Function<String, String> {
+
+    private final List<Step> steps;
+    /** Each element is either an {@link Stage.EdgeStage} or a {@link CharRun}. */
+    private final Object[] program;
+    private final boolean caseMapping;
+    private final int front;
+    private final int back;
+
+    FusedStage(List<Step> steps) {
+        this.steps = new ArrayList<>(steps);
+        List<Object> program = new ArrayList<>();
+        List<Stage.CharStage> run = new ArrayList<>();
+        boolean caseMapping = false;
+        int front = 0;
+        int back = 0;
+        for (Step step : steps) {
+            for (Stage stage : step.stages()) {
+                if (stage instanceof Stage.CharStage) {
+                    Stage.CharStage charStage = (Stage.CharStage) stage;
+                    caseMapping |= charStage == Stage.lowerCase() || charStage == Stage.upperCase();
+                    Stage.CharStage combined = run.isEmpty() ? null : run.get(run.size() - 1).then(charStage);
+                    if (combined != null) run.set(run.size() - 1, combined);
+                    else run.add(charStage);
+                    continue;
+                }
+                if (!run.isEmpty()) {
+                    program.add(new CharRun(run));
+                    run.clear();
+                }
+                Stage.EdgeStage edge = (Stage.EdgeStage) stage;
+                front += edge.front;
+                back += edge.back;
+                program.add(edge);
+            }
+        }
+        if (!run.isEmpty()) program.add(new CharRun(run));
+        this.program = program.toArray();
+        this.caseMapping = caseMapping;
+        this.front = front;
+        this.back = back;
+    }
+
+    @Override
+    public String apply(String value) {
+        return apply(value, new Workspace());
+    }
+
+    /** Runs the steps over {@code value} in {@code w}, whose buffer is reused when it is large enough. */
+    String apply(String value, Workspace w) {
+        if (!caseMapping || WordOperations.asciiCaseMappingIsExact()) {
+            w.load(value, front, back);
+            if (run(w)) return w.changed ? w.toString() : value;
+        }
+        for (Step step : steps) {
+            value = step.apply(value);
+        }
+        return value;
+    }
+
+    private boolean run(Workspace w) {
+        for (Object part : program) {
+            if (part instanceof Stage.EdgeStage) {
+                ((Stage.EdgeStage) part).apply(w);
+            } else if (!((CharRun) part).map(w)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** Adjacent char stages, applied to each char in turn. */
+    private static final class CharRun {
+        private static final int UNSEEN = 0;
+        private static final int OFFSET = 3;
+
+        private final Stage.CharStage[] stages;
+        /**
+         * What the whole run makes of each ASCII char, plus {@link #OFFSET}; filled in as
+         * chars are met, since most runs only ever see a few of them.
+         */
+        private final int[] ascii = new int[128];
+
+        CharRun(List<Stage.CharStage> stages) {
+            this.stages = stages.toArray(new Stage.CharStage[0]);
+        }
+
+        boolean map(Workspace w) {
+            char[] buf = w.buf;
+            int[] ascii = this.ascii;
+            int out = w.start;
+            boolean changed = false;
+            for (int i = w.start; i < w.end; i++) {
+                char original = buf[i];
+                int c;
+                if (original < 128) {
+                    int entry = ascii[original];
+                    if (entry == UNSEEN) {
+                        entry = mapSlow(original) + OFFSET;
+                        ascii[original] = entry;
+                    }
+                    c = entry - OFFSET;
+                } else {
+                    c = mapSlow(original);
+                }
+                if (c == original) {
+                    buf[out++] = original;
+                } else if (c == Stage.CharStage.DROP) {
+                    changed = true;
+                } else if (c == Stage.CharStage.BAIL) {
+                    return false;
+                } else {
+                    changed = true;
+                    buf[out++] = (char) c;
+                }
+            }
+            w.end = out;
+            w.changed |= changed;
+            return true;
+        }
+
+        private int mapSlow(char original) {
+            int c = original;
+            for (Stage.CharStage stage : stages) {
+                c = stage.map((char) c);
+                if (c < 0) break;
+            }
+            return c;
+        }
+    }
+
+    /**
+     * The value being built: {@code buf[start, end)}, with room reserved on both sides.
+     * One workspace can be loaded with value after value, keeping its buffer while it is
+     * large enough.
+     */
+    static final class Workspace {
+        private static final char[] EMPTY = new char[0];
+
+        char[] buf = EMPTY;
+        int start;
+        int end;
+        boolean changed;
+
+        void load(String value, int front, int back) {
+            int size = front + value.length() + back;
+            if (buf.length < size) buf = new char[size];
+            value.getChars(0, value.length(), buf, front);
+            start = front;
+            end = front + value.length();
+            changed = false;
+        }
+
+        int length() {
+            return end - start;
+        }
+
+        void trim() {
+            int from = start;
+            int to = end;
+            while (start < end && buf[start] <= ' ') start++;
+            while (end > start && buf[end - 1] <= ' ') end--;
+            changed |= start != from || end != to;
+        }
+
+        void prepend(String text) {
+            reserve(text.length(), 0);
+            start -= text.length();
+            text.getChars(0, text.length(), buf, start);
+            changed |= !text.isEmpty();
+        }
+
+        void append(String text) {
+            reserve(0, text.length());
+            text.getChars(0, text.length(), buf, end);
+            end += text.length();
+            changed |= !text.isEmpty();
+        }
+
+        void pad(int left, int right, char padChar) {
+            left = Math.max(0, left);
+            right = Math.max(0, right);
+            reserve(left, right);
+            for (int i = 0; i < left; i++) buf[--start] = padChar;
+            for (int i = 0; i < right; i++) buf[end++] = padChar;
+            changed |= left + right > 0;
+        }
+
+        void cut(int length) {
+            end = start + length;
+            changed = true;
+        }
+
+        boolean startsWith(String text) {
+            if (text.length() > length()) return false;
+            for (int i = 0; i < text.length(); i++) {
+                if (buf[start + i] != text.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        boolean endsWith(String text) {
+            if (text.length() > length()) return false;
+            int offset = end - text.length();
+            for (int i = 0; i < text.length(); i++) {
+                if (buf[offset + i] != text.charAt(i)) return false;
+            }
+            return true;
+        }
+
+        /** The reserved room is an upper bound, so this only copies if a stage under-reported. */
+        private void reserve(int front, int back) {
+            if (start >= front && buf.length - end >= back) return;
+            char[] grown = new char[front + length() + back + buf.length];
+            int offset = front + buf.length / 2;
+            System.arraycopy(buf, start, grown, offset, length());
+            end = offset + length();
+            start = offset;
+            buf = grown;
+        }
+
+        @Override
+        public String toString() {
+            return new String(buf, start, end - start);
+        }
+    }
+}
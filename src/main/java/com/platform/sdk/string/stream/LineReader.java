@@ -0,0 +1,64 @@
+package com.platform.sdk.string.stream;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/** Splits a Reader into lines, remembering each line's terminator ({@code \n}, {@code \r\n}, {@code \r} or none). */
+final class LineReader {
+
+    private final Reader in;
+    private final char[] buf;
+    private final StringBuilder pending = new StringBuilder();
+    private int position;
+    private int limit;
+    private String terminator = "";
+
+    LineReader(Reader in, int bufferSize) {
+        this.in = in;
+        this.buf = new char[bufferSize];
+    }
+
+    /** Terminator of the line {@link #next()} returned last, empty for a last line without one. */
+    String terminator() {
+        return terminator;
+    }
+
+    /** The next line, or {@code null} at the end of the input. */
+    String next() throws IOException {
+        pending.setLength(0);
+        while (true) {
+            if (position == limit && !fill()) {
+                terminator = "";
+                return pending.length() == 0 ? null : pending.toString();
+            }
+            int start = position;
+            while (position < limit && buf[position] != '\n' && buf[position] != '\r') position++;
+            if (position == limit) {
+                pending.append(buf, start, position - start);
+                continue;
+            }
+            String line = pending.length() == 0
+                    ? new String(buf, start, position - start)
+                    : pending.append(buf, start, position - start).toString();
+            if (buf[position++] == '\n') {
+                terminator = "\n";
+            } else if ((position < limit || fill()) && buf[position] == '\n') {
+                position++;
+                terminator = "\r\n";
+            } else {
+                terminator = "\r";
+            }
+            return line;
+        }
+    }
+
+    private boolean fill() throws IOException {
+        int read;
+        do {
+            read = in.read(buf, 0, buf.length);
+        } while (read == 0);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+}
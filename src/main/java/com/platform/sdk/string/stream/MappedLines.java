@@ -0,0 +1,242 @@
+package com.platform.sdk.string.stream;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.UnaryOperator;
+
+/**
+ * The lines of a local file, run through a pipeline on several threads:
+ * <pre>{@code
+ * FluentStringStream.ofFile(Paths.get("export.csv"), StandardCharsets.UTF_8)
+ *         .withSteps(s -> s.trim().stripAccents().toLowerCase())
+ *         .transfer(Paths.get("clean.csv"));
+ * }</pre>
+ * The file is cut into chunks of about {@link #withChunkSize chunk size} bytes, each
+ * ending just after a {@code '\n'}, and every chunk is memory-mapped with
+ * {@link FileChannel#map} and decoded as its lines are read. Chunks run on the pool,
+ * at most two per thread ahead of the one being written, and their output is written
+ * or merged in file order, so neither the file nor its lines are ever held whole.
+ * Lines keep their terminators, as in {@link StreamingPipeline#lines}, whose output
+ * this matches.
+ * <p>
+ * Chunks are cut at {@code '\n'} bytes, so the charset must encode {@code '\n'} as that
+ * single byte and never use it inside another char, as UTF-8, ISO-8859-1 and other
+ * ASCII-compatible charsets do.
+ */
+public final class MappedLines {
+
+    /** Bytes per chunk, unless changed with {@link #withChunkSize}. */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 22;
+
+    private static final int MIN_CHUNK_SIZE = 1 << 10;
+    private static final int SCAN_SIZE = 1 << 13;
+    private static final int CHUNKS_IN_FLIGHT_PER_THREAD = 2;
+    private static final FluentPipeline IDENTITY = FluentPipeline.define(s -> s);
+
+    private final Path path;
+    private final Charset charset;
+    private final FluentPipeline pipeline;
+    private final ExecutorService pool;
+    private final int chunkSize;
+
+    private MappedLines(Path path, Charset charset, FluentPipeline pipeline, ExecutorService pool, int chunkSize) {
+        this.path = path;
+        this.charset = charset;
+        this.pipeline = pipeline;
+        this.pool = pool;
+        this.chunkSize = chunkSize;
+    }
+
+    public static MappedLines of(Path path, Charset charset) {
+        if (path == null) throw new IllegalArgumentException("Path must not be null");
+        if (charset == null) throw new IllegalArgumentException("Charset must not be null");
+        byte[] newline = "\n".getBytes(charset);
+        if (newline.length != 1 || newline[0] != '\n' || !charset.newEncoder().canEncode('\n')) {
+            throw new IllegalArgumentException("Charset " + charset + " does not encode '\\n' as a single byte");
+        }
+        return new MappedLines(path, charset, IDENTITY, ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+    }
+
+    /** Runs {@code steps} on every line. */
+    public MappedLines withSteps(UnaryOperator<FluentStringStream> steps) {
+        return withPipeline(FluentPipeline.define(steps));
+    }
+
+    public MappedLines withPipeline(FluentPipeline pipeline) {
+        if (pipeline == null) throw new IllegalArgumentException("Pipeline must not be null");
+        return new MappedLines(path, charset, pipeline, pool, chunkSize);
+    }
+
+    /** Runs chunks on {@code pool}, which stays owned by the caller. */
+    public MappedLines withPool(ExecutorService pool) {
+        if (pool == null) throw new IllegalArgumentException("Pool must not be null");
+        return new MappedLines(path, charset, pipeline, pool, chunkSize);
+    }
+
+    public MappedLines withChunkSize(int bytes) {
+        if (bytes < MIN_CHUNK_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be at least " + MIN_CHUNK_SIZE + ", but was " + bytes);
+        }
+        return new MappedLines(path, charset, pipeline, pool, bytes);
+    }
+
+    /** Writes the transformed lines to {@code out}, in file order, and returns the number of chars written. */
+    public long transfer(Writer out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(out, 1 << 16);
+        long[] written = new long[1];
+        run(buffer -> {
+            StringBuilder chunk = new StringBuilder(buffer.remaining() + 64);
+            FusedStage.Workspace scratch = new FusedStage.Workspace();
+            LineReader lines = new LineReader(new MappedReader(buffer, charset), 1 << 13);
+            String line;
+            while ((line = lines.next()) != null) {
+                chunk.append(pipeline.apply(line, scratch)).append(lines.terminator());
+            }
+            return chunk;
+        }, chunk -> {
+            writer.append(chunk);
+            written[0] += chunk.length();
+        });
+        writer.flush();
+        return written[0];
+    }
+
+    /** Writes the transformed lines to {@code out} in the same charset. */
+    public long transfer(Path out) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(out, charset)) {
+            return transfer(writer);
+        }
+    }
+
+    /** Counts the transformed lines, joined by {@code '\n'}, without keeping them. */
+    public TextStats stats() throws IOException {
+        TextStats total = new TextStats(true, 1 << 16);
+        run(buffer -> {
+            TextStats stats = new TextStats(true, 1 << 16);
+            FusedStage.Workspace scratch = new FusedStage.Workspace();
+            LineReader lines = new LineReader(new MappedReader(buffer, charset), 1 << 13);
+            String line;
+            while ((line = lines.next()) != null) {
+                stats.add(pipeline.apply(line, scratch));
+            }
+            return stats.finish();
+        }, total::merge);
+        return total;
+    }
+
+    private <T> void run(ChunkTask<T> task, ChunkSink<T> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long[] bounds = split(channel);
+            int chunks = bounds.length - 1;
+            if (chunks == 1) {
+                sink.accept(task.run(map(channel, bounds[0], bounds[1])));
+                return;
+            }
+            int parallelism = pool instanceof ForkJoinPool
+                    ? ((ForkJoinPool) pool).getParallelism() : Runtime.getRuntime().availableProcessors();
+            int window = Math.max(2, parallelism * CHUNKS_IN_FLIGHT_PER_THREAD);
+            Deque<Future<T>> inFlight = new ArrayDeque<>();
+            int next = 0;
+            try {
+                while (next < chunks || !inFlight.isEmpty()) {
+                    while (next < chunks && inFlight.size() < window) {
+                        MappedByteBuffer buffer = map(channel, bounds[next], bounds[next + 1]);
+                        inFlight.add(pool.submit((Callable<T>) () -> task.run(buffer)));
+                        next++;
+                    }
+                    sink.accept(await(inFlight.poll()));
+                }
+            } finally {
+                for (Future<T> future : inFlight) future.cancel(true);
+            }
+        }
+    }
+
+    /** Chunk bounds {@code [b0 = 0, b1, ..., bn = size]}, each inner bound just after a {@code '\n'}. */
+    private long[] split(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer scan = ByteBuffer.allocate(SCAN_SIZE);
+        long position = chunkSize;
+        while (position < size) {
+            long cut = nextLineStart(channel, position, size, scan);
+            if (cut >= size) break;
+            if (cut - bounds.get(bounds.size() - 1) > Integer.MAX_VALUE) {
+                throw new IOException("Line at byte " + bounds.get(bounds.size() - 1) + " of " + path + " is too long to map");
+            }
+            bounds.add(cut);
+            position = cut + chunkSize;
+        }
+        if (size - bounds.get(bounds.size() - 1) > Integer.MAX_VALUE) {
+            throw new IOException("Line at byte " + bounds.get(bounds.size() - 1) + " of " + path + " is too long to map");
+        }
+        bounds.add(size);
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) result[i] = bounds.get(i);
+        return result;
+    }
+
+    /** Position just after the first {@code '\n'} at or after {@code from}, or {@code size} if there is none. */
+    private static long nextLineStart(FileChannel channel, long from, long size, ByteBuffer scan) throws IOException {
+        long position = from;
+        while (position < size) {
+            // through Buffer: ByteBuffer.clear() only returns ByteBuffer from Java 9 on
+            ((Buffer) scan).clear();
+            int read = channel.read(scan, position);
+            if (read <= 0) break;
+            for (int i = 0; i < read; i++) {
+                if (scan.get(i) == '\n') return position + i + 1;
+            }
+            position += read;
+        }
+        return size;
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long from, long to) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while reading lines", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException) cause;
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkTask<T> {
+        T run(ByteBuffer chunk) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface ChunkSink<T> {
+        void accept(T result) throws IOException;
+    }
+}
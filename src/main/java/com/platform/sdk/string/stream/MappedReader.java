@@ -0,0 +1,46 @@
+package com.platform.sdk.string.stream;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Decodes a byte buffer (a mapped region of a file) as it is read, so only the chars
+ * the caller asks for exist at a time. Malformed input fails as it does for
+ * {@code Files.newBufferedReader}.
+ */
+final class MappedReader extends Reader {
+
+    private final ByteBuffer bytes;
+    private final CharsetDecoder decoder;
+    private boolean flushed;
+
+    MappedReader(ByteBuffer bytes, Charset charset) {
+        this.bytes = bytes;
+        this.decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (len == 0) return 0;
+        if (flushed) return -1;
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        // the whole region is there, so every call is the end of the input
+        CoderResult result = decoder.decode(bytes, out, true);
+        if (result.isError()) result.throwException();
+        if (!bytes.hasRemaining()) flushed = decoder.flush(out).isUnderflow();
+        int read = out.position() - off;
+        return read == 0 && flushed ? -1 : read;
+    }
+
+    @Override
+    public void close() {
+    }
+}
@@ -0,0 +1,161 @@
+package com.platform.sdk.string.stream;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Runs a {@link FluentPipeline} over a large batch of values on a thread pool:
+ * <pre>{@code
+ * List<String> keys = FluentPipeline.define(s -> s.trim().stripAccents().toLowerCase())
+ *         .parallel().withErrorPolicy(ParallelPipeline.ErrorPolicy.KEEP_ORIGINAL).applyAll(names);
+ * }</pre>
+ * The batch is cut into contiguous chunks, a few per thread, and each chunk writes its
+ * results straight into its slice of one output array, so results come back in input
+ * order. Each chunk reuses one buffer for all the fused steps it runs. Batches smaller
+ * than the threshold run on the calling thread.
+ * <p>
+ * What happens when a step throws for a value is set by the {@link ErrorPolicy}. Errors
+ * are never caught.
+ */
+public final class ParallelPipeline {
+
+    /** Batches with fewer values than this run on the calling thread. */
+    public static final int DEFAULT_THRESHOLD = 1024;
+
+    private static final int MIN_CHUNK = 256;
+    private static final int CHUNKS_PER_THREAD = 4;
+    /** Marks the slot of a skipped value; compared by identity, so no result can be mistaken for it. */
+    private static final String SKIPPED = new String();
+
+    /** What to do with a value for which a step throws a {@link RuntimeException}. */
+    public enum ErrorPolicy {
+        /** Leave the value out of the results; later results move up. */
+        SKIP,
+        /** Put the input value, unchanged, in its place in the results. */
+        KEEP_ORIGINAL,
+        /** Stop every chunk at its next value and rethrow the exception to the caller. */
+        FAIL_FAST
+    }
+
+    private final FluentPipeline pipeline;
+    private final ExecutorService pool;
+    private final ErrorPolicy errorPolicy;
+    private final int threshold;
+
+    private ParallelPipeline(FluentPipeline pipeline, ExecutorService pool, ErrorPolicy errorPolicy, int threshold) {
+        this.pipeline = pipeline;
+        this.pool = pool;
+        this.errorPolicy = errorPolicy;
+        this.threshold = threshold;
+    }
+
+    public static ParallelPipeline of(FluentPipeline pipeline) {
+        if (pipeline == null) throw new IllegalArgumentException("Pipeline must not be null");
+        return new ParallelPipeline(pipeline, ForkJoinPool.commonPool(), ErrorPolicy.FAIL_FAST, DEFAULT_THRESHOLD);
+    }
+
+    /** Runs chunks on {@code pool}, which stays owned by the caller. */
+    public ParallelPipeline withPool(ExecutorService pool) {
+        if (pool == null) throw new IllegalArgumentException("Pool must not be null");
+        return new ParallelPipeline(pipeline, pool, errorPolicy, threshold);
+    }
+
+    public ParallelPipeline withErrorPolicy(ErrorPolicy errorPolicy) {
+        if (errorPolicy == null) throw new IllegalArgumentException("Error policy must not be null");
+        return new ParallelPipeline(pipeline, pool, errorPolicy, threshold);
+    }
+
+    public ParallelPipeline withThreshold(int threshold) {
+        if (threshold < 0) throw new IllegalArgumentException("Threshold must not be negative, but was " + threshold);
+        return new ParallelPipeline(pipeline, pool, errorPolicy, threshold);
+    }
+
+    public List<String> applyAll(List<String> inputs) {
+        return new ArrayList<>(Arrays.asList(applyAll(inputs.toArray(new String[0]))));
+    }
+
+    /**
+     * The results for {@code inputs}, in order, in a new array; under
+     * {@link ErrorPolicy#SKIP} it is shorter by the number of values skipped.
+     */
+    public String[] applyAll(String[] inputs) {
+        String[] out = new String[inputs.length];
+        int[] bounds = split(inputs.length);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        if (bounds.length == 2) {
+            runChunk(inputs, out, 0, inputs.length, failure);
+        } else {
+            List<Callable<Void>> tasks = new ArrayList<>(bounds.length - 1);
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                int from = bounds[i];
+                int to = bounds[i + 1];
+                tasks.add(() -> {
+                    runChunk(inputs, out, from, to, failure);
+                    return null;
+                });
+            }
+            invokeAll(tasks);
+        }
+        if (failure.get() != null) throw failure.get();
+        return errorPolicy == ErrorPolicy.SKIP ? withoutSkipped(out) : out;
+    }
+
+    private void runChunk(String[] inputs, String[] out, int from, int to, AtomicReference<RuntimeException> failure) {
+        FusedStage.Workspace scratch = new FusedStage.Workspace();
+        for (int i = from; i < to; i++) {
+            try {
+                out[i] = pipeline.apply(inputs[i], scratch);
+            } catch (RuntimeException e) {
+                if (errorPolicy == ErrorPolicy.FAIL_FAST) {
+                    failure.compareAndSet(null, e);
+                    return;
+                }
+                out[i] = errorPolicy == ErrorPolicy.SKIP ? SKIPPED : inputs[i];
+            }
+            if (errorPolicy == ErrorPolicy.FAIL_FAST && failure.get() != null) return;
+        }
+    }
+
+    /** Chunk bounds {@code [b0 = 0, b1, ..., bn = size]}; a single chunk below the threshold. */
+    private int[] split(int size) {
+        int parallelism = pool instanceof ForkJoinPool
+                ? ((ForkJoinPool) pool).getParallelism() : Runtime.getRuntime().availableProcessors();
+        int chunks = size < threshold ? 1 : Math.max(1, Math.min(parallelism * CHUNKS_PER_THREAD, size / MIN_CHUNK));
+        int[] bounds = new int[chunks + 1];
+        for (int i = 1; i <= chunks; i++) {
+            bounds[i] = (int) ((long) size * i / chunks);
+        }
+        return bounds;
+    }
+
+    private void invokeAll(List<Callable<Void>> tasks) {
+        try {
+            for (Future<Void> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running pipeline", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static String[] withoutSkipped(String[] out) {
+        int size = 0;
+        for (String result : out) {
+            if (result != SKIPPED) out[size++] = result;
+        }
+        return size == out.length ? out : Arrays.copyOf(out, size);
+    }
+}
@@ -0,0 +1,100 @@
+package com.platform.sdk.string.stream;
+
+import com.platform.sdk.string.StringShape;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Turns the steps of a pipeline into the program {@code collect()} and
+ * {@link FluentPipeline} run, and runs either.
+ * <p>
+ * The compiler follows the {@link StringShape} each built-in step gives its result and
+ * drops a step whose effect is already implied, whatever the source value: the second
+ * of two {@code toLowerCase()} calls, a {@code trim()} right after {@code clean()}, a
+ * {@code normalize()} after {@code toSlug()}. Each run of two or more adjacent fusable
+ * steps becomes one {@link FusedStage}. Steps added with {@code map(...)} are kept as
+ * they are, and nothing is known about the value after them.
+ */
+final class PipelineCompiler {
+
+    private PipelineCompiler() {
+    }
+
+    static List<Function<String, String>> compile(List<Function<String, String>> pipeline) {
+        List<Function<String, String>> program = new ArrayList<>(pipeline.size());
+        List<Step> run = new ArrayList<>();
+        int shape = StringShape.UNKNOWN;
+        for (Function<String, String> op : pipeline) {
+            if (op instanceof Step) {
+                Step step = (Step) op;
+                if (step.skipWhen() != StringShape.UNKNOWN && StringShape.holds(shape, step.skipWhen())) {
+                    StringShape.recordSkip();
+                    continue;
+                }
+                shape = step.shape(shape);
+                if (step.isFusable()) {
+                    run.add(step);
+                    continue;
+                }
+            } else {
+                shape = StringShape.UNKNOWN;
+            }
+            flush(run, program);
+            program.add(op);
+        }
+        flush(run, program);
+        return program;
+    }
+
+    /** Runs {@code steps} (a pipeline or a compiled program) over {@code value}, skipping steps its shape makes no-ops. */
+    static String run(List<Function<String, String>> steps, String value) {
+        return run(steps, value, null);
+    }
+
+    /** As {@link #run(List, String)}, with fused steps building their results in {@code scratch} if it is not null. */
+    static String run(List<Function<String, String>> steps, String value, FusedStage.Workspace scratch) {
+        int shape = StringShape.UNKNOWN;
+        for (int i = 0; i < steps.size(); i++) {
+            Function<String, String> op = steps.get(i);
+            if (!(op instanceof Step)) {
+                String next = op.apply(value);
+                if (next != value) shape = StringShape.UNKNOWN;
+                value = next;
+                continue;
+            }
+            Step step = (Step) op;
+            int fact = step.skipWhen();
+            boolean byMapping = StringShape.resolvedByMapping(fact);
+            if (fact != StringShape.UNKNOWN) {
+                if (!byMapping) shape = StringShape.resolve(shape, value, fact);
+                if (StringShape.holds(shape, fact)) {
+                    StringShape.recordSkip();
+                    continue;
+                }
+            }
+            String next = step.apply(value, scratch);
+            if (next != value) {
+                shape = step.shape(shape);
+            } else if (byMapping) {
+                shape = StringShape.unchanged(shape, fact);
+            }
+            value = next;
+        }
+        return value;
+    }
+
+    private static void flush(List<Step> run, List<Function<String, String>> program) {
+        if (run.size() == 1) {
+            program.add(run.get(0));
+        } else if (run.size() > 1) {
+            List<Step> steps = new ArrayList<>(run);
+            program.add(new Step(new FusedStage(steps), StringShape.UNKNOWN, shape -> {
+                for (Step step : steps) shape = step.shape(shape);
+                return shape;
+            }));
+        }
+        run.clear();
+    }
+}
@@ -0,0 +1,223 @@
+package com.platform.sdk.string.stream;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+/**
+ * Opt-in profiling of pipeline steps. Attach a profiler to a stream before adding steps:
+ * <pre>{@code
+ * PipelineProfiler profiler = PipelineProfiler.create();
+ * FluentStringStream.of(text).withProfiler(profiler).trim().map(this::lookup).label("lookup").toSlug().collect();
+ * System.out.println(profiler.snapshot());
+ * }</pre>
+ * While a profiler is attached, each step is named after the built-in method that added
+ * it ({@code "trim"}, {@code "toSlug"}, {@code "map"} for a user function) unless
+ * {@code label(...)} names it, and {@code collect()} runs the steps one by one, unfused
+ * and without shape skipping, recording for each its latency, input and output lengths
+ * and the bytes allocated by the thread while it ran (where the JVM's
+ * {@code com.sun.management.ThreadMXBean} supports it, less the cost of asking).
+ * Pipelines made with {@code toPipeline()} keep the profiler and record every
+ * {@code apply}; the profiler is thread-safe.
+ * <p>
+ * Without a profiler, steps are not named and nothing is measured: the only cost is a
+ * null check per added step and per {@code collect()}.
+ */
+public final class PipelineProfiler {
+
+    /** Receives every profiled step run, on the thread that ran it. */
+    @FunctionalInterface
+    public interface Listener {
+        /** {@code allocatedBytes} is -1 when the JVM cannot measure it. */
+        void stepCompleted(int index, String name, long nanos, int inputLength, int outputLength, long allocatedBytes);
+    }
+
+    private static final com.sun.management.ThreadMXBean THREADS = allocationBean();
+    private static final long ALLOCATION_OVERHEAD = allocationOverhead();
+
+    private final List<Slot> slots = new ArrayList<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+
+    private PipelineProfiler() {
+    }
+
+    public static PipelineProfiler create() {
+        return new PipelineProfiler();
+    }
+
+    public PipelineProfiler addListener(Listener listener) {
+        if (listener == null) throw new IllegalArgumentException("Listener must not be null");
+        listeners.add(listener);
+        return this;
+    }
+
+    /** Whether allocated bytes are measured on this JVM. */
+    public static boolean measuresAllocations() {
+        return THREADS != null;
+    }
+
+    /** The counts recorded so far, one entry per step index and name, in step order. */
+    public ProfileSnapshot snapshot() {
+        List<ProfileSnapshot.StepProfile> steps = new ArrayList<>();
+        synchronized (slots) {
+            for (Slot slot : slots) {
+                steps.add(slot.profile());
+            }
+        }
+        steps.sort((a, b) -> Integer.compare(a.index(), b.index()));
+        return new ProfileSnapshot(steps);
+    }
+
+    public void reset() {
+        synchronized (slots) {
+            slots.clear();
+        }
+    }
+
+    /** Name of the FluentStringStream method that is adding a step: the outermost one on the stack. */
+    static String callerName() {
+        String stream = FluentStringStream.class.getName();
+        String name = null;
+        for (StackTraceElement frame : new Throwable().getStackTrace()) {
+            if (frame.getClassName().equals(stream)) {
+                name = frame.getMethodName();
+            } else if (name != null) {
+                break;
+            }
+        }
+        return name == null ? "step" : name;
+    }
+
+    /** The slots steps {@code [first, first + names.size())} record into. */
+    Slot[] slots(int first, List<String> names) {
+        Slot[] result = new Slot[names.size()];
+        synchronized (slots) {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = slot(first + i, names.get(i));
+            }
+        }
+        return result;
+    }
+
+    /** Runs {@code steps} over {@code value} one by one, recording each into its slot. */
+    String run(List<Function<String, String>> steps, Slot[] slots, String value) {
+        for (int i = 0; i < steps.size(); i++) {
+            Slot slot = slots[i];
+            int inputLength = value == null ? 0 : value.length();
+            long allocatedBefore = allocatedBytes();
+            long begin = System.nanoTime();
+            String next = steps.get(i).apply(value);
+            long nanos = System.nanoTime() - begin;
+            long allocated = allocatedBefore < 0 ? -1 : Math.max(0, allocatedBytes() - allocatedBefore - ALLOCATION_OVERHEAD);
+            int outputLength = next == null ? 0 : next.length();
+            slot.record(nanos, inputLength, outputLength, allocated);
+            for (Listener listener : listeners) {
+                listener.stepCompleted(slot.index, slot.name, nanos, inputLength, outputLength, allocated);
+            }
+            value = next;
+        }
+        return value;
+    }
+
+    private Slot slot(int index, String name) {
+        for (Slot slot : slots) {
+            if (slot.index == index && slot.name.equals(name)) return slot;
+        }
+        Slot slot = new Slot(index, name);
+        slots.add(slot);
+        return slot;
+    }
+
+    private static long allocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)) return null;
+            com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) bean;
+            if (!threads.isThreadAllocatedMemorySupported()) return null;
+            if (!threads.isThreadAllocatedMemoryEnabled()) threads.setThreadAllocatedMemoryEnabled(true);
+            return threads;
+        } catch (LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /** What asking for the allocated bytes allocates itself, so it can be left out of each step's count. */
+    private static long allocationOverhead() {
+        if (THREADS == null) return 0;
+        long overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 16; i++) {
+            long before = allocatedBytes();
+            overhead = Math.min(overhead, allocatedBytes() - before);
+        }
+        return overhead;
+    }
+
+    /** Counts for one step: totals plus a log-linear latency histogram with 8 buckets per power of two. */
+    static final class Slot {
+        private static final int SUB_BUCKETS = 8;
+        private static final int SUB_BITS = 3;
+
+        final int index;
+        final String name;
+        private final long[] histogram = new long[SUB_BUCKETS + (63 - SUB_BITS) * SUB_BUCKETS];
+        private long invocations;
+        private long totalNanos;
+        private long maxNanos;
+        private long inputChars;
+        private long outputChars;
+        private long allocatedBytes;
+
+        Slot(int index, String name) {
+            this.index = index;
+            this.name = name;
+        }
+
+        synchronized void record(long nanos, int inputLength, int outputLength, long allocated) {
+            nanos = Math.max(0, nanos);
+            invocations++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            inputChars += inputLength;
+            outputChars += outputLength;
+            allocatedBytes = allocated < 0 || allocatedBytes < 0 ? -1 : allocatedBytes + allocated;
+            histogram[bucket(nanos)]++;
+        }
+
+        synchronized ProfileSnapshot.StepProfile profile() {
+            return new ProfileSnapshot.StepProfile(index, name, invocations, totalNanos, percentile(0.50),
+                    percentile(0.90), percentile(0.99), maxNanos, inputChars, outputChars, allocatedBytes);
+        }
+
+        /** Upper bound of the bucket holding the {@code p} quantile, capped at the maximum seen. */
+        private long percentile(double p) {
+            if (invocations == 0) return 0;
+            long rank = Math.max(1, (long) Math.ceil(p * invocations));
+            long seen = 0;
+            for (int i = 0; i < histogram.length; i++) {
+                seen += histogram[i];
+                if (seen >= rank) return Math.min(upperBound(i), maxNanos);
+            }
+            return maxNanos;
+        }
+
+        private static int bucket(long nanos) {
+            if (nanos < SUB_BUCKETS) return (int) nanos;
+            int msb = 63 - Long.numberOfLeadingZeros(nanos);
+            int sub = (int) (nanos >>> (msb - SUB_BITS)) & (SUB_BUCKETS - 1);
+            return SUB_BUCKETS + (msb - SUB_BITS) * SUB_BUCKETS + sub;
+        }
+
+        private static long upperBound(int bucket) {
+            if (bucket < SUB_BUCKETS) return bucket;
+            int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+            long lower = (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+            return lower + (1L << shift) - 1;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.platform.sdk.string.stream;
+
+import java.util.Collections;
+import java.util.List;
+
+/** The counts a {@link PipelineProfiler} had recorded when {@link PipelineProfiler#snapshot()} was called. */
+public final class ProfileSnapshot {
+
+    private final List<StepProfile> steps;
+
+    ProfileSnapshot(List<StepProfile> steps) {
+        this.steps = Collections.unmodifiableList(steps);
+    }
+
+    public List<StepProfile> steps() {
+        return steps;
+    }
+
+    /** The profile of the step at {@code index} named {@code name}, or {@code null} if it never ran. */
+    public StepProfile step(int index, String name) {
+        for (StepProfile step : steps) {
+            if (step.index == index && step.name.equals(name)) return step;
+        }
+        return null;
+    }
+
+    /** The step with the largest total time, or {@code null} if nothing ran. */
+    public StepProfile slowest() {
+        StepProfile slowest = null;
+        for (StepProfile step : steps) {
+            if (slowest == null || step.totalNanos > slowest.totalNanos) slowest = step;
+        }
+        return slowest;
+    }
+
+    /** A table with one row per step; times in microseconds. */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(String.format("%-4s %-24s %10s %12s %10s %10s %10s %10s %12s %12s %14s%n",
+                "#", "step", "calls", "total us", "p50 us", "p90 us", "p99 us", "max us", "chars in", "chars out", "alloc bytes"));
+        for (StepProfile step : steps) {
+            sb.append(String.format("%-4d %-24s %10d %12.1f %10.1f %10.1f %10.1f %10.1f %12d %12d %14d%n",
+                    step.index, step.name, step.invocations, step.totalNanos / 1e3, step.p50Nanos / 1e3, step.p90Nanos / 1e3,
+                    step.p99Nanos / 1e3, step.maxNanos / 1e3, step.inputChars, step.outputChars, step.allocatedBytes));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * One step's counts. Percentiles come from a histogram whose buckets are at most
+     * 12.5% wide, so they are upper bounds within that.
+     */
+    public static final class StepProfile {
+        private final int index;
+        private final String name;
+        private final long invocations;
+        private final long totalNanos;
+        private final long p50Nanos;
+        private final long p90Nanos;
+        private final long p99Nanos;
+        private final long maxNanos;
+        private final long inputChars;
+        private final long outputChars;
+        private final long allocatedBytes;
+
+        StepProfile(int index, String name, long invocations, long totalNanos, long p50Nanos, long p90Nanos, long p99Nanos,
+                    long maxNanos, long inputChars, long outputChars, long allocatedBytes) {
+            this.index = index;
+            this.name = name;
+            this.invocations = invocations;
+            this.totalNanos = totalNanos;
+            this.p50Nanos = p50Nanos;
+            this.p90Nanos = p90Nanos;
+            this.p99Nanos = p99Nanos;
+            this.maxNanos = maxNanos;
+            this.inputChars = inputChars;
+            this.outputChars = outputChars;
+            this.allocatedBytes = allocatedBytes;
+        }
+
+        /** Position of the step in its pipeline, from 0. */
+        public int index() {
+            return index;
+        }
+
+        public String name() {
+            return name;
+        }
+
+        public long invocations() {
+            return invocations;
+        }
+
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        public long p50Nanos() {
+            return p50Nanos;
+        }
+
+        public long p90Nanos() {
+            return p90Nanos;
+        }
+
+        public long p99Nanos() {
+            return p99Nanos;
+        }
+
+        public long maxNanos() {
+            return maxNanos;
+        }
+
+        /** Total length of the values the step was given. */
+        public long inputChars() {
+            return inputChars;
+        }
+
+        public long outputChars() {
+            return outputChars;
+        }
+
+        /** Bytes allocated while the step ran, or -1 if the JVM cannot measure them. */
+        public long allocatedBytes() {
+            return allocatedBytes;
+        }
+
+        @Override
+        public String toString() {
+            return "StepProfile[" + index + " " + name + ", calls=" + invocations + ", totalNanos=" + totalNanos + "]";
+        }
+    }
+}
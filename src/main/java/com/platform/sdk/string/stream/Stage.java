@@ -0,0 +1,190 @@
+package com.platform.sdk.string.stream;
+
+import com.platform.sdk.string.CharMatcher;
+
+/**
+ * One piece of a built-in step that {@link FusedStage} can run on its shared buffer.
+ * Char stages map or drop one character at a time, and adjacent ones run together in
+ * a single loop; edge stages only look at or change the ends of the value.
+ */
+abstract class Stage {
+
+    private Stage() {
+    }
+
+    static CharStage lowerCase() {
+        return AsciiCase.LOWER;
+    }
+
+    static CharStage upperCase() {
+        return AsciiCase.UPPER;
+    }
+
+    static CharStage retain(CharMatcher matcher) {
+        return new Retain(matcher);
+    }
+
+    static CharStage remove(CharMatcher matcher) {
+        return new Retain(matcher.negate());
+    }
+
+    static CharStage replace(char from, char to) {
+        return new CharStage() {
+            @Override
+            int map(char c) {
+                return c == from ? to : c;
+            }
+        };
+    }
+
+    static EdgeStage trim() {
+        return new EdgeStage(0, 0) {
+            @Override
+            void apply(FusedStage.Workspace w) {
+                w.trim();
+            }
+        };
+    }
+
+    static EdgeStage prepend(String text) {
+        return new EdgeStage(text.length(), 0) {
+            @Override
+            void apply(FusedStage.Workspace w) {
+                w.prepend(text);
+            }
+        };
+    }
+
+    static EdgeStage append(String text) {
+        return new EdgeStage(0, text.length()) {
+            @Override
+            void apply(FusedStage.Workspace w) {
+                w.append(text);
+            }
+        };
+    }
+
+    static EdgeStage prefix(String prefix) {
+        return new EdgeStage(prefix.length(), 0) {
+            @Override
+            void apply(FusedStage.Workspace w) {
+                if (!w.startsWith(prefix)) w.prepend(prefix);
+            }
+        };
+    }
+
+    static EdgeStage suffix(String suffix) {
+        return new EdgeStage(0, suffix.length()) {
+            @Override
+            void apply(FusedStage.Workspace w) {
+                if (!w.endsWith(suffix)) w.append(suffix);
+            }
+        };
+    }
+
+    static EdgeStage padLeft(int length, char padChar) {
+        return new EdgeStage(Math.max(0, length), 0) {
+            @Override
+            void apply(FusedStage.Workspace w) {
+                w.pad(length - w.length(), 0, padChar);
+            }
+        };
+    }
+
+    static EdgeStage padRight(int length, char padChar) {
+        return new EdgeStage(0, Math.max(0, length)) {
+            @Override
+            void apply(FusedStage.Workspace w) {
+                w.pad(0, length - w.length(), padChar);
+            }
+        };
+    }
+
+    static EdgeStage center(int width, char padChar) {
+        return new EdgeStage(Math.max(0, width), Math.max(0, width)) {
+            @Override
+            void apply(FusedStage.Workspace w) {
+                int padding = width - w.length();
+                if (padding > 0) w.pad(padding / 2, padding - padding / 2, padChar);
+            }
+        };
+    }
+
+    static EdgeStage truncate(int maxLength, String ellipsis) {
+        return new EdgeStage(0, ellipsis.length()) {
+            @Override
+            void apply(FusedStage.Workspace w) {
+                if (w.length() <= maxLength) return;
+                w.cut(Math.max(0, maxLength - ellipsis.length()));
+                w.append(ellipsis);
+            }
+        };
+    }
+
+    abstract static class CharStage extends Stage {
+
+        static final int DROP = -1;
+        /** The stage cannot map this char on its own; the fused block runs its steps one by one instead. */
+        static final int BAIL = -2;
+
+        /** The char to write instead of {@code c}, {@link #DROP} or {@link #BAIL}. */
+        abstract int map(char c);
+
+        /** This stage followed by {@code next}, as one stage if they combine, else null. */
+        CharStage then(CharStage next) {
+            return null;
+        }
+    }
+
+    abstract static class EdgeStage extends Stage {
+
+        /** Upper bounds on the chars this stage adds in front of and behind the value. */
+        final int front;
+        final int back;
+
+        EdgeStage(int front, int back) {
+            this.front = front;
+            this.back = back;
+        }
+
+        abstract void apply(FusedStage.Workspace w);
+    }
+
+    /** Case mapping of ASCII chars; anything else bails, since it may depend on locale or context. */
+    private static final class AsciiCase extends CharStage {
+        static final AsciiCase LOWER = new AsciiCase('A', 'a');
+        static final AsciiCase UPPER = new AsciiCase('a', 'A');
+
+        private final char from;
+        private final int shift;
+
+        private AsciiCase(char from, char to) {
+            this.from = from;
+            this.shift = to - from;
+        }
+
+        @Override
+        int map(char c) {
+            if (c >= 128) return BAIL;
+            return c >= from && c <= from + 25 ? c + shift : c;
+        }
+    }
+
+    private static final class Retain extends CharStage {
+        private final CharMatcher matcher;
+
+        Retain(CharMatcher matcher) {
+            this.matcher = matcher;
+        }
+
+        @Override
+        int map(char c) {
+            return matcher.matches(c) ? c : DROP;
+        }
+
+        @Override
+        CharStage then(CharStage next) {
+            return next instanceof Retain ? new Retain(matcher.and(((Retain) next).matcher)) : null;
+        }
+    }
+}
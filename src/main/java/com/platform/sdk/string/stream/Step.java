@@ -0,0 +1,68 @@
+package com.platform.sdk.string.stream;
+
+import com.platform.sdk.string.StringShape;
+
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A built-in pipeline step: the transformation together with the {@link StringShape}
+ * fact that makes it a no-op, the shape it gives its result and, if it can be fused
+ * with its neighbours, the {@link Stage stages} that do the same work on a shared
+ * buffer. Steps added through {@code map(...)} or {@code addStep(...)} are plain
+ * functions, which are neither skipped nor fused.
+ */
+final class Step implements Function<String, String> {
+
+    private final Function<String, String> function;
+    private final int skipWhen;
+    private final IntUnaryOperator shape;
+    private final Stage[] stages;
+
+    /** A fusable step about whose result nothing is known. */
+    Step(Function<String, String> function, Stage... stages) {
+        this(function, StringShape.UNKNOWN, shape -> StringShape.UNKNOWN, stages);
+    }
+
+    Step(Function<String, String> function, int skipWhen, IntUnaryOperator shape, Stage... stages) {
+        this.function = function;
+        this.skipWhen = skipWhen;
+        this.shape = shape;
+        this.stages = stages;
+    }
+
+    @Override
+    public String apply(String value) {
+        return function.apply(value);
+    }
+
+    /** As {@link #apply(String)}, building a fused result in {@code scratch} (if not null) instead of a new buffer. */
+    String apply(String value, FusedStage.Workspace scratch) {
+        return scratch != null && function instanceof FusedStage ? ((FusedStage) function).apply(value, scratch) : function.apply(value);
+    }
+
+    /** Fact that makes this step a no-op, or {@link StringShape#UNKNOWN} if there is none. */
+    int skipWhen() {
+        return skipWhen;
+    }
+
+    int shape(int input) {
+        return shape.applyAsInt(input);
+    }
+
+    boolean isFusable() {
+        return stages.length > 0;
+    }
+
+    /** Whether the step maps each char on its own, so it gives the same result on any split of the value. */
+    boolean isCharwise() {
+        for (Stage stage : stages) {
+            if (!(stage instanceof Stage.CharStage)) return false;
+        }
+        return stages.length > 0;
+    }
+
+    Stage[] stages() {
+        return stages;
+    }
+}
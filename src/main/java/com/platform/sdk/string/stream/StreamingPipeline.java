@@ -0,0 +1,176 @@
+package com.platform.sdk.string.stream;
+
+import com.platform.sdk.string.WordTokenizer;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+/**
+ * Runs a chain of FluentStringStream steps over text read from a {@link Reader} or a
+ * file, a piece at a time, so the text never has to fit in memory:
+ * <pre>{@code
+ * StreamingPipeline.lines(s -> s.trim().toLowerCase()).transfer(Paths.get("export.csv"), Paths.get("clean.csv"));
+ * TextStats stats = StreamingPipeline.chunks(s -> s.removePunctuation()).stats(Paths.get("app.log"));
+ * }</pre>
+ * In line mode each line is one value: the steps run on the line without its
+ * terminator, which is written back unchanged. Any step can be used, and memory is
+ * bounded by the longest line. In chunk mode the text is read in buffers of
+ * {@link #withBufferSize buffer size} chars, cut after the last word separator, so only
+ * steps that map each char on its own ({@code toLowerCase()}, {@code toUpperCase()},
+ * {@code removeDigits()}, {@code keepOnly(...)}, single-char {@code replace}, ...) are
+ * accepted; {@link #chunks} rejects any other step when the pipeline is built. A word
+ * longer than the buffer is the only thing ever cut.
+ * <p>
+ * Readers and writers passed in are left open; files are opened and closed here.
+ */
+public final class StreamingPipeline {
+
+    public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+    private static final int MIN_BUFFER_SIZE = 16;
+
+    private enum Mode {
+        LINES, CHUNKS
+    }
+
+    private final Mode mode;
+    private final FluentPipeline pipeline;
+    private final int bufferSize;
+
+    private StreamingPipeline(Mode mode, FluentPipeline pipeline, int bufferSize) {
+        this.mode = mode;
+        this.pipeline = pipeline;
+        this.bufferSize = bufferSize;
+    }
+
+    /** Runs the steps on every line. */
+    public static StreamingPipeline lines(UnaryOperator<FluentStringStream> steps) {
+        return new StreamingPipeline(Mode.LINES, define(steps).toPipeline(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * Runs the steps on buffer-sized chunks of text.
+     *
+     * @throws IllegalArgumentException if a step does not map each char on its own
+     */
+    public static StreamingPipeline chunks(UnaryOperator<FluentStringStream> steps) {
+        FluentStringStream stream = define(steps);
+        List<Function<String, String>> list = stream.steps();
+        for (int i = 0; i < list.size(); i++) {
+            Function<String, String> step = list.get(i);
+            if (!(step instanceof Step) || !((Step) step).isCharwise()) {
+                throw new IllegalArgumentException("Step " + (i + 1) + " of " + list.size()
+                        + " cannot run on chunks: only steps that map each char on their own can, use lines(...) for the others");
+            }
+        }
+        return new StreamingPipeline(Mode.CHUNKS, stream.toPipeline(), DEFAULT_BUFFER_SIZE);
+    }
+
+    private static FluentStringStream define(UnaryOperator<FluentStringStream> steps) {
+        if (steps == null) throw new IllegalArgumentException("Steps must not be null");
+        FluentStringStream stream = steps.apply(FluentStringStream.of(""));
+        if (stream == null) throw new IllegalArgumentException("Steps must not return null");
+        return stream;
+    }
+
+    /** Chars read per buffer; also the size of the batches {@link #stats} counts at once. */
+    public StreamingPipeline withBufferSize(int chars) {
+        if (chars < MIN_BUFFER_SIZE) {
+            throw new IllegalArgumentException("Buffer size must be at least " + MIN_BUFFER_SIZE + ", but was " + chars);
+        }
+        return new StreamingPipeline(mode, pipeline, chars);
+    }
+
+    /** Writes the transformed text of {@code in} to {@code out} and returns the number of chars written. */
+    public long transfer(Reader in, Writer out) throws IOException {
+        BufferedWriter writer = new BufferedWriter(out, bufferSize);
+        long[] written = new long[1];
+        run(in, (value, terminator) -> {
+            writer.write(value);
+            writer.write(terminator);
+            written[0] += value.length() + terminator.length();
+        });
+        writer.flush();
+        return written[0];
+    }
+
+    public long transfer(Path in, Path out) throws IOException {
+        return transfer(in, out, StandardCharsets.UTF_8);
+    }
+
+    public long transfer(Path in, Path out, Charset charset) throws IOException {
+        try (Reader reader = Files.newBufferedReader(in, charset);
+             Writer writer = Files.newBufferedWriter(out, charset)) {
+            return transfer(reader, writer);
+        }
+    }
+
+    /**
+     * Counts the transformed text of {@code in} without writing it anywhere. In line mode
+     * the counts are those of the transformed lines joined by {@code '\n'}.
+     */
+    public TextStats stats(Reader in) throws IOException {
+        TextStats stats = new TextStats(mode == Mode.LINES, bufferSize);
+        run(in, (value, terminator) -> stats.add(value));
+        return stats.finish();
+    }
+
+    public TextStats stats(Path in) throws IOException {
+        return stats(in, StandardCharsets.UTF_8);
+    }
+
+    public TextStats stats(Path in, Charset charset) throws IOException {
+        try (Reader reader = Files.newBufferedReader(in, charset)) {
+            return stats(reader);
+        }
+    }
+
+    private void run(Reader in, ValueSink sink) throws IOException {
+        FusedStage.Workspace scratch = new FusedStage.Workspace();
+        if (mode == Mode.LINES) {
+            LineReader lines = new LineReader(in, bufferSize);
+            String line;
+            while ((line = lines.next()) != null) {
+                sink.accept(pipeline.apply(line, scratch), lines.terminator());
+            }
+            return;
+        }
+        char[] buf = new char[bufferSize];
+        int length = 0;
+        boolean eof = false;
+        while (!eof || length > 0) {
+            while (!eof && length < buf.length) {
+                int read = in.read(buf, length, buf.length - length);
+                if (read < 0) eof = true;
+                else length += read;
+            }
+            if (length == 0) return;
+            int cut = eof ? length : cut(buf, length);
+            sink.accept(pipeline.apply(new String(buf, 0, cut), scratch), "");
+            System.arraycopy(buf, cut, buf, 0, length - cut);
+            length -= cut;
+        }
+    }
+
+    /** End of the chunk in a full buffer: after its last separator, else before a split surrogate pair. */
+    private static int cut(char[] buf, int length) {
+        for (int i = length - 1; i >= 0; i--) {
+            if (WordTokenizer.isSeparator(buf[i])) return i + 1;
+        }
+        return Character.isHighSurrogate(buf[length - 1]) ? length - 1 : length;
+    }
+
+    @FunctionalInterface
+    private interface ValueSink {
+        void accept(String value, String terminator) throws IOException;
+    }
+}
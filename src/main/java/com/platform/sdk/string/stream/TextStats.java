@@ -0,0 +1,119 @@
+package com.platform.sdk.string.stream;
+
+import com.platform.sdk.string.CharFrequency;
+import com.platform.sdk.string.WordFrequency;
+import com.platform.sdk.string.WordTokenizer;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts gathered by {@link StreamingPipeline#stats} and {@link MappedLines#stats} over a
+ * text that arrives a value (a line or a chunk) at a time. Values are collected into
+ * batches of about the buffer size, each batch is counted with the same tables
+ * FluentStringStream uses and then dropped; only the totals and the distinct chars and
+ * words are kept. Lines are counted as if joined by {@code '\n'}.
+ * <p>
+ * A batch is counted up to its last word separator and the word it ends in is carried
+ * into the next one, since a step may have removed the separator a chunk was cut at
+ * ({@code removeWhitespace()}, or {@code removeSpecialChars()} on newline-separated
+ * text). Counts therefore match those of the whole text, and memory is bounded by the
+ * batch size plus the longest word of the transformed text.
+ */
+public final class TextStats {
+
+    private final Map<String, Integer> wordFrequencyIgnoreCase = new LinkedHashMap<>();
+    private CharFrequency charFrequency;
+    private final boolean lines;
+    private final int batchSize;
+    private final StringBuilder batch;
+    /** Length of the word carried at the start of {@link #batch}, which holds no separator. */
+    private int carried;
+    private long values;
+    private long length;
+    private long wordCount;
+
+    TextStats(boolean lines, int batchSize) {
+        this.lines = lines;
+        this.batchSize = batchSize;
+        this.batch = new StringBuilder(batchSize + 64);
+    }
+
+    /** Adds the next line or chunk. */
+    void add(String value) {
+        if (lines && values > 0) batch.append('\n');
+        values++;
+        batch.append(value);
+        if (batch.length() - carried >= batchSize) flush();
+    }
+
+    /** Counts what is left of the last batch; called once, after the last value. */
+    TextStats finish() {
+        if (batch.length() > 0) count(batch.toString());
+        batch.setLength(0);
+        carried = 0;
+        return this;
+    }
+
+    /** Adds the counts of {@code next}, a finished TextStats over the text that follows this one. */
+    void merge(TextStats next) {
+        if (next.values == 0) return;
+        if (lines && values > 0) count("\n");
+        values += next.values;
+        length += next.length;
+        wordCount += next.wordCount;
+        if (charFrequency == null) charFrequency = next.charFrequency;
+        else if (next.charFrequency != null) charFrequency.merge(next.charFrequency);
+        next.wordFrequencyIgnoreCase.forEach((word, count) -> wordFrequencyIgnoreCase.merge(word, count, Integer::sum));
+    }
+
+    /** Counts the batch up to its last separator and keeps the rest, a word that may go on in the next value. */
+    private void flush() {
+        int end = batch.length();
+        while (end > carried && !WordTokenizer.isSeparator(batch.charAt(end - 1))) end--;
+        if (end > carried) {
+            count(batch.substring(0, end));
+            batch.delete(0, end);
+        }
+        carried = batch.length();
+    }
+
+    private void count(String text) {
+        length += text.length();
+        wordCount += WordTokenizer.count(text);
+        CharFrequency chars = CharFrequency.of(text);
+        if (charFrequency == null) charFrequency = chars;
+        else charFrequency.merge(chars);
+        WordFrequency.ofIgnoreCase(text).forEach((word, count) -> wordFrequencyIgnoreCase.merge(word, count, Integer::sum));
+    }
+
+    /** Number of chars in the text. */
+    public long length() {
+        return length;
+    }
+
+    /** Number of {@code '\n'}-separated lines; 0 for an empty text. */
+    public long lineCount() {
+        return length == 0 ? 0 : charFrequency.get('\n') + 1L;
+    }
+
+    public long wordCount() {
+        return wordCount;
+    }
+
+    public CharFrequency charFrequency() {
+        return charFrequency == null ? CharFrequency.of("") : charFrequency;
+    }
+
+    /** Word counts of the lower-cased text, in first-occurrence order, as {@link FluentStringStream#getWordFrequencyIgnoreCase()}. */
+    public Map<String, Integer> getWordFrequencyIgnoreCase() {
+        return Collections.unmodifiableMap(wordFrequencyIgnoreCase);
+    }
+
+    @Override
+    public String toString() {
+        return "TextStats[length=" + length + ", lines=" + lineCount() + ", words=" + wordCount
+                + ", distinctWords=" + wordFrequencyIgnoreCase.size() + "]";
+    }
+}
@@ -0,0 +1,159 @@
+package com.platform.sdk.string;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.FlightRecorderListener;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import jdk.jfr.Timespan;
+
+/**
+ * Java 11 version of the library's Java Flight Recorder events, all in the
+ * "FluentString" category. Whether a recording is running is tracked with a
+ * {@link FlightRecorderListener}, so while none is the library does not even time its
+ * operations for them; each event type can still be disabled in the recording settings.
+ */
+final class JfrEvents {
+
+    private static volatile boolean recording;
+
+    static {
+        try {
+            FlightRecorder.addListener(new FlightRecorderListener() {
+                @Override
+                public void recordingStateChanged(Recording changed) {
+                    update();
+                }
+            });
+            update();
+        } catch (RuntimeException | LinkageError e) {
+            recording = false;
+        }
+    }
+
+    private JfrEvents() {
+    }
+
+    static boolean recording() {
+        return recording;
+    }
+
+    static void slowOperation(String operation, String detail, long nanos, int inputLength) {
+        SlowOperation event = new SlowOperation();
+        if (!event.isEnabled()) return;
+        event.operation = operation;
+        event.detail = detail;
+        event.elapsed = nanos;
+        event.inputLength = inputLength;
+        event.commit();
+    }
+
+    static void largeInput(String operation, String detail, int inputLength) {
+        LargeInput event = new LargeInput();
+        if (!event.isEnabled()) return;
+        event.operation = operation;
+        event.detail = detail;
+        event.inputLength = inputLength;
+        event.commit();
+    }
+
+    static void regexCompiled(String regex, long nanos) {
+        RegexCompiled event = new RegexCompiled();
+        if (!event.isEnabled()) return;
+        event.regex = regex;
+        event.elapsed = nanos;
+        event.commit();
+    }
+
+    static void cacheMiss(String cache, String key) {
+        CacheMiss event = new CacheMiss();
+        if (!event.isEnabled()) return;
+        event.cache = cache;
+        event.key = key;
+        event.commit();
+    }
+
+    static void parseFailure(String type, int inputLength) {
+        ParseFailure event = new ParseFailure();
+        if (!event.isEnabled()) return;
+        event.type = type;
+        event.inputLength = inputLength;
+        event.commit();
+    }
+
+    private static void update() {
+        boolean running = false;
+        if (FlightRecorder.isInitialized()) {
+            for (Recording r : FlightRecorder.getFlightRecorder().getRecordings()) {
+                running |= r.getState() == RecordingState.RUNNING;
+            }
+        }
+        recording = running;
+    }
+
+    @Name("com.platform.sdk.string.SlowOperation")
+    @Label("Slow String Operation")
+    @Category("FluentString")
+    @Description("An operation that took longer than the slow operation threshold")
+    static final class SlowOperation extends Event {
+        @Label("Operation")
+        String operation;
+        @Label("Detail")
+        String detail;
+        @Label("Elapsed")
+        @Timespan
+        long elapsed;
+        @Label("Input Length")
+        int inputLength;
+    }
+
+    @Name("com.platform.sdk.string.LargeInput")
+    @Label("Large String Input")
+    @Category("FluentString")
+    @Description("An operation on an input at least as long as the large input threshold")
+    static final class LargeInput extends Event {
+        @Label("Operation")
+        String operation;
+        @Label("Detail")
+        String detail;
+        @Label("Input Length")
+        int inputLength;
+    }
+
+    @Name("com.platform.sdk.string.RegexCompiled")
+    @Label("Regex Compiled")
+    @Category("FluentString")
+    @Description("A regular expression compiled by the pattern cache")
+    static final class RegexCompiled extends Event {
+        @Label("Regex")
+        String regex;
+        @Label("Elapsed")
+        @Timespan
+        long elapsed;
+    }
+
+    @Name("com.platform.sdk.string.CacheMiss")
+    @Label("Cache Miss")
+    @Category("FluentString")
+    static final class CacheMiss extends Event {
+        @Label("Cache")
+        String cache;
+        @Label("Key")
+        String key;
+    }
+
+    @Name("com.platform.sdk.string.ParseFailure")
+    @Label("Parse Failure")
+    @Category("FluentString")
+    @Description("A FluentStringParser conversion that found no value; the input itself is not recorded")
+    static final class ParseFailure extends Event {
+        @Label("Type")
+        String type;
+        @Label("Input Length")
+        int inputLength;
+    }
+}
@@ -0,0 +1,27 @@
+package com.platform.sdk.string.stream;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Java 21 version of the default async executor: each task runs on its own virtual
+ * thread, so a step that blocks releases its carrier thread instead of holding a
+ * platform thread until the lookup returns.
+ */
+final class AsyncExecution {
+
+    private static final ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fluent-string-async-", 1).factory());
+
+    private AsyncExecution() {
+    }
+
+    static Executor executor() {
+        return EXECUTOR;
+    }
+
+    static boolean usesVirtualThreads() {
+        return true;
+    }
+}
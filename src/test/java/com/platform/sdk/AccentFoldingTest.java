@@ -0,0 +1,85 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.AccentFolding;
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccentFoldingTest {
+
+    private static String reference(String value) {
+        return Normalizer.normalize(value, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "");
+    }
+
+    @Test
+    void testStripAccentsMatchesNormalizerForEveryChar() {
+        for (char c = 0; c < Character.MAX_VALUE; c++) {
+            if (Character.isSurrogate(c)) continue;
+            String value = "x" + c + "y";
+            assertEquals(reference(value), AccentFolding.stripAccents(value), () -> Integer.toHexString(value.charAt(1)));
+        }
+    }
+
+    @Test
+    void testStripAccentsMatchesNormalizerOnMixedText() {
+        String alphabet = "aeéèÅñçøßΆάΐЁёйї한글⃒ְ̣́҃॑ẞ𝔘 ";
+        Random random = new Random(3);
+        for (int n = 0; n < 5_000; n++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = random.nextInt(12); i > 0; i--) {
+                int at = random.nextInt(alphabet.length());
+                if (Character.isSurrogate(alphabet.charAt(at))) {
+                    at = Character.isHighSurrogate(alphabet.charAt(at)) ? at : at - 1;
+                    sb.append(alphabet, at, at + 2);
+                } else {
+                    sb.append(alphabet.charAt(at));
+                }
+            }
+            String value = sb.toString();
+            assertEquals(reference(value), AccentFolding.stripAccents(value), value);
+        }
+    }
+
+    @Test
+    void testAsciiIsReturnedAsIs() {
+        String ascii = "Plain ASCII, nothing to fold";
+        assertSame(ascii, AccentFolding.stripAccents(ascii));
+        String slug = "already";
+        assertSame(slug, AccentFolding.toSlug(slug));
+        FluentString fs = FluentString.of(ascii);
+        assertSame(fs, fs.stripAccents());
+    }
+
+    @Test
+    void testSlugTransliterates() {
+        assertEquals("creme-brulee", AccentFolding.toSlug("Crème Brûlée"));
+        assertEquals("strasse-aerosol", AccentFolding.toSlug("Straße Ærosol"));
+        assertEquals("moskva-odesa-yizhak", AccentFolding.toSlug("Москва Одеса Їжак"));
+        assertEquals("athina", AccentFolding.toSlug("Αθήνα"));
+        assertEquals("lodz-oresund", AccentFolding.toSlug("Łódź Øresund"));
+        assertEquals("pho-bo", AccentFolding.toSlug("Phở bò"));
+    }
+
+    @Test
+    void testSlugKeepsAsciiBehaviour() {
+        assertEquals("hello-world", FluentString.of("Hello World!").toSlug().get());
+        assertEquals("java-spring-boot", FluentString.of("Java & Spring Boot!!").toSlug().get());
+        assertEquals("rockroll-email", AccentFolding.toSlug("  rock&roll\t\te-mail  "));
+        assertEquals("", AccentFolding.toSlug("  !!  "));
+        assertEquals("a-b", AccentFolding.toSlug("a b"));
+        assertEquals("ab", AccentFolding.toSlug("a漢b"));
+    }
+
+    @Test
+    void testStreamMirrorsFluentString() {
+        String text = "  Ça va, Ελλάδα? Привет!  ";
+        assertEquals(FluentString.of(text).toSlug().get(), FluentStringStream.of(text).toSlug().collect());
+        assertEquals(FluentString.of(text).stripAccents().get(), FluentStringStream.of(text).stripAccents().collect());
+        assertEquals("ca-va-ellada-privet", FluentStringStream.of(text).toSlug().collect());
+    }
+}
@@ -0,0 +1,135 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.FluentStringParser;
+import com.platform.sdk.string.StringSlice;
+import com.platform.sdk.string.WordTokenizer;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Bytes allocated per call by the hot operations, against a declared budget. An
+ * operation is run until the JIT has compiled it, then measured over {@link #CALLS}
+ * calls with {@code com.sun.management.ThreadMXBean#getThreadAllocatedBytes}; the best
+ * of {@link #ROUNDS} rounds counts, so a stray allocation by the JVM itself does not
+ * fail the build but one per call does. Skipped on JVMs that cannot count allocations.
+ * <p>
+ * Raise a budget only together with the change that needs it, and say why there.
+ */
+class AllocationBudgetTest {
+
+    private static final int WARMUP_CALLS = 50_000;
+    private static final int CALLS = 10_000;
+    private static final int ROUNDS = 5;
+
+    private static final String TEXT = "  The quick brown fox, 42 times, jumps over the lazy dog!  ";
+    private static final String BLANK = " \t\r\n   \t ";
+
+    private static com.sun.management.ThreadMXBean threads;
+    private static long overhead;
+    private static volatile int sink;
+
+    @BeforeAll
+    static void allocationCounting() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof com.sun.management.ThreadMXBean, "JVM cannot count allocated bytes");
+        threads = (com.sun.management.ThreadMXBean) bean;
+        assumeTrue(threads.isThreadAllocatedMemorySupported(), "JVM cannot count allocated bytes");
+        threads.setThreadAllocatedMemoryEnabled(true);
+        overhead = Long.MAX_VALUE;
+        for (int i = 0; i < 16; i++) {
+            long before = allocatedBytes();
+            overhead = Math.min(overhead, allocatedBytes() - before);
+        }
+    }
+
+    @Test
+    void testFluentStringWordCount() {
+        FluentString value = FluentString.of(TEXT);
+        assertBudget("FluentString.wordCount", 0, value::wordCount);
+    }
+
+    @Test
+    void testFluentStringCountOccurrences() {
+        FluentString value = FluentString.of(TEXT);
+        assertBudget("FluentString.countOccurrences", 0, () -> value.countOccurrences("o"));
+    }
+
+    @Test
+    void testFluentStringIsBlank() {
+        FluentString blank = FluentString.of(BLANK);
+        FluentString text = FluentString.of(TEXT);
+        assertBudget("FluentString.isBlank (blank)", 0, () -> blank.isBlank() ? 1 : 0);
+        assertBudget("FluentString.isBlank (text)", 0, () -> text.isBlank() ? 1 : 0);
+        assertBudget("FluentString.hasOnlyWhitespace", 0, () -> blank.hasOnlyWhitespace() ? 1 : 0);
+    }
+
+    @Test
+    void testFluentStringPredicatesAndCounts() {
+        FluentString value = FluentString.of(TEXT);
+        assertBudget("FluentString.charCount", 0, value::charCount);
+        assertBudget("FluentString.contains", 0, () -> value.contains("lazy") ? 1 : 0);
+        assertBudget("FluentString.isAlphaNumeric", 0, () -> value.isAlphaNumeric() ? 1 : 0);
+        assertBudget("FluentString.isAscii", 0, () -> value.isAscii() ? 1 : 0);
+    }
+
+    @Test
+    void testParserToIntOnValidInput() {
+        FluentStringParser parser = new FluentStringParser("  123456 ");
+        assertBudget("FluentStringParser.toInt(default)", 0, () -> parser.toInt(-1));
+    }
+
+    @Test
+    void testParserToIntOnInvalidInput() {
+        FluentStringParser parser = new FluentStringParser("123x456");
+        assertBudget("FluentStringParser.toInt(default), invalid", 0, () -> parser.toInt(-1));
+    }
+
+    @Test
+    void testStreamCountsOnKeptResult() {
+        FluentStringStream stream = FluentStringStream.of(TEXT).trim().toLowerCase();
+        stream.collect();
+        assertBudget("FluentStringStream.wordCount", 0, stream::wordCount);
+        assertBudget("FluentStringStream.countOccurrences", 0, () -> stream.countOccurrences("o"));
+        assertBudget("FluentStringStream.isBlank", 0, () -> stream.isBlank() ? 1 : 0);
+    }
+
+    @Test
+    void testTokenizerAndSlices() {
+        StringSlice slice = StringSlice.of(TEXT, 2, TEXT.length() - 2);
+        assertBudget("WordTokenizer.count", 0, () -> WordTokenizer.count(TEXT));
+        assertBudget("WordTokenizer.count (slice)", 0, () -> WordTokenizer.count(slice));
+        assertBudget("StringSlice.contentEquals", 0, () -> slice.contentEquals(TEXT) ? 1 : 0);
+    }
+
+    private static void assertBudget(String operation, long bytesPerCall, IntSupplier call) {
+        int result = 0;
+        for (int i = 0; i < WARMUP_CALLS; i++) {
+            result += call.getAsInt();
+        }
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long before = allocatedBytes();
+            for (int i = 0; i < CALLS; i++) {
+                result += call.getAsInt();
+            }
+            best = Math.min(best, Math.max(0, allocatedBytes() - before - overhead));
+        }
+        sink = result;
+        long measured = best / CALLS;
+        assertTrue(measured <= bytesPerCall, operation + " allocates " + measured + " bytes per call, over its budget of "
+                + bytesPerCall + " (" + best + " bytes in " + CALLS + " calls)");
+    }
+
+    private static long allocatedBytes() {
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,102 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentStringPlugin;
+import com.platform.sdk.string.stream.FluentPipeline;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncExecutionTest {
+
+    /** Stands in for a lookup in a slow cache or file. */
+    private static final Map<String, String> COUNTRIES = new ConcurrentHashMap<>();
+
+    static {
+        COUNTRIES.put("de", "Germany");
+        COUNTRIES.put("fr", "France");
+    }
+
+    private static final FluentStringPlugin LOOKUP = code -> {
+        try {
+            Thread.sleep(20);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return COUNTRIES.getOrDefault(code, "unknown");
+    };
+
+    @Test
+    void testCollectAsync() throws Exception {
+        CompletableFuture<String> country = FluentStringStream.of("  DE ").trim().toLowerCase().plugin(LOOKUP)
+                .collectAsync();
+        assertEquals("Germany!", country.thenApply(name -> name + "!").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testCollectAsyncComposes() throws Exception {
+        FluentStringStream code = FluentStringStream.of(" FR").trim().toLowerCase();
+        String label = code.collectAsync()
+                .thenCompose(c -> FluentStringStream.of(c).plugin(LOOKUP).toUpperCase().collectAsync())
+                .thenCombine(FluentStringStream.of("de").plugin(LOOKUP).collectAsync(), (a, b) -> a + "/" + b)
+                .get(5, TimeUnit.SECONDS);
+        assertEquals("FRANCE/Germany", label);
+    }
+
+    @Test
+    void testApplyAllAsyncRunsBlockingStepsConcurrently() throws Exception {
+        FluentPipeline pipeline = FluentPipeline.define(s -> s.trim().toLowerCase().plugin(LOOKUP));
+        List<String> inputs = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            inputs.add(i % 3 == 0 ? " DE " : i % 3 == 1 ? "fr" : "xx");
+            expected.add(i % 3 == 0 ? "Germany" : i % 3 == 1 ? "France" : "unknown");
+        }
+        long begin = System.nanoTime();
+        assertEquals(expected, pipeline.applyAllAsync(inputs).get(30, TimeUnit.SECONDS));
+        // 200 lookups of 20 ms each take 4 s one after another
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - begin) < 3_000);
+    }
+
+    @Test
+    void testCallerProvidedExecutor() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            FluentPipeline pipeline = FluentPipeline.define(s -> s.trim().plugin(LOOKUP));
+            assertEquals("France", pipeline.applyAsync(" fr ", executor).get(5, TimeUnit.SECONDS));
+            assertEquals("France", FluentStringStream.of("fr").plugin(LOOKUP).collectAsync(executor).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testFailurePropagates() {
+        FluentPipeline pipeline = FluentPipeline.define(s -> s.map(v -> {
+            if (v.isEmpty()) throw new IllegalStateException("empty value");
+            return v;
+        }));
+        List<String> inputs = new ArrayList<>();
+        inputs.add("a");
+        inputs.add("");
+        CompletionException e = assertThrows(CompletionException.class, () -> pipeline.applyAllAsync(inputs).join());
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void testRejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> FluentStringStream.of("a").plugin(null));
+        assertThrows(IllegalArgumentException.class, () -> FluentStringStream.of("a").collectAsync(null));
+        assertThrows(IllegalArgumentException.class, () -> FluentPipeline.define(s -> s).applyAsync("a", null));
+    }
+}
@@ -0,0 +1,86 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.CaseFormat;
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaseFormatTest {
+
+    @Test
+    void testEveryFormatFromEveryFormat() {
+        String[] spellings = {"user account id", "user_account_id", "user-account-id", "userAccountId",
+                "UserAccountId", "USER_ACCOUNT_ID", "  User   Account\tID  "};
+        for (String spelling : spellings) {
+            assertEquals("user_account_id", CaseFormat.SNAKE.convert(spelling), spelling);
+            assertEquals("user-account-id", CaseFormat.KEBAB.convert(spelling), spelling);
+            assertEquals("userAccountId", CaseFormat.CAMEL.convert(spelling), spelling);
+            assertEquals("UserAccountId", CaseFormat.PASCAL.convert(spelling), spelling);
+            assertEquals("USER_ACCOUNT_ID", CaseFormat.CONSTANT.convert(spelling), spelling);
+        }
+    }
+
+    @Test
+    void testAcronymAndDigitBoundaries() {
+        assertEquals("xml_http_request", CaseFormat.SNAKE.convert("XMLHttpRequest"));
+        assertEquals("http_server", CaseFormat.SNAKE.convert("HTTPServer"));
+        assertEquals("parse_url", CaseFormat.SNAKE.convert("parseURL"));
+        assertEquals("utf_8_decoder", CaseFormat.SNAKE.convert("utf8Decoder"));
+        assertEquals("address_line_2", CaseFormat.SNAKE.convert("addressLine2"));
+        assertEquals("Sha256Hash", CaseFormat.PASCAL.convert("sha_256_hash"));
+        assertEquals("2nd_place", CaseFormat.SNAKE.convert("2nd place"));
+    }
+
+    @Test
+    void testSeparatorsAreTrimmedAndCollapsed() {
+        assertEquals("a_b", CaseFormat.SNAKE.convert("__a--b__"));
+        assertEquals("", CaseFormat.CAMEL.convert(" _- "));
+        assertEquals("", CaseFormat.SNAKE.convert(""));
+        assertEquals("hello,_world!", CaseFormat.SNAKE.convert("Hello, World!"));
+    }
+
+    @Test
+    void testNonAsciiLetters() {
+        assertEquals("école_supérieure", CaseFormat.SNAKE.convert("ÉcoleSupérieure"));
+        assertEquals("ИМЯ_ПОЛЯ", CaseFormat.CONSTANT.convert("имяПоля"));
+        assertEquals("straßeName", CaseFormat.CAMEL.convert("Straße name"));
+    }
+
+    @Test
+    void testTurkishDefaultLocaleKeepsStringCaseMapping() {
+        Locale saved = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            assertEquals("TITLE".toLowerCase() + "_" + "ID".toLowerCase(), CaseFormat.SNAKE.convert("TITLE_ID"));
+            assertEquals("title".toUpperCase(), CaseFormat.CONSTANT.convert("title"));
+        } finally {
+            Locale.setDefault(saved);
+        }
+    }
+
+    @Test
+    void testUnchangedInputIsReturnedAsIs() {
+        String snake = "already_snake_case";
+        assertSame(snake, CaseFormat.SNAKE.convert(snake));
+        String camel = "alreadyCamel";
+        assertSame(camel, CaseFormat.CAMEL.convert(camel));
+    }
+
+    @Test
+    void testFluentStringAndStreamUseSameEngine() {
+        String text = " parseHTTPResponse_v2 ";
+        FluentString fs = FluentString.of(text);
+        assertEquals("parse_http_response_v_2", fs.snakeCase().get());
+        assertEquals(fs.snakeCase().get(), FluentStringStream.of(text).snakeCase().collect());
+        assertEquals(fs.kebabCase().get(), FluentStringStream.of(text).kebabCase().collect());
+        assertEquals(fs.camelCase().get(), FluentStringStream.of(text).camelCase().collect());
+        assertEquals("ParseHttpResponseV2", fs.pascalCase().get());
+        assertEquals(fs.pascalCase().get(), FluentStringStream.of(text).pascalCase().collect());
+        assertEquals("PARSE_HTTP_RESPONSE_V_2", FluentStringStream.of(text).constantCase().collect());
+        assertEquals(fs.constantCase().get(), FluentStringStream.of(text).constantCase().collect());
+    }
+}
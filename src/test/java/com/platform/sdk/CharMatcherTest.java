@@ -0,0 +1,80 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.CharMatcher;
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharMatcherTest {
+
+    private static final String MIXED = "  Héllo,\tWörld! 42 _x-y € \n";
+
+    @Test
+    void testMatchesRegexEquivalents() {
+        assertEquals(MIXED.replaceAll("\\d", ""), CharMatcher.asciiDigit().removeFrom(MIXED));
+        assertEquals(MIXED.replaceAll("[\\p{Punct}]", ""), CharMatcher.asciiPunctuation().removeFrom(MIXED));
+        assertEquals(MIXED.replaceAll("\\s+", ""), CharMatcher.asciiWhitespace().removeFrom(MIXED));
+        assertEquals(MIXED.replaceAll("[^a-zA-Z0-9]", ""), CharMatcher.asciiLetterOrDigit().retainFrom(MIXED));
+    }
+
+    @Test
+    void testReturnsSameInstanceWhenUnchanged() {
+        String clean = "alreadyClean";
+        assertSame(clean, CharMatcher.asciiDigit().removeFrom(clean));
+        assertSame(clean, CharMatcher.asciiLetter().retainFrom(clean));
+
+        FluentString fs = FluentString.of(clean);
+        assertSame(fs, fs.removeDigits());
+        assertSame(fs, fs.removeNonAlphaNumeric());
+    }
+
+    @Test
+    void testComposition() {
+        CharMatcher vowels = CharMatcher.anyOf("aeioué");
+        CharMatcher letters = CharMatcher.asciiLetter().or(CharMatcher.is('é'));
+        CharMatcher consonants = letters.and(vowels.negate());
+
+        assertEquals("hll", consonants.retainFrom("héllo"));
+        assertEquals("éo", letters.and(vowels).retainFrom("héllo"));
+        assertTrue(CharMatcher.noneOf("xyz").matches('€'));
+        assertFalse(CharMatcher.noneOf("xyz€").matches('€'));
+        assertEquals(3, CharMatcher.inRange('a', 'c').countIn("abcd"));
+    }
+
+    @Test
+    void testPrecomputedMatchesPredicate() {
+        CharMatcher predicate = CharMatcher.forPredicate(Character::isLetter);
+        CharMatcher table = predicate.precomputed();
+        for (char c : MIXED.toCharArray()) {
+            assertEquals(predicate.matches(c), table.matches(c));
+        }
+        assertTrue(CharMatcher.whitespace().matches(' '));
+    }
+
+    @Test
+    void testMatchesAllAndCount() {
+        assertTrue(CharMatcher.asciiDigit().matchesAll("0123"));
+        assertFalse(CharMatcher.asciiDigit().matchesAll("01a3"));
+        assertEquals(2, CharMatcher.asciiWhitespace().countIn("a b\tc"));
+    }
+
+    @Test
+    void testKeepOnly() {
+        assertEquals("aa€", FluentString.of("abca€d").keepOnly("a€").get());
+        assertEquals("", FluentString.of("abc").keepOnly("").get());
+        assertEquals("lll", FluentStringStream.of("hello world").keepOnly("l").collect());
+    }
+
+    @Test
+    void testCharacterChecks() {
+        assertTrue(FluentString.of("abcXYZ").isAlpha());
+        assertFalse(FluentString.of("").isAlpha());
+        assertTrue(FluentString.of("0042").isNumeric());
+        assertFalse(FluentStringStream.of("42a").isNumeric());
+        assertTrue(FluentStringStream.of("a42").isAlphaNumeric());
+        assertEquals("hello world", FluentString.of(" hello, world! ").clean().get());
+        assertEquals("helloworld", FluentStringStream.of(" hello\tworld\n").removeWhitespace().collect());
+    }
+}
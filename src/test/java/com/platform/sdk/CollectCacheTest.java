@@ -0,0 +1,69 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CollectCacheTest {
+
+    @Test
+    void testInspectionMethodsRunPipelineOnce() {
+        AtomicInteger runs = new AtomicInteger();
+        FluentStringStream stream = FluentStringStream.of("  Hello World  ")
+                .trim()
+                .map(s -> {
+                    runs.incrementAndGet();
+                    return s + "!";
+                });
+        stream.validate(s -> !s.isEmpty(), "empty")
+                .peek(s -> assertEquals("Hello World!", s));
+        assertEquals("Hello World!", stream.toString());
+        assertFalse(stream.isEmpty());
+        assertEquals(2, stream.wordCount());
+        assertEquals(1, runs.get());
+        assertEquals(4, stream.cacheHits());
+    }
+
+    @Test
+    void testAppendedStepsResumeFromKeptResult() {
+        AtomicInteger first = new AtomicInteger();
+        AtomicInteger second = new AtomicInteger();
+        FluentStringStream stream = FluentStringStream.of("abc").map(s -> {
+            first.incrementAndGet();
+            return s + "d";
+        });
+        assertEquals("abcd", stream.collect());
+        stream.map(s -> {
+            second.incrementAndGet();
+            return s.toUpperCase();
+        }).append("!");
+        assertEquals("ABCD!", stream.collect());
+        assertEquals(1, first.get());
+        assertEquals(1, second.get());
+        assertEquals(0, stream.cacheHits());
+    }
+
+    @Test
+    void testResumeMatchesFreshStream() {
+        StringBuilder source = new StringBuilder();
+        for (int i = 0; i < 100; i++) source.append(" Chunk ").append(i).append(", ");
+        FluentStringStream stream = FluentStringStream.of(source.toString()).trim().toLowerCase();
+        stream.collect();
+        stream.removeDigits().removePunctuation().withSuffix("-end");
+        String expected = FluentStringStream.of(source.toString())
+                .trim().toLowerCase().removeDigits().removePunctuation().withSuffix("-end").collect();
+        assertEquals(expected, stream.collect());
+        assertEquals(expected, stream.withFusion(false).collect());
+        assertEquals(1, stream.cacheHits());
+    }
+
+    @Test
+    void testStreamWithoutStepsReturnsSource() {
+        FluentStringStream stream = FluentStringStream.of("value");
+        assertEquals("value", stream.collect());
+        assertEquals(1, stream.cacheHits());
+    }
+}
@@ -0,0 +1,96 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.stream.FluentPipeline;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FluentPipelineTest {
+
+    private static final FluentPipeline SLUG_KEY = FluentPipeline.define(s -> s
+            .trim().removeDigits().removePunctuation().toLowerCase().toSlug().withSuffix("-key"));
+
+    @Test
+    void testApplyMatchesStream() {
+        String[] inputs = {"Java  String  Stream     API 2025!!", "  Crème Brûlée  ", "", "key"};
+        for (String input : inputs) {
+            String expected = FluentStringStream.of(input)
+                    .trim().removeDigits().removePunctuation().toLowerCase().toSlug().withSuffix("-key").collect();
+            assertEquals(expected, SLUG_KEY.apply(input), input);
+        }
+        assertEquals("-key", SLUG_KEY.apply(null));
+    }
+
+    @Test
+    void testApplyAll() {
+        List<String> inputs = Arrays.asList(" One 1 ", "Two, too", "THREE!");
+        assertEquals(Arrays.asList("one-key", "two-too-key", "three-key"), SLUG_KEY.applyAll(inputs));
+
+        String[] out = new String[4];
+        assertSame(out, SLUG_KEY.applyAll(inputs.toArray(new String[0]), out));
+        assertArrayEquals(new String[]{"one-key", "two-too-key", "three-key", null}, out);
+        assertThrows(IllegalArgumentException.class, () -> SLUG_KEY.applyAll(new String[2], new String[1]));
+    }
+
+    @Test
+    void testAsFunction() {
+        Function<String, String> function = SLUG_KEY.asFunction();
+        assertSame(function, SLUG_KEY.asFunction());
+        assertEquals("a-b-key", function.apply("A b"));
+    }
+
+    @Test
+    void testToPipelineSnapshotsSteps() {
+        FluentStringStream stream = FluentStringStream.of("source is ignored").trim().toUpperCase();
+        FluentPipeline pipeline = stream.toPipeline();
+        stream.append("!");
+        assertEquals("ABC", pipeline.apply(" abc "));
+        assertEquals(2, pipeline.size());
+        assertEquals("SOURCE IS IGNORED!", stream.collect());
+    }
+
+    @Test
+    void testMapStepsAreKept() {
+        FluentPipeline pipeline = FluentPipeline.define(s -> s.trim().map(v -> "<" + v + ">").toUpperCase());
+        assertEquals("<X Y>", pipeline.apply("  x y "));
+    }
+
+    @Test
+    void testSharedAcrossThreads() throws Exception {
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            inputs.add("  Record " + i + ": Ünïcode & ASCII, mixed " + (i % 7 == 0 ? "ÉTÉ" : "text") + "  ");
+        }
+        List<String> expected = new ArrayList<>();
+        for (String input : inputs) {
+            expected.add(FluentStringStream.of(input).withFusion(false)
+                    .trim().removeDigits().removePunctuation().toLowerCase().toSlug().withSuffix("-key").collect());
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> SLUG_KEY.applyAll(inputs)));
+            }
+            for (Future<List<String>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testDefineRejectsNull() {
+        assertThrows(IllegalArgumentException.class, () -> FluentPipeline.define(null));
+    }
+}
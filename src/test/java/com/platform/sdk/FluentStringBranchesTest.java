@@ -0,0 +1,76 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.stream.FluentStringBranches;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FluentStringBranchesTest {
+
+    @Test
+    void testBranchesShareEvaluatedPrefix() {
+        AtomicInteger prefixRuns = new AtomicInteger();
+        FluentStringBranches branches = FluentStringStream.of("  Crème Brûlée, Recipe 2  ")
+                .trim().normalize().stripAccents()
+                .map(s -> {
+                    prefixRuns.incrementAndGet();
+                    return s;
+                })
+                .branch(s -> s.toSlug(), s -> s.toLowerCase().removePunctuation(), s -> s.toUpperCase());
+        assertEquals(3, branches.size());
+        assertEquals(Arrays.asList("creme-brulee-recipe-2", "creme brulee recipe 2", "CREME BRULEE, RECIPE 2"),
+                branches.collectAll());
+        assertEquals(1, prefixRuns.get());
+    }
+
+    @Test
+    void testBranchesMatchDuplicatedChains() {
+        String input = "  Hello,   World 42  ";
+        FluentStringBranches branches = FluentStringStream.of(input).trim().removeDigits()
+                .branch(s -> s.removePunctuation().kebabCase(), s -> s.append("!").reverse());
+        assertEquals(FluentStringStream.of(input).trim().removeDigits().removePunctuation().kebabCase().collect(),
+                branches.get(0).collect());
+        assertEquals(FluentStringStream.of(input).trim().removeDigits().append("!").reverse().collect(),
+                branches.get(1).collect());
+    }
+
+    @Test
+    void testForkIsIndependentOfParent() {
+        AtomicInteger prefixRuns = new AtomicInteger();
+        FluentStringStream parent = FluentStringStream.of("abc").map(s -> {
+            prefixRuns.incrementAndGet();
+            return s + "-";
+        });
+        FluentStringStream fork = parent.fork().append("fork");
+        parent.append("parent");
+        assertEquals("abc-parent", parent.collect());
+        assertEquals("abc-fork", fork.collect());
+        // the parent moved past the shared steps before the fork collected, so the fork ran them itself
+        assertEquals(2, prefixRuns.get());
+    }
+
+    @Test
+    void testForkOfCollectedStreamStartsFromItsResult() {
+        AtomicInteger prefixRuns = new AtomicInteger();
+        FluentStringStream parent = FluentStringStream.of("x").map(s -> {
+            prefixRuns.incrementAndGet();
+            return s + s;
+        });
+        assertEquals("xx", parent.collect());
+        FluentStringStream fork = parent.fork().fork().toUpperCase();
+        assertEquals("XX", fork.collect());
+        assertEquals("xx", parent.collect());
+        assertEquals(1, prefixRuns.get());
+    }
+
+    @Test
+    void testBranchRejectsNull() {
+        FluentStringStream stream = FluentStringStream.of("a");
+        assertThrows(IllegalArgumentException.class, () -> stream.branch(s -> s, null));
+        assertThrows(IllegalArgumentException.class, () -> stream.branch(s -> null));
+    }
+}
@@ -0,0 +1,62 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class FluentStringLightweightTest {
+
+    private static String payload(int size) {
+        StringBuilder sb = new StringBuilder("id=42;");
+        while (sb.length() < size) sb.append("filler ");
+        return sb.toString();
+    }
+
+    @Test
+    void testBehavesLikeRegularInstance() {
+        FluentString light = FluentString.ofLightweight("  Hello World  ");
+        FluentString regular = FluentString.of("  Hello World  ");
+
+        assertEquals(regular.trim().toUpperCase().get(), light.trim().toUpperCase().get());
+        assertEquals("  Hello World  ", light.trim().input());
+        assertTrue(light.trim().isChanged());
+        assertFalse(light.isChanged());
+        assertTrue(light.trim().isLightweight());
+        assertTrue(light.split(" ").get(2).isLightweight());
+    }
+
+    @Test
+    void testTokensDoNotRetainInput() {
+        String input = payload(100_000);
+        FluentString heavyToken = FluentString.of(input).substring(0, 5);
+        FluentString lightToken = FluentString.ofLightweight(input).substring(0, 5);
+
+        assertTrue(heavyToken.retainedSizeEstimate() > 100_000);
+        assertTrue(lightToken.retainedSizeEstimate() < 1_000);
+        assertEquals(lightToken.retainedSizeEstimate(), FluentString.of(input).substring(0, 5).lightweight().retainedSizeEstimate());
+    }
+
+    @Test
+    void testInputCanBeCollected() throws InterruptedException {
+        List<FluentString> tokens = FluentString.ofLightweight(payload(1_000_000)).substring(0, 6).split("=");
+        FluentString token = tokens.get(1);
+
+        for (int i = 0; i < 20 && !token.input().isEmpty(); i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assumeTrue(token.input().isEmpty(), "input was not collected by this JVM");
+        assertEquals("42;", token.get());
+        assertTrue(token.isChanged());
+    }
+
+    @Test
+    void testRetainedSizeEstimateOfRope() {
+        FluentString rope = FluentString.ofRope("").append(payload(10_000)).repeat(100);
+        assertTrue(rope.retainedSizeEstimate() < 50_000);
+    }
+}
@@ -17,6 +17,22 @@ public class FluentStringParserTest {
         assertEquals(Optional.empty(), new FluentStringParser("abc").toInt());
     }
 
+    @Test
+    public void testToIntWithDefaultMatchesParseInt() {
+        String[] inputs = {"0", "-0", "+7", " 42 ", "2147483647", "-2147483648", "2147483648", "-2147483649",
+                "99999999999", "", "-", "+", "1.5", "1_000", "0x10", "١٢٣", "12a", "--1"};
+        for (String input : inputs) {
+            Integer expected;
+            try {
+                expected = Integer.parseInt(input.trim());
+            } catch (NumberFormatException e) {
+                expected = null;
+            }
+            assertEquals(expected == null ? -1 : expected, new FluentStringParser(input).toInt(-1), input);
+            assertEquals(Optional.ofNullable(expected), new FluentStringParser(input).toInt(), input);
+        }
+    }
+
     @Test
     public void testToDouble() {
         assertEquals(Optional.of(123.45), new FluentStringParser("123.45").toDouble());
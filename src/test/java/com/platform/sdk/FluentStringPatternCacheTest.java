@@ -0,0 +1,120 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.FluentStringParser;
+import com.platform.sdk.string.FluentStringPatternCache;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FluentStringPatternCacheTest {
+
+    @BeforeEach
+    void setUp() {
+        FluentStringPatternCache.clear();
+        FluentStringPatternCache.resetStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        FluentStringPatternCache.setMaxSize(FluentStringPatternCache.DEFAULT_MAX_SIZE);
+    }
+
+    @Test
+    void testSameRegexIsCompiledOnce() {
+        Pattern first = FluentStringPatternCache.get("[a-z]+\\d");
+        Pattern second = FluentStringPatternCache.get("[a-z]+\\d");
+
+        assertSame(first, second);
+        assertEquals(1, FluentStringPatternCache.missCount());
+        assertEquals(1, FluentStringPatternCache.hitCount());
+    }
+
+    @Test
+    void testLeastRecentlyUsedPatternIsEvicted() {
+        FluentStringPatternCache.setMaxSize(2);
+        Pattern a = FluentStringPatternCache.get("a");
+        FluentStringPatternCache.get("b");
+        FluentStringPatternCache.get("a");
+        FluentStringPatternCache.get("c");
+
+        assertEquals(2, FluentStringPatternCache.size());
+        assertEquals(1, FluentStringPatternCache.evictionCount());
+        assertSame(a, FluentStringPatternCache.get("a"));
+    }
+
+    @Test
+    void testFullCacheEvictsOldestEighthAtOnce() {
+        FluentStringPatternCache.setMaxSize(16);
+        Pattern kept = FluentStringPatternCache.get("p0");
+        for (int i = 1; i < 16; i++) {
+            FluentStringPatternCache.get("p" + i);
+        }
+        FluentStringPatternCache.get("p0");
+        FluentStringPatternCache.get("p16");
+
+        assertEquals(14, FluentStringPatternCache.size());
+        assertEquals(3, FluentStringPatternCache.evictionCount());
+        assertSame(kept, FluentStringPatternCache.get("p0"));
+        long misses = FluentStringPatternCache.missCount();
+        FluentStringPatternCache.get("p1");
+        assertEquals(misses + 1, FluentStringPatternCache.missCount());
+    }
+
+    @Test
+    void testRegexMethodsGoThroughCache() {
+        FluentString fs = FluentString.of("id-42 id-7");
+        fs.countMatches("id-\\d+");
+        fs.extractAllMatches("id-\\d+");
+        fs.replaceAll("id-\\d+", "x");
+
+        assertEquals(1, FluentStringPatternCache.missCount());
+        assertEquals(2, FluentStringPatternCache.hitCount());
+    }
+
+    @Test
+    void testLiteralDelimitersSkipTheCache() {
+        assertEquals(Arrays.asList("a", "b", "c"), FluentStringStream.of("a,b,c").split(","));
+        assertEquals("b", FluentString.of("a|b").split("\\|").get(1).get());
+        assertEquals(2, new FluentStringParser("k=v;x=y").toMap(";", "=").orElseThrow(IllegalStateException::new).size());
+        assertEquals(0, FluentStringPatternCache.missCount());
+
+        assertEquals(Arrays.asList("a", "b"), FluentStringStream.of("a, b").split(",\\s*"));
+        assertEquals(1, FluentStringPatternCache.missCount());
+        assertArrayEquals("a|b".split("|"), FluentStringPatternCache.split("a|b", "|", 0));
+    }
+
+    @Test
+    void testPrecompiledPatternOverloads() {
+        Pattern digits = Pattern.compile("\\d+");
+        FluentString fs = FluentString.of("abc123def456");
+
+        assertEquals("abc#def#", fs.replaceAll(digits, "#").get());
+        assertEquals("abc#def456", fs.replaceFirst(digits, "#").get());
+        assertEquals("123", fs.extractFirstMatch(digits).orElse(""));
+        assertEquals(Arrays.asList("123", "456"), fs.extractAllMatches(digits));
+        assertEquals(2, fs.countMatches(digits));
+        assertTrue(FluentString.of("789").matches(digits));
+        assertEquals(0, FluentStringPatternCache.missCount());
+    }
+
+    @Test
+    void testStreamPrecompiledPatternOverloads() {
+        Pattern digits = Pattern.compile("\\d+");
+
+        assertEquals("a#b#", FluentStringStream.of("a1b22").replaceAll(digits, "#").collect());
+        assertEquals(2, FluentStringStream.of("a1b22").countMatches(digits));
+        assertEquals(Arrays.asList("a", "b"), FluentStringStream.of("a1b22").split(digits));
+    }
+
+    @Test
+    void testInvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> FluentStringPatternCache.setMaxSize(0));
+    }
+}
@@ -0,0 +1,59 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FluentStringRopeTest {
+
+    @Test
+    void testRopeChainMatchesFlatChain() {
+        FluentString flat = FluentString.of("core");
+        FluentString rope = FluentString.ofRope("core");
+        for (int i = 0; i < 2_000; i++) {
+            String piece = "<" + i + ">";
+            flat = i % 3 == 0 ? flat.prepend(piece) : flat.append(piece);
+            rope = i % 3 == 0 ? rope.prepend(piece) : rope.append(piece);
+        }
+        flat = flat.wrap("|").withPrefix("[").withSuffix("]").repeat(3);
+        rope = rope.wrap("|").withPrefix("[").withSuffix("]").repeat(3);
+
+        assertTrue(rope.isRopeMode());
+        assertEquals(flat.length(), rope.length());
+        assertEquals(flat.get(), rope.get());
+    }
+
+    @Test
+    void testWithPrefixAndSuffixAreNoOpsWhenPresent() {
+        FluentString rope = FluentString.ofRope("abc").append("def");
+        assertSame(rope, rope.withPrefix("ab"));
+        assertSame(rope, rope.withSuffix("ef"));
+        assertEquals("xabcdef", rope.withPrefix("x").get());
+    }
+
+    @Test
+    void testCharLevelOperationsFlattenAndKeepMode() {
+        FluentString rope = FluentString.ofRope("  hello").append(" world  ").trim().toUpperCase();
+        assertEquals("HELLO WORLD", rope.get());
+        assertTrue(rope.isRopeMode());
+        assertEquals("HELLO WORLD!", rope.append("!").get());
+    }
+
+    @Test
+    void testRepeatAndNullHandling() {
+        assertEquals("ababab", FluentString.ofRope("ab").repeat(3).get());
+        assertEquals("", FluentString.ofRope("ab").repeat(0).get());
+        assertEquals("ab", FluentString.ofRope("ab").append(null).prepend(null).get());
+        assertEquals("nullabnull", FluentString.ofRope("ab").wrap(null).get());
+        assertTrue(FluentString.ofRope("").append("").isEmpty());
+    }
+
+    @Test
+    void testInputIsPreserved() {
+        FluentString rope = FluentString.ofRope("seed").append("!");
+        assertEquals("seed", rope.input());
+        assertTrue(rope.isChanged());
+        assertFalse(FluentString.of("seed").isRopeMode());
+    }
+}
@@ -0,0 +1,139 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.FluentStringParser;
+import com.platform.sdk.string.FluentStringPatternCache;
+import com.platform.sdk.string.FluentTelemetry;
+import com.platform.sdk.string.MetricsRegistry;
+import com.platform.sdk.string.stream.FluentPipeline;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FluentTelemetryTest {
+
+    private RecordingRegistry registry;
+
+    @BeforeEach
+    void install() {
+        registry = new RecordingRegistry();
+        FluentTelemetry.setMetricsRegistry(registry);
+    }
+
+    @AfterEach
+    void uninstall() {
+        FluentTelemetry.setMetricsRegistry(null);
+        FluentTelemetry.setSlowOperationThreshold(Duration.ofMillis(10));
+        FluentTelemetry.setLargeInputThreshold(1 << 20);
+    }
+
+    @Test
+    void testOperationsRecordDurations() {
+        assertTrue(FluentTelemetry.enabled());
+        FluentString.of("a1b22c333").replaceAll("\\d+", "#");
+        assertEquals(3, FluentString.of("a1b22c333").countMatches("\\d+"));
+        FluentStringStream.of(" Hello ").trim().toLowerCase().collect();
+        FluentPipeline.define(s -> s.trim()).apply(" x ");
+
+        assertEquals(1, registry.records("fluentstring.operation.nanos.replaceAll"));
+        assertEquals(1, registry.records("fluentstring.operation.nanos.countMatches"));
+        assertEquals(1, registry.records("fluentstring.operation.nanos.collect"));
+        assertEquals(1, registry.records("fluentstring.operation.nanos.pipeline"));
+    }
+
+    @Test
+    void testSlowAndLargeThresholds() {
+        FluentString.of("abc").matches("[a-z]+");
+        assertEquals(0, registry.count("fluentstring.operation.slow"));
+        assertEquals(0, registry.count("fluentstring.input.large"));
+
+        FluentTelemetry.setSlowOperationThreshold(Duration.ZERO);
+        FluentTelemetry.setLargeInputThreshold(3);
+        FluentString.of("abc").matches("[a-z]+");
+        FluentString.of("ab").matches("[a-z]+");
+        assertEquals(2, registry.count("fluentstring.operation.slow"));
+        assertEquals(1, registry.count("fluentstring.input.large"));
+    }
+
+    @Test
+    void testPatternCacheMissesAndCompilations() {
+        String regex = "telemetry-" + System.nanoTime() + "\\w*";
+        FluentStringPatternCache.get(regex);
+        FluentStringPatternCache.get(regex);
+        assertEquals(1, registry.count("fluentstring.cache.miss.pattern"));
+        assertEquals(1, registry.records("fluentstring.regex.compile.nanos"));
+    }
+
+    @Test
+    void testParseFailures() {
+        assertFalse(new FluentStringParser("12x").toInt().isPresent());
+        assertFalse(new FluentStringParser("maybe").toBoolean().isPresent());
+        assertTrue(new FluentStringParser("12").toInt().isPresent());
+        assertEquals(1, registry.count("fluentstring.parse.failure.int"));
+        assertEquals(1, registry.count("fluentstring.parse.failure.boolean"));
+    }
+
+    @Test
+    void testParseFailureDoesNotReportInput() {
+        new FluentStringParser("secret-payload").toLong();
+        assertEquals(1, registry.count("fluentstring.parse.failure.long"));
+        assertTrue(registry.counters.keySet().stream().noneMatch(name -> name.contains("secret")));
+    }
+
+    @Test
+    void testNothingRecordedWithoutRegistry() {
+        FluentTelemetry.setMetricsRegistry(null);
+        new FluentStringParser("x").toLong();
+        FluentString.of("abc").replaceAll("b", "c");
+        assertTrue(registry.counters.isEmpty());
+        assertTrue(registry.histograms.isEmpty());
+    }
+
+    @Test
+    void testInvalidThresholds() {
+        assertThrows(IllegalArgumentException.class, () -> FluentTelemetry.setSlowOperationThreshold(null));
+        assertThrows(IllegalArgumentException.class, () -> FluentTelemetry.setSlowOperationThreshold(Duration.ofMillis(-1)));
+        assertThrows(IllegalArgumentException.class, () -> FluentTelemetry.setLargeInputThreshold(0));
+    }
+
+    private static final class RecordingRegistry implements MetricsRegistry {
+        final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+        final Map<String, List<Long>> histograms = new ConcurrentHashMap<>();
+
+        @Override
+        public Counter counter(String name) {
+            AtomicLong count = counters.computeIfAbsent(name, n -> new AtomicLong());
+            return count::addAndGet;
+        }
+
+        @Override
+        public Histogram histogram(String name) {
+            List<Long> values = histograms.computeIfAbsent(name, n -> new ArrayList<>());
+            return value -> {
+                synchronized (values) {
+                    values.add(value);
+                }
+            };
+        }
+
+        long count(String name) {
+            AtomicLong count = counters.get(name);
+            return count == null ? 0 : count.get();
+        }
+
+        int records(String name) {
+            List<Long> values = histograms.get(name);
+            return values == null ? 0 : values.size();
+        }
+    }
+}
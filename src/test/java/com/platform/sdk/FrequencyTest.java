@@ -0,0 +1,99 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.CharFrequency;
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.WordFrequency;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrequencyTest {
+
+    @Test
+    void testCharFrequencyLatin1AndWide() {
+        CharFrequency freq = CharFrequency.of("aäβaβ€a");
+        assertEquals(3, freq.get('a'));
+        assertEquals(1, freq.get('ä'));
+        assertEquals(2, freq.get('β'));
+        assertEquals(1, freq.get('€'));
+        assertEquals(0, freq.get('z'));
+        assertEquals(0, freq.get('ж'));
+        assertEquals(4, freq.distinct());
+        assertEquals(7, freq.total());
+        assertArrayEquals(new char[]{'a', 'β'}, freq.topN(2));
+    }
+
+    @Test
+    void testCharFrequencyKeepsFirstOccurrenceOrder() {
+        StringBuilder sb = new StringBuilder();
+        for (char c = 'Ā'; c < 'Ā' + 200; c++) sb.append(c).append('x');
+        CharFrequency freq = CharFrequency.of(sb);
+
+        StringBuilder order = new StringBuilder();
+        freq.forEach((c, count) -> order.append(c));
+        assertEquals(201, order.length());
+        assertEquals('Ā', order.charAt(0));
+        assertEquals('x', order.charAt(1));
+        assertEquals(200, freq.get('x'));
+        assertEquals(1, freq.get((char) ('Ā' + 199)));
+    }
+
+    @Test
+    void testCharFrequencyMatchesMapAdapter() {
+        String text = "Hello, Wörld! ΑΒΓ αβγ";
+        Map<Character, Integer> expected = new LinkedHashMap<>();
+        for (char c : text.toLowerCase().toCharArray()) expected.merge(c, 1, Integer::sum);
+
+        assertEquals(expected, FluentString.of(text).getCharFrequencyIgnoreCase());
+        assertEquals(Arrays.asList(expected.keySet().toArray()),
+                Arrays.asList(FluentString.of(text).getCharFrequencyIgnoreCase().keySet().toArray()));
+        assertEquals(expected, FluentStringStream.of(text).getCharFrequencyIgnoreCase());
+    }
+
+    @Test
+    void testWordFrequency() {
+        WordFrequency freq = WordFrequency.of("to be or not to be to");
+        assertEquals(3, freq.get("to"));
+        assertEquals(2, freq.get("be"));
+        assertEquals(0, freq.get("maybe"));
+        assertEquals(4, freq.distinct());
+        assertEquals(7, freq.total());
+        assertEquals(Arrays.asList("to", "be", "or"), freq.topN(3));
+    }
+
+    @Test
+    void testWordFrequencyIgnoreCase() {
+        WordFrequency ascii = WordFrequency.ofIgnoreCase("Hello world HELLO hello");
+        assertEquals(3, ascii.get("hello"));
+        assertEquals(0, ascii.get("Hello"));
+
+        WordFrequency unicode = WordFrequency.ofIgnoreCase("Über über ÜBER");
+        assertEquals(3, unicode.get("über"));
+        assertEquals("{über=3}", unicode.toString());
+    }
+
+    @Test
+    void testWordFrequencyGrowsPastInitialCapacity() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1_000; i++) sb.append("w").append(i % 300).append(' ');
+        WordFrequency freq = FluentString.of(sb.toString()).wordFrequency();
+        assertEquals(300, freq.distinct());
+        assertEquals(4, freq.get("w0"));
+        assertEquals(3, freq.get("w299"));
+        assertEquals("w0", freq.toMap().keySet().iterator().next());
+    }
+
+    @Test
+    void testStreamMatchesFluentString() {
+        String text = "One two ONE three two one";
+        assertEquals(FluentString.of(text).getWordFrequencyIgnoreCase(),
+                FluentStringStream.of(text).getWordFrequencyIgnoreCase());
+        assertEquals(FluentString.of(text).wordFrequency().topN(2),
+                FluentStringStream.of(text).wordFrequency().topN(2));
+    }
+}
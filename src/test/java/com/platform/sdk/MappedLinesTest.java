@@ -0,0 +1,106 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.stream.FluentStringStream;
+import com.platform.sdk.string.stream.MappedLines;
+import com.platform.sdk.string.stream.StreamingPipeline;
+import com.platform.sdk.string.stream.TextStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedLinesTest {
+
+    private static final String[] WORDS = {"  Alpha", "beta ", "GAMMA", "Crème", "brûlée", "Über", "x2", "👍", "end."};
+
+    private static String text(int chars) {
+        Random random = new Random(5);
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < chars) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+            int gap = random.nextInt(8);
+            sb.append(gap == 0 ? "\r\n" : gap == 1 ? "\n" : gap == 2 ? "\n\n" : " ");
+        }
+        return sb.toString();
+    }
+
+    private static Path write(Path dir, String text) throws IOException {
+        Path file = dir.resolve("in.txt");
+        Files.write(file, text.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    @Test
+    void testTransferMatchesStreamingLines(@TempDir Path dir) throws IOException {
+        String text = text(200_000);
+        Path file = write(dir, text);
+        StringWriter expected = new StringWriter();
+        StreamingPipeline.lines(s -> s.trim().stripAccents().toLowerCase()).transfer(new StringReader(text), expected);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            MappedLines lines = FluentStringStream.ofFile(file, StandardCharsets.UTF_8)
+                    .withSteps(s -> s.trim().stripAccents().toLowerCase())
+                    .withChunkSize(1 << 10)
+                    .withPool(pool);
+            StringWriter out = new StringWriter();
+            assertEquals(expected.toString().length(), lines.transfer(out));
+            assertEquals(expected.toString(), out.toString());
+
+            Path target = dir.resolve("out.txt");
+            lines.withChunkSize(MappedLines.DEFAULT_CHUNK_SIZE).transfer(target);
+            assertEquals(expected.toString(), new String(Files.readAllBytes(target), StandardCharsets.UTF_8));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testStatsMatchStreamingLines(@TempDir Path dir) throws IOException {
+        String text = text(100_000);
+        Path file = write(dir, text);
+        TextStats expected = StreamingPipeline.lines(s -> s.trim().toLowerCase()).stats(new StringReader(text));
+        TextStats stats = FluentStringStream.ofFile(file, StandardCharsets.UTF_8)
+                .withSteps(s -> s.trim().toLowerCase()).withChunkSize(1 << 10).stats();
+        assertEquals(expected.length(), stats.length());
+        assertEquals(expected.lineCount(), stats.lineCount());
+        assertEquals(expected.wordCount(), stats.wordCount());
+        assertEquals(expected.charFrequency().toMap(), stats.charFrequency().toMap());
+        assertEquals(expected.getWordFrequencyIgnoreCase(), stats.getWordFrequencyIgnoreCase());
+    }
+
+    @Test
+    void testSmallAndEmptyFiles(@TempDir Path dir) throws IOException {
+        StringWriter out = new StringWriter();
+        FluentStringStream.ofFile(write(dir, " a \n b"), StandardCharsets.UTF_8).withSteps(s -> s.trim()).transfer(out);
+        assertEquals("a\nb", out.toString());
+
+        Path empty = write(dir, "");
+        assertEquals(0, FluentStringStream.ofFile(empty, StandardCharsets.UTF_8).transfer(new StringWriter()));
+        assertEquals(0, FluentStringStream.ofFile(empty, StandardCharsets.UTF_8).stats().wordCount());
+    }
+
+    @Test
+    void testMalformedInputFails(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("bad.txt");
+        Files.write(file, new byte[]{'o', 'k', '\n', (byte) 0xC3, '\n'});
+        assertThrows(IOException.class, () -> FluentStringStream.ofFile(file, StandardCharsets.UTF_8).transfer(new StringWriter()));
+    }
+
+    @Test
+    void testRejectsInvalidSettings(@TempDir Path dir) {
+        assertThrows(IllegalArgumentException.class, () -> FluentStringStream.ofFile(dir, StandardCharsets.UTF_16));
+        assertThrows(IllegalArgumentException.class, () -> FluentStringStream.ofFile(null, StandardCharsets.UTF_8));
+        assertThrows(IllegalArgumentException.class, () -> MappedLines.of(dir, StandardCharsets.UTF_8).withChunkSize(10));
+        assertThrows(IllegalArgumentException.class, () -> MappedLines.of(dir, StandardCharsets.UTF_8).withPool(null));
+    }
+}
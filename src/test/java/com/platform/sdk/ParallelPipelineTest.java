@@ -0,0 +1,98 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.stream.FluentPipeline;
+import com.platform.sdk.string.stream.ParallelPipeline;
+import com.platform.sdk.string.stream.ParallelPipeline.ErrorPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelPipelineTest {
+
+    private static final FluentPipeline NORMALIZE = FluentPipeline.define(s -> s
+            .trim().stripAccents().removePunctuation().toLowerCase().replace(" ", "_").withPrefix("k_"));
+
+    /** Fails for every value containing "13". */
+    private static final FluentPipeline FLAKY = FluentPipeline.define(s -> s.trim().map(v -> {
+        if (v.contains("13")) throw new IllegalStateException("unlucky " + v);
+        return v.toUpperCase();
+    }));
+
+    private static List<String> inputs(int count) {
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            inputs.add("  Record " + i + ": Crème Brûlée, " + (i % 3 == 0 ? "ÉTÉ" : "text") + "  ");
+        }
+        return inputs;
+    }
+
+    @Test
+    void testMatchesSequentialInOrder() {
+        List<String> inputs = inputs(10_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertEquals(NORMALIZE.applyAll(inputs), NORMALIZE.parallel().withPool(pool).applyAll(inputs));
+            assertEquals(NORMALIZE.applyAll(inputs), NORMALIZE.parallel().applyAll(inputs));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testCallerProvidedExecutorService() {
+        List<String> inputs = inputs(5_000);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            String[] results = NORMALIZE.parallel().withPool(executor).applyAll(inputs.toArray(new String[0]));
+            assertArrayEquals(NORMALIZE.applyAll(inputs).toArray(new String[0]), results);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testSmallBatchRunsSequentially() {
+        assertArrayEquals(new String[]{"k_a_b", "k_"}, NORMALIZE.parallel().applyAll(new String[]{" A, B ", null}));
+    }
+
+    @Test
+    void testErrorPolicies() {
+        List<String> inputs = new ArrayList<>();
+        for (int i = 0; i < 5_000; i++) inputs.add(" v" + i + " ");
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelPipeline parallel = FLAKY.parallel().withPool(pool);
+            List<String> skipped = parallel.withErrorPolicy(ErrorPolicy.SKIP).applyAll(inputs);
+            List<String> kept = parallel.withErrorPolicy(ErrorPolicy.KEEP_ORIGINAL).applyAll(inputs);
+            List<String> expectedSkipped = new ArrayList<>();
+            for (int i = 0; i < inputs.size(); i++) {
+                String input = inputs.get(i);
+                boolean fails = input.contains("13");
+                if (!fails) expectedSkipped.add(input.trim().toUpperCase());
+                assertEquals(fails ? input : input.trim().toUpperCase(), kept.get(i));
+            }
+            assertEquals(expectedSkipped, skipped);
+
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> parallel.withErrorPolicy(ErrorPolicy.FAIL_FAST).applyAll(inputs));
+            assertTrue(e.getMessage().startsWith("unlucky"));
+        } finally {
+            pool.shutdown();
+        }
+        assertThrows(IllegalStateException.class, () -> FLAKY.parallel().applyAll(new String[]{"13"}));
+    }
+
+    @Test
+    void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelPipeline.of(null));
+        assertThrows(IllegalArgumentException.class, () -> NORMALIZE.parallel().withPool(null));
+        assertThrows(IllegalArgumentException.class, () -> NORMALIZE.parallel().withErrorPolicy(null));
+        assertThrows(IllegalArgumentException.class, () -> NORMALIZE.parallel().withThreshold(-1));
+    }
+}
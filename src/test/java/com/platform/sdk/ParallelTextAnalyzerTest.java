@@ -0,0 +1,99 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.ParallelTextAnalyzer;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelTextAnalyzerTest {
+
+    private static final String[] TOKENS = {
+            "foo", "Foo", "bar", "BAZ", "ooo", "é", "Über", "über", "aaaa", "a", "\n", "  ", "\t", " "
+    };
+    private static final String[] PATTERNS = {
+            "\\w+", "a*", "\\bfoo\\b", "o{2,}", "(?m)^\\w", "$", "aa|a", "[a-z]+\\s+[a-z]+", "(?<=o)o", "(?s).{5000}"
+    };
+
+    private static ForkJoinPool pool;
+    private static String text;
+
+    @BeforeAll
+    static void setUp() {
+        pool = new ForkJoinPool(4);
+        Random random = new Random(42);
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 300_000) {
+            sb.append(TOKENS[random.nextInt(TOKENS.length)]);
+            if (random.nextBoolean()) sb.append(' ');
+        }
+        text = sb.toString();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        pool.shutdown();
+    }
+
+    private static ParallelTextAnalyzer analyzer(String value) {
+        return ParallelTextAnalyzer.of(value).withPool(pool).withThreshold(0);
+    }
+
+    @Test
+    void testFrequenciesMatchSequential() {
+        FluentString fs = FluentString.of(text);
+        ParallelTextAnalyzer parallel = analyzer(text);
+
+        assertEquals(fs.wordCount(), parallel.wordCount());
+        assertEquals(fs.getCharFrequencyCaseSensitive(), parallel.charFrequency().toMap());
+        assertEquals(fs.getCharFrequencyIgnoreCase(), parallel.charFrequencyIgnoreCase().toMap());
+        assertEquals(fs.getWordFrequencyCaseSensitive(), parallel.wordFrequency().toMap());
+        assertEquals(fs.getWordFrequencyIgnoreCase(), parallel.wordFrequencyIgnoreCase().toMap());
+        // first-occurrence order survives the merge
+        assertEquals(fs.wordFrequency().topN(20), parallel.wordFrequency().topN(20));
+    }
+
+    @Test
+    void testCountsMatchSequential() {
+        FluentString fs = FluentString.of(text);
+        ParallelTextAnalyzer parallel = analyzer(text);
+
+        for (String substring : new String[]{"o", "oo", "ooo", "aaa", "foo Foo", " "}) {
+            assertEquals(fs.countOccurrences(substring), parallel.countOccurrences(substring), substring);
+        }
+        for (String regex : PATTERNS) {
+            assertEquals(fs.countMatches(regex), parallel.countMatches(regex), regex);
+        }
+    }
+
+    @Test
+    void testMatchesSpanningEveryCut() {
+        String run = new String(new char[200_000]).replace('\0', 'a');
+        ParallelTextAnalyzer parallel = analyzer(run);
+
+        assertEquals(FluentString.of(run).countOccurrences("aaa"), parallel.countOccurrences("aaa"));
+        assertEquals(1, parallel.countMatches("a+"));
+        assertEquals(2, parallel.countMatches("a*"));
+    }
+
+    @Test
+    void testSmallInputsStaySequential() {
+        ParallelTextAnalyzer parallel = FluentString.of("one two two").parallel();
+        assertEquals(3, parallel.wordCount());
+        assertEquals(2, parallel.wordFrequency().get("two"));
+        assertEquals(0, ParallelTextAnalyzer.of("").wordFrequency().distinct());
+        assertEquals(2, FluentStringStream.of("a-b-c").parallel().countOccurrences("-"));
+    }
+
+    @Test
+    void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> ParallelTextAnalyzer.of("x").withThreshold(-1));
+        assertThrows(IllegalArgumentException.class, () -> ParallelTextAnalyzer.of("x").withPool(null));
+    }
+}
@@ -0,0 +1,130 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.StringShape;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineFusionTest {
+
+    private static final List<UnaryOperator<FluentStringStream>> STEPS = new ArrayList<>();
+
+    static {
+        STEPS.add(FluentStringStream::trim);
+        STEPS.add(FluentStringStream::toLowerCase);
+        STEPS.add(FluentStringStream::toUpperCase);
+        STEPS.add(FluentStringStream::clean);
+        STEPS.add(FluentStringStream::removeDigits);
+        STEPS.add(FluentStringStream::removePunctuation);
+        STEPS.add(FluentStringStream::removeWhitespace);
+        STEPS.add(FluentStringStream::removeSpecialChars);
+        STEPS.add(FluentStringStream::normalize);
+        STEPS.add(FluentStringStream::stripAccents);
+        STEPS.add(FluentStringStream::toSlug);
+        STEPS.add(FluentStringStream::capitalizeWords);
+        STEPS.add(s -> s.keepOnly("aeiou -"));
+        STEPS.add(s -> s.replace(" ", "_"));
+        STEPS.add(s -> s.replace("ab", "X"));
+        STEPS.add(s -> s.append("!"));
+        STEPS.add(s -> s.prepend("> "));
+        STEPS.add(s -> s.wrap("--"));
+        STEPS.add(s -> s.withPrefix("id:"));
+        STEPS.add(s -> s.withSuffix(" "));
+        STEPS.add(s -> s.padLeft(12, '*'));
+        STEPS.add(s -> s.padRight(14, '.'));
+        STEPS.add(s -> s.center(18, '='));
+        STEPS.add(s -> s.indent(2));
+        STEPS.add(s -> s.truncate(10, "..."));
+        STEPS.add(s -> s.map(v -> v + "É"));
+    }
+
+    private static final String[] INPUTS = {"", "   ", "  Hello, World 42!  ", "ab ab\tab", "Crème Brûlée à Москва",
+            "id:already", "ΟΔΥΣΣΕΥΣ straße", "x", " line\none ", "abcdefghijklmnopqrstuvwxyz"};
+
+    private static String run(String input, int[] chain, boolean fusion) {
+        FluentStringStream stream = FluentStringStream.of(input).withFusion(fusion);
+        for (int step : chain) {
+            stream = STEPS.get(step).apply(stream);
+        }
+        return stream.collect();
+    }
+
+    @Test
+    void testFusedChainsMatchStepByStep() {
+        Random random = new Random(14);
+        for (int n = 0; n < 20_000; n++) {
+            int[] chain = new int[1 + random.nextInt(10)];
+            for (int i = 0; i < chain.length; i++) chain[i] = random.nextInt(STEPS.size());
+            String input = INPUTS[random.nextInt(INPUTS.length)];
+            assertEquals(run(input, chain, false), run(input, chain, true), () -> input + " " + Arrays.toString(chain));
+        }
+    }
+
+    @Test
+    void testLongSourcesFuseOnlyWhenAsked() {
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < 4096) sb.append(" Hello, World 42! ");
+        String input = sb.toString();
+        String expected = FluentStringStream.of(input)
+                .trim().removeDigits().removePunctuation().toLowerCase().wrap("|").collect();
+        assertEquals(expected, FluentStringStream.of(input).withFusion(true)
+                .trim().removeDigits().removePunctuation().toLowerCase().wrap("|").collect());
+        assertTrue(expected.startsWith("|hello world   hello world"));
+    }
+
+    @Test
+    void testLongChainResults() {
+        String slug = FluentStringStream.of("Java  String  Stream     API 2025!!")
+                .trim().removeDigits().removePunctuation().toLowerCase().toSlug().withSuffix("-clean").collect();
+        assertEquals("java-string-stream-api-clean", slug);
+
+        String framed = FluentStringStream.of("  Report  ").trim().toUpperCase().wrap("|").padLeft(12, ' ').collect();
+        assertEquals("    |REPORT|", framed);
+    }
+
+    @Test
+    void testRedundantStepsAreDropped() {
+        long skipped = StringShape.skippedOperations();
+        String result = FluentStringStream.of(" Mixed CASE, text ")
+                .toLowerCase().toLowerCase().clean().trim().toSlug().toLowerCase().normalize().collect();
+        assertEquals("mixed-case-text", result);
+        assertEquals(4, StringShape.skippedOperations() - skipped);
+    }
+
+    @Test
+    void testNonAsciiCaseMappingFallsBack() {
+        assertEquals("ÉTÉ!", FluentStringStream.of(" été ").trim().toUpperCase().append("!").collect());
+        assertEquals("STRASSE", FluentStringStream.of("straße").toUpperCase().removeWhitespace().collect());
+
+        Locale saved = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            String expected = " TITLE ".trim().toLowerCase();
+            assertEquals(expected, FluentStringStream.of(" TITLE ").trim().toLowerCase().collect());
+        } finally {
+            Locale.setDefault(saved);
+        }
+    }
+
+    @Test
+    void testUnchangedValueIsReturnedAsIs() {
+        String value = "already clean";
+        assertSame(value, FluentStringStream.of(value).trim().removeDigits().toLowerCase().collect());
+    }
+
+    @Test
+    void testStepsAppendedAfterCollectAreCompiled() {
+        FluentStringStream stream = FluentStringStream.of(" a1 ").trim();
+        assertEquals("a1", stream.collect());
+        stream.removeDigits().toUpperCase();
+        assertEquals("A", stream.collect());
+    }
+}
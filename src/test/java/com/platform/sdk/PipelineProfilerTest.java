@@ -0,0 +1,104 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.stream.FluentPipeline;
+import com.platform.sdk.string.stream.FluentStringStream;
+import com.platform.sdk.string.stream.PipelineProfiler;
+import com.platform.sdk.string.stream.ProfileSnapshot;
+import com.platform.sdk.string.stream.ProfileSnapshot.StepProfile;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineProfilerTest {
+
+    @Test
+    void testNamesAndLengths() {
+        PipelineProfiler profiler = PipelineProfiler.create();
+        String result = FluentStringStream.of("  Hello World  ").withProfiler(profiler)
+                .trim().toUpperCase().map(s -> s + "!").label("exclaim").toSlug().collect();
+        assertEquals("hello-world", result);
+
+        List<StepProfile> steps = profiler.snapshot().steps();
+        assertEquals(4, steps.size());
+        assertEquals("trim", steps.get(0).name());
+        assertEquals("toUpperCase", steps.get(1).name());
+        assertEquals("exclaim", steps.get(2).name());
+        assertEquals("toSlug", steps.get(3).name());
+        assertEquals(15, steps.get(0).inputChars());
+        assertEquals(11, steps.get(0).outputChars());
+        assertEquals(12, steps.get(3).inputChars());
+        for (StepProfile step : steps) {
+            assertEquals(1, step.invocations());
+            assertTrue(step.p50Nanos() <= step.p99Nanos() && step.p99Nanos() <= step.maxNanos());
+            assertEquals(PipelineProfiler.measuresAllocations(), step.allocatedBytes() >= 0);
+        }
+    }
+
+    @Test
+    void testSlowStepAndPercentiles() {
+        PipelineProfiler profiler = PipelineProfiler.create();
+        FluentPipeline pipeline = FluentPipeline.define(s -> s.withProfiler(profiler)
+                .trim()
+                .map(v -> {
+                    LockSupport.parkNanos(200_000);
+                    return v;
+                }).label("lookup")
+                .toLowerCase());
+        for (int i = 0; i < 50; i++) {
+            assertEquals("abc", pipeline.apply(" ABC "));
+        }
+        ProfileSnapshot snapshot = profiler.snapshot();
+        StepProfile lookup = snapshot.step(1, "lookup");
+        assertEquals(50, lookup.invocations());
+        assertSame(lookup, snapshot.slowest());
+        assertTrue(lookup.p50Nanos() >= 150_000, lookup.toString());
+        assertTrue(snapshot.toString().contains("lookup"));
+
+        profiler.reset();
+        assertTrue(profiler.snapshot().steps().isEmpty());
+    }
+
+    @Test
+    void testAllocationsAreAttributedToTheAllocatingStep() {
+        if (!PipelineProfiler.measuresAllocations()) return;
+        PipelineProfiler profiler = PipelineProfiler.create();
+        StringBuilder big = new StringBuilder();
+        for (int i = 0; i < 10_000; i++) big.append('x');
+        FluentStringStream.of(big.toString()).withProfiler(profiler).map(s -> s).label("identity").append("!").collect();
+        ProfileSnapshot snapshot = profiler.snapshot();
+        assertTrue(snapshot.step(0, "identity").allocatedBytes() < 1_000);
+        assertTrue(snapshot.step(1, "append").allocatedBytes() >= 10_000);
+    }
+
+    @Test
+    void testListener() {
+        List<String> events = new ArrayList<>();
+        PipelineProfiler profiler = PipelineProfiler.create()
+                .addListener((index, name, nanos, in, out, allocated) -> events.add(index + ":" + name + ":" + in + "->" + out));
+        FluentStringStream stream = FluentStringStream.of("ab").withProfiler(profiler).reverse().append("c");
+        stream.collect();
+        stream.collect();
+        stream.prepend("_").collect();
+        assertEquals(Arrays.asList("0:reverse:2->2", "1:append:2->3", "2:prepend:3->4"), events);
+    }
+
+    @Test
+    void testStepsAddedBeforeProfilerAreNumbered() {
+        PipelineProfiler profiler = PipelineProfiler.create();
+        FluentStringStream.of("x").trim().withProfiler(profiler).toUpperCase().collect();
+        assertNotNull(profiler.snapshot().step(0, "step 1"));
+        assertNotNull(profiler.snapshot().step(1, "toUpperCase"));
+    }
+
+    @Test
+    void testRejectsInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> FluentStringStream.of("x").withProfiler(null));
+        assertThrows(IllegalStateException.class, () -> FluentStringStream.of("x").label("none"));
+        assertThrows(IllegalArgumentException.class, () -> PipelineProfiler.create().addListener(null));
+    }
+}
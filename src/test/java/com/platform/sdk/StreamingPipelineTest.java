@@ -0,0 +1,142 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.stream.FluentStringStream;
+import com.platform.sdk.string.stream.StreamingPipeline;
+import com.platform.sdk.string.stream.TextStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingPipelineTest {
+
+    private static final String[] WORDS = {"Alpha", "beta", "GAMMA", "café", "Über", "x2", "👍", "end."};
+
+    private static String text(int chars, long seed) {
+        Random random = new Random(seed);
+        StringBuilder sb = new StringBuilder();
+        while (sb.length() < chars) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+            int gap = random.nextInt(10);
+            sb.append(gap == 0 ? "\r\n" : gap == 1 ? "\n" : gap == 2 ? "  " : gap == 3 ? "\r" : " ");
+        }
+        return sb.toString();
+    }
+
+    private static String transfer(StreamingPipeline pipeline, String input) throws IOException {
+        StringWriter out = new StringWriter();
+        long written = pipeline.transfer(new StringReader(input), out);
+        assertEquals(out.toString().length(), written);
+        return out.toString();
+    }
+
+    @Test
+    void testLinesKeepTerminators() throws IOException {
+        StreamingPipeline trimUpper = StreamingPipeline.lines(s -> s.trim().toUpperCase()).withBufferSize(16);
+        assertEquals("A\r\nB C\n\rLAST", transfer(trimUpper, " a \r\n b c \n\r  last "));
+        assertEquals("X\n\n", transfer(trimUpper, "x\n\n"));
+        assertEquals("", transfer(trimUpper, ""));
+    }
+
+    @Test
+    void testLinesMatchWholeTextPerLine() throws IOException {
+        String input = text(5_000, 1);
+        StringBuilder expected = new StringBuilder();
+        int start = 0;
+        for (int i = 0; i <= input.length(); i++) {
+            boolean end = i == input.length();
+            if (!end && input.charAt(i) != '\n' && input.charAt(i) != '\r') continue;
+            if (end && start == i) break;
+            expected.append(FluentStringStream.of(input.substring(start, i)).trim().snakeCase().collect());
+            if (!end) {
+                int next = input.charAt(i) == '\r' && i + 1 < input.length() && input.charAt(i + 1) == '\n' ? i + 2 : i + 1;
+                expected.append(input, i, next);
+                i = next - 1;
+                start = next;
+            }
+        }
+        for (int size : new int[]{16, 17, 100, StreamingPipeline.DEFAULT_BUFFER_SIZE}) {
+            assertEquals(expected.toString(),
+                    transfer(StreamingPipeline.lines(s -> s.trim().snakeCase()).withBufferSize(size), input), "buffer " + size);
+        }
+    }
+
+    @Test
+    void testChunksMatchWholeText() throws IOException {
+        String input = text(20_000, 2);
+        String expected = FluentStringStream.of(input).toLowerCase().removeDigits().replace("a", "4").collect();
+        for (int size : new int[]{16, 31, 1_000, StreamingPipeline.DEFAULT_BUFFER_SIZE}) {
+            StreamingPipeline pipeline = StreamingPipeline.chunks(s -> s.toLowerCase().removeDigits().replace("a", "4"))
+                    .withBufferSize(size);
+            assertEquals(expected, transfer(pipeline, input), "buffer " + size);
+        }
+    }
+
+    @Test
+    void testChunksRejectNonCharwiseSteps() {
+        assertThrows(IllegalArgumentException.class, () -> StreamingPipeline.chunks(s -> s.toLowerCase().trim()));
+        assertThrows(IllegalArgumentException.class, () -> StreamingPipeline.chunks(s -> s.map(v -> v)));
+        assertThrows(IllegalArgumentException.class, () -> StreamingPipeline.chunks(s -> s.replace("ab", "c")));
+        assertThrows(IllegalArgumentException.class, () -> StreamingPipeline.lines(null));
+        assertThrows(IllegalArgumentException.class, () -> StreamingPipeline.lines(s -> s).withBufferSize(4));
+    }
+
+    @Test
+    void testStatsMatchWholeText() throws IOException {
+        String input = text(30_000, 3);
+        FluentStringStream whole = FluentStringStream.of(input).removePunctuation();
+        TextStats stats = StreamingPipeline.chunks(s -> s.removePunctuation()).withBufferSize(64).stats(new StringReader(input));
+        assertEquals(whole.collect().length(), stats.length());
+        assertEquals(whole.wordCount(), stats.wordCount());
+        assertEquals(whole.getWordFrequencyIgnoreCase(), stats.getWordFrequencyIgnoreCase());
+        assertEquals(whole.getCharFrequencyCaseSensitive(), stats.charFrequency().toMap());
+        assertEquals(whole.charFrequency().get('\n') + 1L, stats.lineCount());
+    }
+
+    @Test
+    void testStatsJoinWordsAcrossChunksWhenStepsRemoveSeparators() throws IOException {
+        // the chunk is cut after "bb ", which removeWhitespace() turns into one word with the next chunk
+        String input = "aaaaaaaaaaaa bb cccccccccccccccc\ndd";
+        FluentStringStream whole = FluentStringStream.of(input).removeWhitespace();
+        TextStats stats = StreamingPipeline.chunks(s -> s.removeWhitespace()).withBufferSize(16).stats(new StringReader(input));
+        assertEquals(1, whole.wordCount());
+        assertEquals(whole.wordCount(), stats.wordCount());
+        assertEquals(whole.getWordFrequencyIgnoreCase(), stats.getWordFrequencyIgnoreCase());
+        assertEquals(whole.collect().length(), stats.length());
+
+        String lines = text(5_000, 4);
+        FluentStringStream joined = FluentStringStream.of(lines).removeSpecialChars();
+        TextStats special = StreamingPipeline.chunks(s -> s.removeSpecialChars()).withBufferSize(32).stats(new StringReader(lines));
+        assertEquals(joined.wordCount(), special.wordCount());
+        assertEquals(joined.getWordFrequencyIgnoreCase(), special.getWordFrequencyIgnoreCase());
+    }
+
+    @Test
+    void testLineStatsCountJoinedLines() throws IOException {
+        TextStats stats = StreamingPipeline.lines(s -> s.trim()).withBufferSize(16)
+                .stats(new StringReader(" The cat \r\n the DOG\n\n"));
+        assertEquals(3, stats.lineCount());
+        assertEquals(4, stats.wordCount());
+        assertEquals(Integer.valueOf(2), stats.getWordFrequencyIgnoreCase().get("the"));
+        assertEquals("The cat\nthe DOG\n".length(), stats.length());
+        assertEquals(0, StreamingPipeline.lines(s -> s).stats(new StringReader("")).lineCount());
+    }
+
+    @Test
+    void testFiles(@TempDir Path dir) throws IOException {
+        Path in = dir.resolve("in.txt");
+        Path out = dir.resolve("out.txt");
+        Files.write(in, "  Crème brûlée \n  Über  \n".getBytes(StandardCharsets.UTF_8));
+        StreamingPipeline.lines(s -> s.trim().stripAccents().toUpperCase()).transfer(in, out);
+        assertEquals("CREME BRULEE\nUBER\n", new String(Files.readAllBytes(out), StandardCharsets.UTF_8));
+        assertEquals(3, StreamingPipeline.lines(s -> s).stats(out).wordCount());
+    }
+}
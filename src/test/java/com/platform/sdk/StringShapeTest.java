@@ -0,0 +1,111 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.StringShape;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringShapeTest {
+
+    private static String plain(String value) {
+        String lower = Normalizer.normalize(value.trim().toLowerCase(), Normalizer.Form.NFC);
+        return Normalizer.normalize(lower, Normalizer.Form.NFD).replaceAll("\\p{InCombiningDiacriticalMarks}+", "").toLowerCase();
+    }
+
+    @Test
+    void testNormalizationChainSkipsStepsAfterFirstScan() {
+        FluentString lower = FluentString.of("  Hello World  ").trim().toLowerCase();
+        long skipped = StringShape.skippedOperations();
+        FluentString result = lower.normalize().stripAccents().toLowerCase().trim();
+        assertSame(lower, result);
+        assertEquals("hello world", result.get());
+        assertTrue(StringShape.skippedOperations() - skipped >= 4);
+    }
+
+    @Test
+    void testChainsMatchPlainOperations() {
+        String[] inputs = {"  Hello World  ", " Crème Brûlée ", "ΟΔΥΣΣΕΥΣ", "Kelvin", "été", "", "   ",
+                "İstanbul", "straße", "\u0001x\u0001"};
+        for (String input : inputs) {
+            String expected = plain(input);
+            assertEquals(expected, FluentString.of(input).trim().toLowerCase().normalize().stripAccents().toLowerCase().get(), input);
+            assertEquals(expected, FluentStringStream.of(input).trim().toLowerCase().normalize().stripAccents().toLowerCase().collect(), input);
+            assertEquals(input.trim().toUpperCase().trim(), FluentString.of(input).trim().toUpperCase().trim().get(), input);
+            assertEquals(input.toUpperCase().toLowerCase(), FluentStringStream.of(input).toUpperCase().toLowerCase().collect(), input);
+        }
+    }
+
+    @Test
+    void testCaseMappingLearnsFactFromItsResult() {
+        long scans = StringShape.scans();
+        FluentString lower = FluentString.of("crème brûlée");
+        assertSame(lower, lower.toLowerCase());
+        FluentString upper = FluentString.of("Crème").toUpperCase();
+        assertEquals("CRÈME", upper.get());
+        assertEquals(scans, StringShape.scans());
+
+        long skipped = StringShape.skippedOperations();
+        assertSame(lower, lower.toLowerCase());
+        assertSame(upper, upper.toUpperCase());
+        assertEquals(2, StringShape.skippedOperations() - skipped);
+        assertEquals("crème", FluentStringStream.of("crème").toLowerCase().toLowerCase().collect());
+    }
+
+    @Test
+    void testStreamSkipsTrimAfterClean() {
+        long skipped = StringShape.skippedOperations();
+        String result = FluentStringStream.of(" Hello, World! ").clean().trim().normalize().stripAccents().collect();
+        assertEquals("Hello World", result);
+        assertEquals(3, StringShape.skippedOperations() - skipped);
+    }
+
+    @Test
+    void testOpaqueStepForgetsShape() {
+        String result = FluentStringStream.of("abc").toLowerCase().map(s -> s + " É ").toLowerCase().trim().collect();
+        assertEquals("abc é", result);
+    }
+
+    @Test
+    void testShapePredicates() {
+        FluentString ascii = FluentString.of("Plain text");
+        assertTrue(ascii.isAscii());
+        assertTrue(ascii.isTrimmed());
+        assertTrue(ascii.isNfc());
+        assertFalse(ascii.isLowerCase());
+        assertFalse(ascii.isUpperCase());
+
+        FluentString decomposed = FluentString.of(" é ");
+        assertFalse(decomposed.isAscii());
+        assertFalse(decomposed.isTrimmed());
+        assertFalse(decomposed.isNfc());
+        assertTrue(decomposed.normalize().isNfc());
+        assertTrue(FluentString.of("ÉTÉ").isUpperCase());
+        assertFalse(FluentString.of("").isLowerCase());
+    }
+
+    @Test
+    void testNormalizeCanProduceAscii() {
+        FluentString kelvin = FluentString.of("K").normalize();
+        assertEquals("K", kelvin.get());
+        assertTrue(kelvin.isAscii());
+    }
+
+    @Test
+    void testTurkishLowerCaseIsNotAssumedAscii() {
+        Locale saved = Locale.getDefault();
+        try {
+            Locale.setDefault(new Locale("tr", "TR"));
+            FluentString lower = FluentString.of("TITLE").toLowerCase();
+            assertFalse(lower.isAscii());
+            assertEquals("t\u0131tle", lower.stripAccents().get());
+            assertEquals("TITLE".toLowerCase(), FluentStringStream.of("TITLE").toLowerCase().stripAccents().collect());
+        } finally {
+            Locale.setDefault(saved);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.StringSlice;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StringSliceTest {
+
+    @AfterEach
+    void tearDown() {
+        StringSlice.setRetainRatio(StringSlice.DEFAULT_RETAIN_RATIO);
+    }
+
+    @Test
+    void testSubstringAndTrimViews() {
+        FluentString fs = FluentString.of("  key=value  ");
+        StringSlice trimmed = fs.trimView();
+
+        assertEquals("key=value", trimmed.toString());
+        assertEquals(2, trimmed.offset());
+        assertEquals("value", trimmed.subSequence(4).toString());
+        assertEquals("key", fs.substringView(2, 5).toString());
+        assertEquals(fs.trim().get(), fs.trimView().toString());
+    }
+
+    @Test
+    void testSplitViewsMatchSplit() {
+        String[] samples = {"a,b,,c,,", ",a,b", "", "abc", "a1b22c333"};
+        String[] regexes = {",", "\\d+", "", "(?=b)"};
+        for (String sample : samples) {
+            for (String regex : regexes) {
+                FluentString fs = FluentString.of(sample);
+                List<String> expected = fs.split(regex).stream().map(FluentString::get).collect(Collectors.toList());
+                List<String> actual = fs.splitViews(regex).stream().map(StringSlice::toString).collect(Collectors.toList());
+                assertEquals(expected, actual, "split(\"" + regex + "\") of \"" + sample + "\"");
+            }
+        }
+    }
+
+    @Test
+    void testWordAndLineViews() {
+        FluentString fs = FluentString.of("  alpha beta\tgamma \n delta");
+        assertEquals(4, fs.wordViews().size());
+        assertEquals("gamma", fs.wordViews().get(2).toString());
+
+        List<StringSlice> lines = FluentString.of("one\r\ntwo\nthree").lineViews();
+        assertEquals(3, lines.size());
+        assertEquals("two", lines.get(1).toString());
+    }
+
+    @Test
+    void testRetainCopiesSmallSlices() {
+        String payload = "header:" + new String(new char[1000]).replace('\0', 'x');
+        StringSlice header = FluentString.of(payload).substringView(0, 6);
+
+        assertEquals(payload.length(), header.parentLength());
+        StringSlice retained = header.retain();
+        assertEquals("header", retained.toString());
+        assertEquals(6, retained.parentLength());
+
+        StringSlice.setRetainRatio(0.0);
+        assertSame(header, header.retain());
+    }
+
+    @Test
+    void testEqualityAndCharSequence() {
+        StringSlice a = StringSlice.of("xxabcxx", 2, 5);
+        StringSlice b = StringSlice.of("abc");
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), "abc".hashCode());
+        assertTrue(a.contentEquals("abc"));
+        assertEquals('b', a.charAt(1));
+        assertEquals("abc", a.toFluentString().get());
+        assertThrows(StringIndexOutOfBoundsException.class, () -> a.charAt(3));
+    }
+}
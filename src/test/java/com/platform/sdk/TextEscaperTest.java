@@ -0,0 +1,96 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.TextEscaper;
+import com.platform.sdk.string.TextUnescaper;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.apache.commons.text.StringEscapeUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TextEscaperTest {
+
+    private static final String[] SAMPLES = {
+            "", "plain ascii", "<a href=\"x\">Tom & Jerry's</a>", "café naïve © ® ½ ÿ", "Ωmega ≤ ∞ € ♦ ‰ “quoted”",
+            "tab\tnew\nline\r", "\u0000nul\u0001\u0008\u000b\u000c\u000e\u001f\u007f\u0084\u0085\u0086\u009f",
+            "￾￿", "pair 😀 lone \uD83D and \uDE00 end\uD83D", "&lt;&amp;lt;&gt;&quot;&apos;&nbsp;&eacute;&hearts;",
+            "&#65;&#x42;&#X43;&#x1F600;&#;&#x;&#12a;&#65&#xZ;&", "&unknown; &amp &thetasym; &Alpha;&alpha;",
+            "&#99999999999; &#"
+    };
+
+    @Test
+    void testMatchesCommonsText() {
+        for (String sample : SAMPLES) {
+            assertEquals(StringEscapeUtils.escapeHtml4(sample), TextEscaper.HTML4.escape(sample), sample);
+            assertEquals(StringEscapeUtils.escapeXml11(sample), TextEscaper.XML11.escape(sample), sample);
+            assertEquals(StringEscapeUtils.unescapeHtml4(sample), TextUnescaper.HTML4.unescape(sample), sample);
+            assertEquals(StringEscapeUtils.unescapeXml(sample), TextUnescaper.XML.unescape(sample), sample);
+        }
+    }
+
+    @Test
+    void testMatchesCommonsTextOnRandomInput() {
+        Random random = new Random(1);
+        String alphabet = "ab <>&\"';#x0123456789ltgampquotnbspé€\u0001\u000b\u0085😀￾";
+        for (int n = 0; n < 2_000; n++) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = random.nextInt(24); i > 0; i--) {
+                sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+            }
+            String sample = sb.toString();
+            assertEquals(StringEscapeUtils.escapeHtml4(sample), TextEscaper.HTML4.escape(sample), sample);
+            assertEquals(StringEscapeUtils.escapeXml11(sample), TextEscaper.XML11.escape(sample), sample);
+            assertEquals(StringEscapeUtils.unescapeHtml4(sample), TextUnescaper.HTML4.unescape(sample), sample);
+            assertEquals(StringEscapeUtils.unescapeXml(sample), TextUnescaper.XML.unescape(sample), sample);
+        }
+    }
+
+    @Test
+    void testEveryHtmlEntityRoundTrips() {
+        for (char c = 0; c < 0x3000; c++) {
+            String value = String.valueOf(c);
+            if (Character.isSurrogate(c)) continue;
+            assertEquals(StringEscapeUtils.escapeHtml4(value), TextEscaper.HTML4.escape(value));
+            assertEquals(value, TextUnescaper.HTML4.unescape(TextEscaper.HTML4.escape(value)));
+        }
+    }
+
+    @Test
+    void testOutOfRangeReferenceIsKept() {
+        // commons-text throws IllegalArgumentException here
+        assertEquals("&#1114112; &#x110000;", TextUnescaper.HTML4.unescape("&#1114112; &#x110000;"));
+    }
+
+    @Test
+    void testJson() {
+        assertEquals("say \\\"hi\\\"\\n\\tC:\\\\temp \\u0001 é/", TextEscaper.JSON.escape("say \"hi\"\n\tC:\\temp \u0001 é/"));
+        assertEquals("\\b\\f\\r\\u001f", TextEscaper.JSON.escape("\b\f\r\u001f"));
+    }
+
+    @Test
+    void testUnchangedInputIsReturnedAsIs() {
+        String clean = "nothing to escape here";
+        assertSame(clean, TextEscaper.HTML4.escape(clean));
+        assertSame(clean, TextEscaper.XML11.escape(clean));
+        assertSame(clean, TextEscaper.JSON.escape(clean));
+        assertSame(clean, TextUnescaper.HTML4.unescape(clean));
+
+        FluentString fs = FluentString.of(clean);
+        assertSame(fs, fs.escapeHtml());
+        assertSame(fs, fs.escapeXml().escapeJson().unescapeXml().unescapeHtml());
+    }
+
+    @Test
+    void testStreamMirrorsFluentString() {
+        String text = "<p class='x'>Fish & Chips – £5</p>";
+        FluentString fs = FluentString.of(text);
+        assertEquals(fs.escapeHtml().get(), FluentStringStream.of(text).escapeHtml().collect());
+        assertEquals(fs.escapeXml().get(), FluentStringStream.of(text).escapeXml().collect());
+        assertEquals(fs.escapeJson().get(), FluentStringStream.of(text).escapeJson().collect());
+        assertEquals(text, FluentStringStream.of(text).escapeHtml().unescapeHtml().collect());
+        assertEquals(text, FluentStringStream.of(text).escapeXml().unescapeXml().collect());
+    }
+}
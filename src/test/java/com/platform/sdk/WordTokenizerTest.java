@@ -0,0 +1,80 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.WordOperations;
+import com.platform.sdk.string.WordTokenizer;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WordTokenizerTest {
+
+    @Test
+    void testCountAndSpans() {
+        String text = "  one\ttwo three\n ";
+        assertEquals(3, WordTokenizer.count(text));
+        assertEquals(0, WordTokenizer.count("   "));
+
+        List<Integer> spans = new ArrayList<>();
+        WordTokenizer.forEach(text, (start, end) -> {
+            spans.add(start);
+            spans.add(end);
+        });
+        assertEquals(Arrays.asList(2, 5, 6, 9, 10, 15), spans);
+    }
+
+    @Test
+    void testCursor() {
+        WordTokenizer.Cursor cursor = WordTokenizer.cursor("a bb  ccc");
+        List<String> words = new ArrayList<>();
+        while (cursor.next()) words.add(cursor.word());
+        assertEquals(Arrays.asList("a", "bb", "ccc"), words);
+        assertFalse(cursor.next());
+
+        cursor.reset();
+        assertTrue(cursor.next());
+        assertEquals(0, cursor.start());
+        assertEquals(1, cursor.end());
+    }
+
+    @Test
+    void testNoBreakSpaceSeparatesWords() {
+        FluentString fs = FluentString.of("hello world");
+        assertEquals(2, fs.wordCount());
+        assertEquals("Hello World", fs.capitalizeWords().get());
+        assertEquals("world hello", fs.reverseWords().get());
+        assertEquals("HW", fs.getInitials().get());
+    }
+
+    @Test
+    void testBlankInputHasNoWords() {
+        assertEquals(Collections.emptyList(), FluentString.of("   ").words());
+        assertTrue(FluentString.of("").getWordFrequencyCaseSensitive().isEmpty());
+        assertEquals(0, FluentString.of("").wordCount());
+    }
+
+    @Test
+    void testUnchangedResultKeepsInstance() {
+        String value = "Already Capitalized";
+        assertSame(value, WordOperations.capitalizeWords(value));
+        assertSame(value, WordOperations.truncateWords(value, 5));
+        assertSame(value, WordOperations.removeDuplicateWords(value));
+    }
+
+    @Test
+    void testStreamMatchesFluentString() {
+        String text = " the quick  the\tlazy dog ";
+        FluentString fs = FluentString.of(text);
+        assertEquals(fs.wordCount(), FluentStringStream.of(text).wordCount());
+        assertEquals(fs.removeDuplicateWords().get(), FluentStringStream.of(text).removeDuplicateWords().collect());
+        assertEquals(fs.truncateWords(2).get(), FluentStringStream.of(text).truncateWords(2).collect());
+        assertEquals(fs.camelCase().get(), FluentStringStream.of(text).camelCase().collect());
+        assertEquals(fs.getWordFrequencyIgnoreCase(), FluentStringStream.of(text).getWordFrequencyIgnoreCase());
+    }
+}
@@ -0,0 +1,116 @@
+package com.platform.sdk;
+
+import com.platform.sdk.string.FluentString;
+import com.platform.sdk.string.XmlWellFormedness;
+import com.platform.sdk.string.stream.FluentStringStream;
+import org.junit.jupiter.api.Test;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXParseException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class XmlWellFormednessTest {
+
+    /** Documents without a DOCTYPE, where the scanner must agree with a DOM parser. */
+    private static final String[] DOCUMENTS = {
+            "<a/>", "<a></a>", "<a>text</a>", " <a/> ", "<a/>\n<!-- c -->\n<?pi x?>",
+            "<?xml version=\"1.0\"?><a/>", "<?xml version='1.1' encoding='UTF-8' standalone='yes'?><a/>",
+            "<?xml version=\"1.0\" encoding=\"ISO-8859-1\" ?>\n<a/>", "<?xml version=\"2.0\"?><a/>",
+            "<?xml encoding=\"UTF-8\"?><a/>", "<?xml version=\"1.0\" standalone=\"maybe\"?><a/>",
+            " <?xml version=\"1.0\"?><a/>", "<?xml-stylesheet href=\"s.xsl\"?><a/>", "<?XML x?><a/>",
+            "<a b=\"1\" c='2'/>", "<a b=\"1\" b=\"2\"/>", "<a b=\"1\"c=\"2\"/>", "<a b=1/>", "<a b=\"<\"/>",
+            "<a b=\"x &amp; y &#65; &#x42;\"/>", "<a b=\"&foo;\"/>", "<a>&lt;&gt;&amp;&apos;&quot;</a>",
+            "<a>&#0;</a>", "<a>&#x1F600;</a>", "<a>&#xD800;</a>", "<a>&#;</a>", "<a>&#x110000;</a>", "<a>&amp</a>",
+            "<a>& b</a>", "<a>a]]>b</a>", "<a>]]</a>", "<a><![CDATA[<b>]]></a>", "<a><![CDATA[x]]</a>",
+            "<a><!-- ok --></a>", "<a><!-- not -- ok --></a>", "<a><!-- x ---></a>", "<a><?pi?></a>",
+            "<a><?xml x?></a>", "<a><b><c/></b></a>", "<a><b></a></b>", "<a></A>", "<a></a >", "<a></ a>",
+            "<a>", "</a>", "<a/><b/>", "text<a/>", "<a/>text", "", "   ", "<", "<a", "<a b", "<a b=", "<a b=\"",
+            "<1a/>", "<-a/>", "<a.b-c_d:e/>", "<ä/>", "<a·/>", "<·a/>", "<a>\uD800</a>",
+            "<a>\u0001</a>", "<a>￾</a>", "<a>\t\r\n</a>", "<a>😀</a>", "<a:b xmlns:a=\"u\"/>",
+            "<a b\t=\n'1'/>", "<a><![CDATA[]]></a>", "<!-- c --><a/>", "<!-- c --", "<a/><!-- c -->x",
+            "<a> </a>", "<a/> ", "<?pi?>"
+    };
+
+    @Test
+    void testAgreesWithDomParser() throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        StringBuilder mismatches = new StringBuilder();
+        for (String document : DOCUMENTS) {
+            if (domAccepts(factory, document) != XmlWellFormedness.check(document)) mismatches.append(document).append('\n');
+        }
+        assertEquals("", mismatches.toString());
+    }
+
+    @Test
+    void testNamesFollowFifthEdition() {
+        // the JDK parser still applies the older, narrower name rules here
+        assertTrue(XmlWellFormedness.check("<\uD800\uDC00/>"));
+        assertFalse(XmlWellFormedness.check("<\uDB80\uDC00/>"));
+    }
+
+    @Test
+    void testDoctypes() {
+        assertTrue(XmlWellFormedness.check("<!DOCTYPE a><a/>"));
+        assertTrue(XmlWellFormedness.check("<!DOCTYPE a [<!ELEMENT a (#PCDATA)><!ATTLIST a b CDATA \"x>y\">]><a/>"));
+        assertTrue(XmlWellFormedness.check("<!DOCTYPE a [ <!-- c --> <?pi?> ] ><a/>"));
+        assertFalse(XmlWellFormedness.check("<!DOCTYPE a><!DOCTYPE a><a/>"));
+        assertFalse(XmlWellFormedness.check("<a/><!DOCTYPE a>"));
+        assertFalse(XmlWellFormedness.check("<!DOCTYPE a [<!ELEMENT a ANY>"));
+    }
+
+    @Test
+    void testRejectsExternalAndCustomEntities() {
+        assertFalse(XmlWellFormedness.check("<!DOCTYPE a SYSTEM \"file:///etc/passwd\"><a/>"));
+        assertFalse(XmlWellFormedness.check("<!DOCTYPE a PUBLIC \"-//x//y\" \"http://example.com/a.dtd\"><a/>"));
+        assertFalse(XmlWellFormedness.check("<!DOCTYPE a [<!ENTITY x SYSTEM \"file:///etc/passwd\">]><a>&x;</a>"));
+        assertFalse(XmlWellFormedness.check("<!DOCTYPE a [<!ENTITY x \"y\">]><a>&x;</a>"));
+        assertFalse(XmlWellFormedness.check("<!DOCTYPE a [<!ENTITY % p \"y\"> %p;]><a/>"));
+    }
+
+    @Test
+    void testDeepNestingDoesNotRecurse() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) sb.append("<e>");
+        for (int i = 0; i < 100_000; i++) sb.append("</e>");
+        assertTrue(XmlWellFormedness.check(sb.toString()));
+        assertFalse(XmlWellFormedness.check(sb.substring(4)));
+    }
+
+    @Test
+    void testFluentApis() {
+        assertTrue(FluentString.of("<root><item id=\"1\">x</item></root>").isXml());
+        assertFalse(FluentString.of("<root><item></root>").isXml());
+        assertTrue(FluentStringStream.of(" <root/> ").isXml());
+        assertFalse(FluentStringStream.of("not xml").isXml());
+        assertFalse(XmlWellFormedness.check(null));
+    }
+
+    private static boolean domAccepts(DocumentBuilderFactory factory, String document) throws Exception {
+        DocumentBuilder builder = factory.newDocumentBuilder();
+        builder.setErrorHandler(new ErrorHandler() {
+            @Override
+            public void warning(SAXParseException e) {
+            }
+
+            @Override
+            public void error(SAXParseException e) {
+            }
+
+            @Override
+            public void fatalError(SAXParseException e) throws SAXParseException {
+                throw e;
+            }
+        });
+        try {
+            builder.parse(new InputSource(new StringReader(document)));
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+}